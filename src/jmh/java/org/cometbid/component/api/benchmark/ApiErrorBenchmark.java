@@ -0,0 +1,155 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.benchmark;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.AppResponse;
+import org.cometbid.component.api.response.model.AppResponseMetadata;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.FieldError;
+
+/**
+ * Builds the error side of the response model: {@link ApiError#create},
+ * {@code addValidationErrors} for Spring field errors and Bean Validation
+ * constraint violations, and the enclosing {@link AppResponse}.
+ *
+ * @author samueladebowale
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ApiErrorBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int validationErrors;
+
+    private List<FieldError> fieldErrors;
+    private Set<ConstraintViolation<?>> constraintViolations;
+    private AppResponseMetadata metadata;
+    private Exception failure;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        LocaleContextUtils.setContextLocale(Locale.US);
+
+        fieldErrors = new ArrayList<>(validationErrors);
+        for (int i = 0; i < validationErrors; i++) {
+            fieldErrors.add(new FieldError("userRequest", "field" + i, "rejected-" + i,
+                    false, null, null, "must not be blank"));
+        }
+
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator validator = factory.getValidator();
+            constraintViolations = new HashSet<>(validator.validate(
+                    new BulkRequest(Collections.nCopies(validationErrors, " "))));
+        }
+
+        metadata = AppResponseMetadata.builder()
+                .apiVersion("v1")
+                .moreInfo("https://cometbid.org/docs/errors")
+                .apiDocUrl("https://cometbid.org/docs/api")
+                .build();
+
+        failure = new IllegalStateException("Resource cannot be found");
+    }
+
+    @Benchmark
+    public ApiError create() {
+        return newApiError();
+    }
+
+    @Benchmark
+    public ApiError createWithFieldErrors() {
+        ApiError apiError = newApiError();
+        apiError.addValidationErrors(fieldErrors);
+        return apiError;
+    }
+
+    @Benchmark
+    public ApiError createWithConstraintViolations() {
+        ApiError apiError = newApiError();
+        apiError.addValidationErrors(constraintViolations);
+        return apiError;
+    }
+
+    @Benchmark
+    public AppResponse appResponseError() {
+        return AppResponse.error(newApiError(), metadata);
+    }
+
+    @Benchmark
+    public AppResponse appResponseFromException() {
+        return new AppResponse("v1", "GET", ErrorCode.GENERIC_NOT_FOUND_ERR_CODE.getErrCode(),
+                HttpStatus.NOT_FOUND, "/api/v1/users/42", "https://cometbid.org/report",
+                "https://cometbid.org/docs/errors", failure);
+    }
+
+    private static ApiError newApiError() {
+        return ApiError.create("/api/v1/users", "POST", ErrorCode.CONSTRAINT_VIOLATION_ERR_CODE.getErrCode(),
+                HttpStatus.UNPROCESSABLE_ENTITY.name(), HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase(), "Some request data failed validation checks.");
+    }
+
+    public static class BulkRequest {
+
+        private final List<@NotBlank String> values;
+
+        BulkRequest(List<String> values) {
+            this.values = values;
+        }
+
+        public List<String> getValues() {
+            return values;
+        }
+    }
+}
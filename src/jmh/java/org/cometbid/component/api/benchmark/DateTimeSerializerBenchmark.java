@@ -0,0 +1,170 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.log4j.Log4j2;
+import org.cometbid.component.api.jackson.ZonedDateTimeSerializer;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.ApiResponse;
+import org.cometbid.component.api.response.model.AppResponse;
+import org.cometbid.component.api.response.model.AppResponseMetadata;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.cometbid.component.api.util.TimeZoneUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import static org.cometbid.component.api.util.TimeZoneUtils.*;
+
+/**
+ * Serialized error responses per second with the current
+ * {@link ZonedDateTimeSerializer} versus
+ * the previous implementation, which logged four INFO events per timestamp.
+ * The legacy logger writes to {@code target/jmh-datetime-legacy.log} (see
+ * {@code logback-test.xml}) so its cost is what an INFO-enabled service pays.
+ *
+ * @author samueladebowale
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DateTimeSerializerBenchmark {
+
+    @Param({"current", "legacy"})
+    public String serializer;
+
+    @Param({"UTC", "America/New_York"})
+    public String timezone;
+
+    private ObjectMapper mapper;
+    private AppResponse response;
+    private ZonedDateTime timestamp;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        LocaleContextUtils.setContextLocale(Locale.US);
+        TimeZoneUtils.setContextZoneId(timezone);
+
+        mapper = new ObjectMapper();
+        if ("legacy".equals(serializer)) {
+            mapper.addMixIn(ApiResponse.class, LegacyTimestampMixin.class);
+            mapper.addMixIn(TimestampHolder.class, LegacyTimestampMixin.class);
+        }
+
+        ApiError apiError = ApiError.create("/api/v1/users/42", "GET",
+                ErrorCode.GENERIC_NOT_FOUND_ERR_CODE.getErrCode(),
+                HttpStatus.NOT_FOUND.name(), HttpStatus.NOT_FOUND.value(),
+                HttpStatus.NOT_FOUND.getReasonPhrase(), "Resource cannot be found.");
+
+        response = AppResponse.error(apiError, AppResponseMetadata.builder().apiVersion("v1").build());
+        timestamp = apiError.getTimestamp();
+    }
+
+    @Benchmark
+    public byte[] serializeAppResponse() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] serializeTimestamp() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(new TimestampHolder(timestamp));
+    }
+
+    public static class TimestampHolder {
+
+        @JsonSerialize(using = ZonedDateTimeSerializer.class)
+        protected final ZonedDateTime timestamp;
+
+        TimestampHolder(ZonedDateTime timestamp) {
+            this.timestamp = timestamp;
+        }
+
+        public ZonedDateTime getTimestamp() {
+            return timestamp;
+        }
+    }
+
+    abstract static class LegacyTimestampMixin {
+
+        @JsonSerialize(using = LegacyZonedDateTimeSerializer.class)
+        protected ZonedDateTime timestamp;
+    }
+
+    /**
+     * Serializer as it was before the logging was removed from the hot path.
+     */
+    @Log4j2
+    public static class LegacyZonedDateTimeSerializer extends StdSerializer<ZonedDateTime> {
+
+        private static final long serialVersionUID = 1L;
+
+        public LegacyZonedDateTimeSerializer() {
+            super(ZonedDateTime.class);
+        }
+
+        @Override
+        public void serialize(ZonedDateTime utcValue, JsonGenerator gen, SerializerProvider provider) throws IOException {
+
+            log.info("ZoneDateTime from: {}", utcValue);
+
+            if (!Objects.isNull(utcValue)) {
+                ZoneId zoneId = getContextZoneId();
+                log.info("Zone id: {}", zoneId);
+
+                ZonedDateTime convertedValue = convert(utcValue, zoneId);
+                log.info("ZoneDateTime to: {}", utcValue);
+
+                String dateTimeOffset = UTC_DATE_FORMATTER.format(convertedValue);
+                log.info("ZoneDateTime offset: {}", dateTimeOffset);
+
+                gen.writeString(dateTimeOffset);
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.cometbid.component.api.jackson.ErrorResponseTemplates;
+import org.cometbid.component.api.jackson.ResponseModelModule;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.AppResponse;
+import org.cometbid.component.api.response.model.AppResponseMetadata;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.cometbid.component.api.util.ResourceBundleAccessor;
+import org.cometbid.component.api.util.TimeZoneUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+/**
+ * A 404 response body built the regular way ({@code ApiError} +
+ * {@code AppResponse} + Jackson) versus spliced from
+ * {@link ErrorResponseTemplates}.
+ *
+ * @author samueladebowale
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ErrorTemplateBenchmark {
+
+    private static final String PATH = "/api/v1/users/42";
+    private static final String REPORT_URI = "https://cometbid.org/report";
+    private static final String MORE_INFO = "https://cometbid.org/docs/errors";
+
+    private ObjectMapper mapper;
+    private ErrorResponseTemplates templates;
+    private ZoneId zoneId;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        LocaleContextUtils.setContextLocale(Locale.US);
+        zoneId = TimeZoneUtils.setContextZoneId("America/New_York");
+
+        mapper = new ObjectMapper().registerModule(new ResponseModelModule());
+        templates = new ErrorResponseTemplates(REPORT_URI, MORE_INFO, null);
+    }
+
+    @Benchmark
+    public byte[] objectGraph() throws JsonProcessingException {
+        HttpStatus status = HttpStatus.NOT_FOUND;
+        ApiError apiError = ApiError.create(PATH, "GET", ErrorCode.GENERIC_NOT_FOUND_ERR_CODE.getErrCode(),
+                status.name(), status.value(), status.getReasonPhrase(),
+                ResourceBundleAccessor.accessMessageInBundle(ErrorCode.GENERIC_NOT_FOUND_ERR_CODE, new Object[]{}));
+
+        return mapper.writeValueAsBytes(AppResponse.error(apiError, AppResponseMetadata.builder()
+                .apiVersion("v1")
+                .sendReport(REPORT_URI + "?id=" + apiError.getTraceId())
+                .moreInfo(MORE_INFO)
+                .build()));
+    }
+
+    @Benchmark
+    public byte[] template() {
+        return templates.render(ErrorCode.GENERIC_NOT_FOUND_ERR_CODE, HttpStatus.NOT_FOUND, Locale.US, "v1",
+                PATH, "GET", null, Instant.now().getEpochSecond(), zoneId);
+    }
+}
@@ -0,0 +1,248 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.benchmark;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.cometbid.component.api.auth.exceptions.ActivationTokenValidationException;
+import org.cometbid.component.api.auth.exceptions.AuthenticationError;
+import org.cometbid.component.api.auth.exceptions.BlockedProfileAttemptsLoginWarning;
+import org.cometbid.component.api.auth.exceptions.CustomConstraintViolationException;
+import org.cometbid.component.api.auth.exceptions.InvalidJwtTokenException;
+import org.cometbid.component.api.auth.exceptions.NewLocationTokenValidationException;
+import org.cometbid.component.api.auth.exceptions.PasswordNotAcceptableException;
+import org.cometbid.component.api.auth.exceptions.ResetPasswordTokenValidationException;
+import org.cometbid.component.api.auth.exceptions.SessionExpiredException;
+import org.cometbid.component.api.auth.exceptions.TooManyRequestException;
+import org.cometbid.component.api.auth.exceptions.UnauthenticatedUserException;
+import org.cometbid.component.api.employee.exceptions.EmployeeAlreadyExistException;
+import org.cometbid.component.api.employee.exceptions.EmployeeNotFoundException;
+import org.cometbid.component.api.generic.exceptions.ApiResponseException;
+import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
+import org.cometbid.component.api.generic.exceptions.ApplicationServiceException;
+import org.cometbid.component.api.generic.exceptions.BadRequestException;
+import org.cometbid.component.api.generic.exceptions.InvalidInputException;
+import org.cometbid.component.api.generic.exceptions.ResourceAlreadyExistException;
+import org.cometbid.component.api.generic.exceptions.ResourceNotFoundException;
+import org.cometbid.component.api.generic.exceptions.ServerTimeoutRequestException;
+import org.cometbid.component.api.generic.exceptions.ServiceUnavailableException;
+import org.cometbid.component.api.generic.exceptions.UnexpectedResultException;
+import org.cometbid.component.api.generic.exceptions.UnusualLocationException;
+import org.cometbid.component.api.payment.exceptions.InsufficientFundException;
+import org.cometbid.component.api.user.exceptions.UserAlreadyExistException;
+import org.cometbid.component.api.user.exceptions.UserHasNoAttributesException;
+import org.cometbid.component.api.user.exceptions.UserProfileDisabledException;
+import org.cometbid.component.api.user.exceptions.UserProfileExpiredException;
+import org.cometbid.component.api.user.exceptions.UserProfileLockedException;
+import org.cometbid.component.api.user.exceptions.UserProfileUnverifiedException;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Construction cost of every exception under {@code api.*.exceptions}, with
+ * the default message key of each class resolved for the thread's locale.
+ *
+ * @author samueladebowale
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExceptionConstructionBenchmark {
+
+    private static final Throwable CAUSE = new IllegalStateException("remote failure");
+
+    @Setup(Level.Trial)
+    public void setup() {
+        LocaleContextUtils.setContextLocale(Locale.US);
+    }
+
+    @Benchmark
+    public Object activationTokenValidationException() {
+        return new ActivationTokenValidationException();
+    }
+
+    @Benchmark
+    public Object authenticationError() {
+        return new AuthenticationError();
+    }
+
+    @Benchmark
+    public Object blockedProfileAttemptsLoginWarning() {
+        return new BlockedProfileAttemptsLoginWarning();
+    }
+
+    @Benchmark
+    public Object customConstraintViolationException() {
+        return new CustomConstraintViolationException(Set.of());
+    }
+
+    @Benchmark
+    public Object invalidJwtTokenException() {
+        return new InvalidJwtTokenException();
+    }
+
+    @Benchmark
+    public Object newLocationTokenValidationException() {
+        return new NewLocationTokenValidationException();
+    }
+
+    @Benchmark
+    public Object passwordNotAcceptableException() {
+        return new PasswordNotAcceptableException();
+    }
+
+    @Benchmark
+    public Object resetPasswordTokenValidationException() {
+        return new ResetPasswordTokenValidationException();
+    }
+
+    @Benchmark
+    public Object sessionExpiredException() {
+        return new SessionExpiredException();
+    }
+
+    @Benchmark
+    public Object tooManyRequestException() {
+        return new TooManyRequestException();
+    }
+
+    @Benchmark
+    public Object unauthenticatedUserException() {
+        return new UnauthenticatedUserException();
+    }
+
+    @Benchmark
+    public Object employeeAlreadyExistException() {
+        return new EmployeeAlreadyExistException();
+    }
+
+    @Benchmark
+    public Object employeeNotFoundException() {
+        return new EmployeeNotFoundException();
+    }
+
+    @Benchmark
+    public Object apiResponseException() {
+        return new ApiResponseException("Remote call failed", CAUSE);
+    }
+
+    @Benchmark
+    public Object applicationDefinedRuntimeException() {
+        return new ApplicationDefinedRuntimeException("Unexpected failure", CAUSE);
+    }
+
+    @Benchmark
+    public Object applicationServiceException() {
+        return new ApplicationServiceException();
+    }
+
+    @Benchmark
+    public Object badRequestException() {
+        return new BadRequestException();
+    }
+
+    @Benchmark
+    public Object invalidInputException() {
+        return new InvalidInputException();
+    }
+
+    @Benchmark
+    public Object resourceAlreadyExistException() {
+        return new ResourceAlreadyExistException();
+    }
+
+    @Benchmark
+    public Object resourceNotFoundException() {
+        return new ResourceNotFoundException();
+    }
+
+    @Benchmark
+    public Object serverTimeoutRequestException() {
+        return new ServerTimeoutRequestException();
+    }
+
+    @Benchmark
+    public Object serviceUnavailableException() {
+        return new ServiceUnavailableException();
+    }
+
+    @Benchmark
+    public Object unexpectedResultException() {
+        return new UnexpectedResultException();
+    }
+
+    @Benchmark
+    public Object unusualLocationException() {
+        return new UnusualLocationException();
+    }
+
+    @Benchmark
+    public Object insufficientFundException() {
+        return new InsufficientFundException();
+    }
+
+    @Benchmark
+    public Object userAlreadyExistException() {
+        return new UserAlreadyExistException();
+    }
+
+    @Benchmark
+    public Object userHasNoAttributesException() {
+        return new UserHasNoAttributesException();
+    }
+
+    @Benchmark
+    public Object userProfileDisabledException() {
+        return new UserProfileDisabledException();
+    }
+
+    @Benchmark
+    public Object userProfileExpiredException() {
+        return new UserProfileExpiredException();
+    }
+
+    @Benchmark
+    public Object userProfileLockedException() {
+        return new UserProfileLockedException();
+    }
+
+    @Benchmark
+    public Object userProfileUnverifiedException() {
+        return new UserProfileUnverifiedException();
+    }
+}
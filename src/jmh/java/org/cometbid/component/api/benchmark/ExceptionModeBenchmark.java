@@ -0,0 +1,117 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.benchmark;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.cometbid.component.api.auth.exceptions.TooManyRequestException;
+import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
+import org.cometbid.component.api.generic.exceptions.ExceptionSettings;
+import org.cometbid.component.api.generic.exceptions.ResourceNotFoundException;
+import org.cometbid.component.api.payment.exceptions.InsufficientFundException;
+import org.cometbid.component.api.user.exceptions.UserAlreadyExistException;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the default exception construction against the stackless mode,
+ * and against the lightweight mode (stackless plus lazy message resolution).
+ *
+ * @author samueladebowale
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionModeBenchmark {
+
+    private static final int FRAMEWORK_STACK_DEPTH = 64;
+
+    @Param({"DEFAULT", "STACKLESS", "LIGHTWEIGHT"})
+    public String mode;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        LocaleContextUtils.setContextLocale(Locale.US);
+
+        ExceptionSettings.setStacklessByDefault(!"DEFAULT".equals(mode));
+        ExceptionSettings.setLazyMessageResolution("LIGHTWEIGHT".equals(mode));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        ExceptionSettings.setStacklessByDefault(false);
+        ExceptionSettings.setLazyMessageResolution(false);
+    }
+
+    @Benchmark
+    public ApplicationDefinedRuntimeException resourceNotFound() {
+        return new ResourceNotFoundException();
+    }
+
+    @Benchmark
+    public ApplicationDefinedRuntimeException userAlreadyExist() {
+        return new UserAlreadyExistException();
+    }
+
+    @Benchmark
+    public ApplicationDefinedRuntimeException insufficientFund() {
+        return new InsufficientFundException();
+    }
+
+    @Benchmark
+    public ApplicationDefinedRuntimeException tooManyRequest() {
+        return new TooManyRequestException();
+    }
+
+    /**
+     * Stack capture cost grows with the depth of the calling stack; this
+     * approximates an exception raised below a typical web framework stack.
+     */
+    @Benchmark
+    public ApplicationDefinedRuntimeException resourceNotFoundDeepStack() {
+        return createAtDepth(FRAMEWORK_STACK_DEPTH);
+    }
+
+    private static ApplicationDefinedRuntimeException createAtDepth(int depth) {
+        if (depth == 0) {
+            return new ResourceNotFoundException();
+        }
+        return createAtDepth(depth - 1);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.benchmark;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.LocaleUtils;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.cometbid.component.api.util.ResourceBundleAccessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link ResourceBundleAccessor} lookups for the bundled locales, by message
+ * key, by {@link ErrorCode}, and with message arguments.
+ *
+ * @author samueladebowale
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageLookupBenchmark {
+
+    private static final Object[] NO_ARGS = new Object[]{};
+
+    @Param({"en_US", "de", "fr"})
+    public String locale;
+
+    private Object[] args;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        LocaleContextUtils.setContextLocale(LocaleUtils.toLocale(locale));
+        args = new Object[]{"userId", "Long", "abc"};
+    }
+
+    @Benchmark
+    public String byMessageKey() {
+        return ResourceBundleAccessor.accessMessageInBundle(
+                ErrorCode.GENERIC_NOT_FOUND_ERR_CODE.getErrMsgKey(), NO_ARGS);
+    }
+
+    @Benchmark
+    public String byErrorCode() {
+        return ResourceBundleAccessor.accessMessageInBundle(ErrorCode.GENERIC_NOT_FOUND_ERR_CODE, NO_ARGS);
+    }
+
+    @Benchmark
+    public String withArguments() {
+        return ResourceBundleAccessor.accessMessageInBundle(
+                ErrorCode.INVALID_PARAMETER_ERR_CODE.getErrMsgKey(), args);
+    }
+
+    @Benchmark
+    public String unknownKey() {
+        return ResourceBundleAccessor.accessMessageInBundle("employee.notfound", NO_ARGS);
+    }
+}
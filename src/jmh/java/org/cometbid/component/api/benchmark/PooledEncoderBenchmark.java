@@ -0,0 +1,134 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.cometbid.component.api.jackson.PooledResponseEncoder;
+import org.cometbid.component.api.jackson.ResponseModelModule;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.AppResponse;
+import org.cometbid.component.api.response.model.ResponseFactory;
+import org.cometbid.component.api.util.ByteBufferPool;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.PooledByteBufferOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.FieldError;
+
+/**
+ * Error envelopes written to an output stream and to a {@link DataBuffer}
+ * through a {@code byte[]} from {@code writeValueAsBytes} versus through
+ * {@link PooledResponseEncoder}: into direct and heap pools for the stream,
+ * straight into the buffer for the {@code DataBuffer}. Meant to be read
+ * through the gc profiler the benchmarks profile enables,
+ * {@code gc.alloc.rate.norm} being the bytes allocated per response.
+ *
+ * @author samueladebowale
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PooledEncoderBenchmark {
+
+    @Param({"0", "50"})
+    public int validationErrors;
+
+    @Param({"true", "false"})
+    public boolean direct;
+
+    private ObjectMapper mapper;
+    private PooledResponseEncoder encoder;
+    private AppResponse response;
+    private OutputStream sink;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mapper = new ObjectMapper().registerModule(new ResponseModelModule());
+        encoder = new PooledResponseEncoder(mapper,
+                new ByteBufferPool(ByteBufferPool.DEFAULT_CHUNK_SIZE, 16, direct));
+
+        HttpStatus status = HttpStatus.UNPROCESSABLE_ENTITY;
+        ApiError apiError = ApiError.create("/api/v1/users", "POST",
+                ErrorCode.CONSTRAINT_VIOLATION_ERR_CODE.getErrCode(), status.name(), status.value(),
+                status.getReasonPhrase(), "Some request data failed validation checks.");
+
+        List<FieldError> fieldErrors = new ArrayList<>(validationErrors);
+        for (int i = 0; i < validationErrors; i++) {
+            fieldErrors.add(new FieldError("userRequest", "field" + i, "rejected-" + i,
+                    false, null, null, "must not be blank"));
+        }
+        apiError.addValidationErrors(fieldErrors);
+
+        response = new ResponseFactory("v1", "https://cometbid.org/report", null, null).error(apiError);
+        sink = OutputStream.nullOutputStream();
+    }
+
+    @Benchmark
+    public void streamBytes() throws IOException {
+        sink.write(mapper.writeValueAsBytes(response));
+    }
+
+    @Benchmark
+    public void streamPooled() throws IOException {
+        PooledByteBufferOutputStream body = encoder.encode(response);
+        try {
+            body.writeTo(sink);
+        } finally {
+            body.release();
+        }
+    }
+
+    @Benchmark
+    public void dataBufferBytes(Blackhole blackhole) throws JsonProcessingException {
+        blackhole.consume(DefaultDataBufferFactory.sharedInstance.wrap(mapper.writeValueAsBytes(response)));
+    }
+
+    @Benchmark
+    public void dataBufferPooled(Blackhole blackhole) {
+        blackhole.consume(encoder.encode(response, DefaultDataBufferFactory.sharedInstance));
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.util.ResourceLeakDetector;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.cometbid.component.api.exceptions.handler.ErrorPublisher;
+import org.cometbid.component.api.exceptions.handler.ReactiveErrorWebExceptionHandler;
+import org.cometbid.component.api.interceptors.CustomLocaleChangeWebFilter;
+import org.cometbid.component.api.interceptors.CustomTimezoneChangeWebFilter;
+import org.cometbid.component.api.jackson.ResponseModelModule;
+import org.cometbid.component.api.response.model.ResponseFactory;
+import org.cometbid.component.api.util.ErrorCode;
+import org.springframework.http.server.reactive.HttpHandler;
+import org.springframework.http.server.reactive.ReactorHttpHandlerAdapter;
+import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Drives {@link ReactiveErrorWebExceptionHandler} through a local Reactor
+ * Netty server: every request fails with
+ * {@code ErrorPublisher.raiseResourceNotFoundError} and is answered with a
+ * 404 {@code AppResponse}. Each response is checked for its status and for
+ * the message of the locale the request asked for, so a locale leaking
+ * between requests sharing an event loop shows up as a mismatch. Netty's
+ * leak detector runs in paranoid mode to catch unreleased buffers.
+ * <pre>
+ * mvn -P benchmarks -DskipTests test-compile exec:exec@reactive-load-test
+ * </pre>
+ * {@code -Dload.requests} sets the number of requests (default 100000),
+ * {@code -Dload.concurrency} the requests in flight (default 256).
+ *
+ * @author samueladebowale
+ */
+public class ReactiveErrorHandlerLoadTest {
+
+    private static final String[] LOCALES = {"en_US", "de", "fr"};
+    private static final String[] EXPECTED = {"The resource being sought", "Die gesuchte Ressource",
+        "La ressource recherch"};
+
+    public static void main(String... args) {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 256;
+
+        ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.PARANOID);
+
+        ObjectMapper mapper = new ObjectMapper().registerModule(new ResponseModelModule());
+        ResponseFactory responseFactory = new ResponseFactory("v1", "https://cometbid.org/report",
+                "https://cometbid.org/docs/errors", null);
+
+        HttpHandler httpHandler = WebHttpHandlerBuilder
+                .webHandler(exchange -> ErrorPublisher.raiseResourceNotFoundError(
+                ErrorCode.GENERIC_NOT_FOUND_ERR_CODE.getErrMsgKey(), new Object[]{}))
+                .filter(new CustomLocaleChangeWebFilter(), new CustomTimezoneChangeWebFilter())
+                .exceptionHandler(new ReactiveErrorWebExceptionHandler(responseFactory, mapper))
+                .build();
+
+        DisposableServer server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .handle(new ReactorHttpHandlerAdapter(httpHandler))
+                .bindNow();
+        try {
+            HttpClient client = HttpClient.create().baseUrl("http://127.0.0.1:" + server.port());
+
+            // warm up class initialization, message catalog and connections
+            run(client, 2_000, concurrency);
+
+            long startNanos = System.nanoTime();
+            long failures = run(client, requests, concurrency);
+            long elapsedNanos = System.nanoTime() - startNanos;
+
+            System.out.printf("requests=%d concurrency=%d failures=%d elapsed=%d ms throughput=%,.0f req/s%n",
+                    requests, concurrency, failures, elapsedNanos / 1_000_000,
+                    requests * 1e9 / elapsedNanos);
+            if (failures > 0) {
+                System.exit(1);
+            }
+        } finally {
+            server.disposeNow();
+        }
+    }
+
+    private static long run(HttpClient client, int requests, int concurrency) {
+        AtomicLong failures = new AtomicLong();
+
+        Flux.range(0, requests)
+                .flatMap(i -> {
+                    int locale = i % LOCALES.length;
+                    return client.headers(headers -> headers.set("locale", LOCALES[locale]))
+                            .get()
+                            .uri("/api/v1/users/" + i)
+                            .responseSingle((response, body) -> body.asString()
+                            .defaultIfEmpty("")
+                            .map(json -> response.status().code() == 404 && json.contains(EXPECTED[locale])))
+                            .onErrorReturn(false);
+                }, concurrency)
+                .filter(ok -> !ok)
+                .doOnNext(ok -> failures.incrementAndGet())
+                .then()
+                .block(Duration.ofMinutes(10));
+
+        return failures.get();
+    }
+}
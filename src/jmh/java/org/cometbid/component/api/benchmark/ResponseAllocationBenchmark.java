@@ -0,0 +1,115 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.AppResponse;
+import org.cometbid.component.api.response.model.AppResponseMetadata;
+import org.cometbid.component.api.response.model.ResponseFactory;
+import org.cometbid.component.api.util.ErrorCode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Responses wrapped with per call metadata from the builder versus
+ * {@link ResponseFactory}. Meant to be read through the gc profiler the
+ * benchmarks profile enables, {@code gc.alloc.rate.norm} being the bytes
+ * allocated per response.
+ *
+ * @author samueladebowale
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResponseAllocationBenchmark {
+
+    private static final String REPORT_URI = "https://cometbid.org/report";
+    private static final String MORE_INFO = "https://cometbid.org/docs/errors";
+    private static final String API_DOC = "https://cometbid.org/docs/api";
+
+    private ResponseFactory factory;
+    private ApiError apiError;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        factory = new ResponseFactory("v1", REPORT_URI, MORE_INFO, API_DOC);
+
+        HttpStatus status = HttpStatus.NOT_FOUND;
+        apiError = ApiError.create("/api/v1/users/42", "GET", ErrorCode.GENERIC_NOT_FOUND_ERR_CODE.getErrCode(),
+                status.name(), status.value(), status.getReasonPhrase(), "User not found");
+    }
+
+    @Benchmark
+    public AppResponse emptyBuilder() {
+        return AppResponse.empty(metadata().build());
+    }
+
+    @Benchmark
+    public AppResponse emptyFactory() {
+        return factory.empty();
+    }
+
+    @Benchmark
+    public AppResponse successBuilder() {
+        return AppResponse.success(apiError, metadata().build());
+    }
+
+    @Benchmark
+    public AppResponse successFactory() {
+        return factory.success(apiError);
+    }
+
+    @Benchmark
+    public AppResponse errorBuilder() {
+        return AppResponse.error(apiError, metadata()
+                .sendReport(REPORT_URI + "?id=" + apiError.getTraceId())
+                .build());
+    }
+
+    @Benchmark
+    public AppResponse errorFactory() {
+        return factory.error(apiError);
+    }
+
+    private static AppResponseMetadata.AppResponseMetadataBuilder metadata() {
+        return AppResponseMetadata.builder()
+                .apiVersion("v1")
+                .moreInfo(MORE_INFO)
+                .apiDocUrl(API_DOC);
+    }
+}
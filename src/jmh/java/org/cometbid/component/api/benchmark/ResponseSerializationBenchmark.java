@@ -0,0 +1,116 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.cometbid.component.api.jackson.ResponseModelModule;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.AppResponse;
+import org.cometbid.component.api.response.model.AppResponseMetadata;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.cometbid.component.api.util.TimeZoneUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.FieldError;
+
+/**
+ * Jackson serialization of a complete {@link AppResponse} error envelope,
+ * including the {@code timestamp} written by the custom
+ * {@link org.cometbid.component.api.jackson.ZonedDateTimeSerializer}, through
+ * bean introspection ({@code bean}) and through {@link ResponseModelModule}
+ * ({@code streaming}). Reported as serialized responses per second.
+ *
+ * @author samueladebowale
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResponseSerializationBenchmark {
+
+    @Param({"0", "10", "500"})
+    public int validationErrors;
+
+    @Param({"UTC", "America/New_York"})
+    public String timezone;
+
+    @Param({"bean", "streaming"})
+    public String serializers;
+
+    private ObjectMapper mapper;
+    private AppResponse response;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        LocaleContextUtils.setContextLocale(Locale.US);
+        TimeZoneUtils.setContextZoneId(timezone);
+
+        mapper = new ObjectMapper();
+        if ("streaming".equals(serializers)) {
+            mapper.registerModule(new ResponseModelModule());
+        }
+
+        ApiError apiError = ApiError.create("/api/v1/users", "POST",
+                ErrorCode.CONSTRAINT_VIOLATION_ERR_CODE.getErrCode(),
+                HttpStatus.UNPROCESSABLE_ENTITY.name(), HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase(), "Some request data failed validation checks.");
+
+        List<FieldError> fieldErrors = new ArrayList<>(validationErrors);
+        for (int i = 0; i < validationErrors; i++) {
+            fieldErrors.add(new FieldError("userRequest", "field" + i, "rejected-" + i,
+                    false, null, null, "must not be blank"));
+        }
+        apiError.addValidationErrors(fieldErrors);
+
+        response = AppResponse.error(apiError, AppResponseMetadata.builder()
+                .apiVersion("v1")
+                .moreInfo("https://cometbid.org/docs/errors")
+                .sendReport("https://cometbid.org/report?id=" + apiError.getTraceId())
+                .build());
+    }
+
+    @Benchmark
+    public byte[] serializeAppResponse() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.cometbid.component.api.generic.exceptions.ResourceNotFoundException;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.cometbid.component.api.util.RequestContext;
+import org.cometbid.component.api.util.TimeZoneUtils;
+
+/**
+ * Holds N concurrent "requests" on virtual threads, each with a populated
+ * request context, and reports the retained heap per request. Not a JMH
+ * benchmark: memory, not time, is what is measured. Compare the two modes:
+ * <pre>
+ * mvn -P benchmarks -DskipTests test-compile exec:exec@load-test
+ * mvn -P benchmarks -DskipTests test-compile exec:exec@load-test -Dload.jvmArgs="--enable-preview -Dcometbid.context.scoped-value=true"
+ * </pre>
+ * {@code -Dload.requests} sets the number of concurrent requests (default 100000).
+ *
+ * @author samueladebowale
+ */
+public class VirtualThreadContextLoadTest {
+
+    private static final String[] LOCALES = {"en_US", "de", "fr"};
+    private static final String[] ZONES = {"UTC", "America/New_York", "Europe/Berlin", "Asia/Kolkata"};
+
+    public static void main(String... args) throws Exception {
+        int requests = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+        // warm up class initialization and message catalog outside the measurement
+        RequestContext.callInScope(() -> simulateRequest(0));
+
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long baseline = usedHeapAfterGc(memory);
+
+        CountDownLatch started = new CountDownLatch(requests);
+        CountDownLatch release = new CountDownLatch(1);
+
+        long startNanos = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < requests; i++) {
+                int request = i;
+                executor.submit(() -> RequestContext.callInScope(() -> {
+                    Object error = simulateRequest(request);
+                    started.countDown();
+                    release.await();
+                    return error;
+                }));
+            }
+
+            started.await();
+            long loaded = usedHeapAfterGc(memory);
+            release.countDown();
+
+            long perRequest = (loaded - baseline) / requests;
+            System.out.printf("mode=%s requests=%d retained=%,d KiB perRequest=%,d bytes elapsed=%d ms%n",
+                    RequestContext.isScopedValueMode() ? "scoped-value" : "thread-local",
+                    requests, (loaded - baseline) / 1024, perRequest,
+                    (System.nanoTime() - startNanos) / 1_000_000);
+        }
+    }
+
+    private static Object simulateRequest(int request) {
+        LocaleContextUtils.setContextLocaleAsString(LOCALES[request % LOCALES.length]);
+        TimeZoneUtils.setContextZoneId(ZONES[request % ZONES.length]);
+        RequestContext.update(context -> context.withTraceId(Long.toHexString(0x5f1c2a9b00000000L + request))
+                .withApiVersion("v1"));
+
+        return new ResourceNotFoundException(new Object[]{}).getReason();
+    }
+
+    private static long usedHeapAfterGc(MemoryMXBean memory) throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -27,7 +27,6 @@ import org.springframework.http.HttpStatus;
 
 import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
 import org.cometbid.component.api.util.ErrorCode;
-import org.cometbid.component.api.util.ResourceBundleAccessor;
 
 /**
  * @author Gbenga
@@ -72,23 +71,36 @@ public class ActivationTokenValidationException extends ApplicationDefinedRuntim
      * @param ex
      */
     public ActivationTokenValidationException(String messagekey, Object[] args, Throwable ex) {
-        super(STATUS, ResourceBundleAccessor.accessMessageInBundle(messagekey, args), ex);
+        super(STATUS, messagekey, args, ex);
     }
 
     /**
      *
+     * @param reason the already rendered message
+     * @param ex
+     * @see #withReason(String, Throwable)
      */
-    @Override
-    public String getErrorCode() {
-        return ErrorCode.INVALID_ACTIVATION_TOKEN_ERR_CODE.getErrCode();
+    protected ActivationTokenValidationException(String reason, Throwable ex) {
+        super(STATUS, reason, ex);
+    }
+
+    /**
+     * Creates the exception with an already rendered message, e.g. one
+     * received from a remote service, instead of a message key.
+     *
+     * @param reason the already rendered message
+     * @param ex
+     * @return the exception
+     */
+    public static ActivationTokenValidationException withReason(String reason, Throwable ex) {
+        return new ActivationTokenValidationException(reason, ex);
     }
 
     /**
      *
      */
     @Override
-    public String getErrorMessage() {
-        String msgKey = ErrorCode.INVALID_ACTIVATION_TOKEN_ERR_CODE.getErrMsgKey();
-        return ResourceBundleAccessor.accessMessageInBundle(msgKey, new Object[]{});
+    public String getErrorCode() {
+        return ErrorCode.INVALID_ACTIVATION_TOKEN_ERR_CODE.getErrCode();
     }
 }
@@ -25,7 +25,6 @@ package org.cometbid.component.api.auth.exceptions;
 
 import org.springframework.http.HttpStatus;
 
-import org.cometbid.component.api.util.ResourceBundleAccessor;
 import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
 import org.cometbid.component.api.util.ErrorCode;
 
@@ -73,24 +72,37 @@ public class AuthenticationError extends ApplicationDefinedRuntimeException {
      * @param ex
      */
     public AuthenticationError(String messagekey, Object[] args, Throwable ex) {
-        super(STATUS, ResourceBundleAccessor.accessMessageInBundle(messagekey, args), ex);
+        super(STATUS, messagekey, args, ex);
     }
 
     /**
      *
-     * @param errorMessage
+     * @param reason the already rendered message
+     * @param ex
+     * @see #withReason(String, Throwable)
      */
-    public AuthenticationError(String errorMessage) {
-        super(STATUS, errorMessage);
+    protected AuthenticationError(String reason, Throwable ex) {
+        super(STATUS, reason, ex);
     }
 
     /**
+     * Creates the exception with an already rendered message, e.g. one
+     * received from a remote service, instead of a message key.
      *
-     * @return  
+     * @param reason the already rendered message
+     * @param ex
+     * @return the exception
      */
-    @Override
-    public String getErrorCode() {
-        return ErrorCode.AUTHENTICATION_ERR_CODE.getErrCode();
+    public static AuthenticationError withReason(String reason, Throwable ex) {
+        return new AuthenticationError(reason, ex);
+    }
+
+    /**
+     *
+     * @param errorMessage
+     */
+    public AuthenticationError(String errorMessage) {
+        super(STATUS, errorMessage);
     }
 
     /**
@@ -98,9 +110,8 @@ public class AuthenticationError extends ApplicationDefinedRuntimeException {
      * @return  
      */
     @Override
-    public String getErrorMessage() {
-        String msgKey = ErrorCode.AUTHENTICATION_ERR_CODE.getErrMsgKey();
-        return ResourceBundleAccessor.accessMessageInBundle(msgKey, new Object[]{});
+    public String getErrorCode() {
+        return ErrorCode.AUTHENTICATION_ERR_CODE.getErrCode();
     }
 
 }
@@ -25,7 +25,6 @@ package org.cometbid.component.api.auth.exceptions;
 
 import org.springframework.http.HttpStatus;
 
-import org.cometbid.component.api.util.ResourceBundleAccessor;
 import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
 import org.cometbid.component.api.util.ErrorCode;
 
@@ -73,24 +72,37 @@ public class BlockedProfileAttemptsLoginWarning extends ApplicationDefinedRuntim
      * @param ex
      */
     public BlockedProfileAttemptsLoginWarning(String messagekey, Object[] args, Throwable ex) {
-        super(STATUS, ResourceBundleAccessor.accessMessageInBundle(messagekey, args), ex);
+        super(STATUS, messagekey, args, ex);
     }
 
     /**
      *
+     * @param reason the already rendered message
+     * @param ex
+     * @see #withReason(String, Throwable)
      */
-    @Override
-    public String getErrorCode() {
-        return ErrorCode.BLOCKED_PROFILE_REQUEST_ERR_CODE.getErrCode();
+    protected BlockedProfileAttemptsLoginWarning(String reason, Throwable ex) {
+        super(STATUS, reason, ex);
+    }
+
+    /**
+     * Creates the exception with an already rendered message, e.g. one
+     * received from a remote service, instead of a message key.
+     *
+     * @param reason the already rendered message
+     * @param ex
+     * @return the exception
+     */
+    public static BlockedProfileAttemptsLoginWarning withReason(String reason, Throwable ex) {
+        return new BlockedProfileAttemptsLoginWarning(reason, ex);
     }
 
     /**
      *
      */
     @Override
-    public String getErrorMessage() {
-        String msgKey = ErrorCode.BLOCKED_PROFILE_REQUEST_ERR_CODE.getErrMsgKey();
-        return ResourceBundleAccessor.accessMessageInBundle(msgKey, new Object[]{});
+    public String getErrorCode() {
+        return ErrorCode.BLOCKED_PROFILE_REQUEST_ERR_CODE.getErrCode();
     }
 
 }
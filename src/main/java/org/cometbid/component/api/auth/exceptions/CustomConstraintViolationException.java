@@ -69,7 +69,6 @@ public class CustomConstraintViolationException extends ConstraintViolationExcep
      */
     //@Override
     public String getErrorMessage() {
-        String msgKey = ErrorCode.CONSTRAINT_VIOLATION_ERR_CODE.getErrMsgKey();
-        return ResourceBundleAccessor.accessMessageInBundle(msgKey, new Object[]{});
+        return ResourceBundleAccessor.accessMessageInBundle(ErrorCode.CONSTRAINT_VIOLATION_ERR_CODE, new Object[]{});
     }
 }
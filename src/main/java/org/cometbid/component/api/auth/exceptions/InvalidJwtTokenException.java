@@ -25,7 +25,6 @@ package org.cometbid.component.api.auth.exceptions;
 
 import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
 import org.cometbid.component.api.util.ErrorCode;
-import org.cometbid.component.api.util.ResourceBundleAccessor;
 import org.springframework.http.HttpStatus;
 
 /**
@@ -71,23 +70,36 @@ public class InvalidJwtTokenException extends ApplicationDefinedRuntimeException
      * @param ex
      */
     public InvalidJwtTokenException(String messagekey, Object[] args, Throwable ex) {
-        super(STATUS, ResourceBundleAccessor.accessMessageInBundle(messagekey, args), ex);
+        super(STATUS, messagekey, args, ex);
     }
 
     /**
      *
+     * @param reason the already rendered message
+     * @param ex
+     * @see #withReason(String, Throwable)
      */
-    @Override
-    public String getErrorCode() {
-        return ErrorCode.INVALID_JWT_TOKEN_ERR_CODE.getErrCode();
+    protected InvalidJwtTokenException(String reason, Throwable ex) {
+        super(STATUS, reason, ex);
+    }
+
+    /**
+     * Creates the exception with an already rendered message, e.g. one
+     * received from a remote service, instead of a message key.
+     *
+     * @param reason the already rendered message
+     * @param ex
+     * @return the exception
+     */
+    public static InvalidJwtTokenException withReason(String reason, Throwable ex) {
+        return new InvalidJwtTokenException(reason, ex);
     }
 
     /**
      *
      */
     @Override
-    public String getErrorMessage() {
-        String msgKey = ErrorCode.INVALID_JWT_TOKEN_ERR_CODE.getErrMsgKey();
-        return ResourceBundleAccessor.accessMessageInBundle(msgKey, new Object[]{});
+    public String getErrorCode() {
+        return ErrorCode.INVALID_JWT_TOKEN_ERR_CODE.getErrCode();
     }
 }
@@ -25,7 +25,6 @@ package org.cometbid.component.api.auth.exceptions;
 
 import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
 import org.cometbid.component.api.util.ErrorCode;
-import org.cometbid.component.api.util.ResourceBundleAccessor;
 import org.springframework.http.HttpStatus;
 
 /**
@@ -71,23 +70,36 @@ public class NewLocationTokenValidationException extends ApplicationDefinedRunti
      * @param ex
      */
     public NewLocationTokenValidationException(String messagekey, Object[] args, Throwable ex) {
-        super(STATUS, ResourceBundleAccessor.accessMessageInBundle(messagekey, args), ex);
+        super(STATUS, messagekey, args, ex);
     }
 
     /**
      *
+     * @param reason the already rendered message
+     * @param ex
+     * @see #withReason(String, Throwable)
      */
-    @Override
-    public String getErrorCode() {
-        return ErrorCode.INVALID_NEWLOCATION_TOKEN_ERR_CODE.getErrCode();
+    protected NewLocationTokenValidationException(String reason, Throwable ex) {
+        super(STATUS, reason, ex);
+    }
+
+    /**
+     * Creates the exception with an already rendered message, e.g. one
+     * received from a remote service, instead of a message key.
+     *
+     * @param reason the already rendered message
+     * @param ex
+     * @return the exception
+     */
+    public static NewLocationTokenValidationException withReason(String reason, Throwable ex) {
+        return new NewLocationTokenValidationException(reason, ex);
     }
 
     /**
      *
      */
     @Override
-    public String getErrorMessage() {
-        String msgKey = ErrorCode.INVALID_NEWLOCATION_TOKEN_ERR_CODE.getErrMsgKey();
-        return ResourceBundleAccessor.accessMessageInBundle(msgKey, new Object[]{});
+    public String getErrorCode() {
+        return ErrorCode.INVALID_NEWLOCATION_TOKEN_ERR_CODE.getErrCode();
     }
 }
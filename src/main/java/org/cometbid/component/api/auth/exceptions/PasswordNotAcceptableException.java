@@ -24,7 +24,6 @@
 package org.cometbid.component.api.auth.exceptions;
 
 import org.springframework.http.HttpStatus;
-import org.cometbid.component.api.util.ResourceBundleAccessor;
 import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
 import org.cometbid.component.api.util.ErrorCode;
 
@@ -72,24 +71,37 @@ public class PasswordNotAcceptableException extends ApplicationDefinedRuntimeExc
      * @param ex
      */
     public PasswordNotAcceptableException(String messagekey, Object[] args, Throwable ex) {
-        super(STATUS, ResourceBundleAccessor.accessMessageInBundle(messagekey, args), ex);
+        super(STATUS, messagekey, args, ex);
     }
 
     /**
      *
+     * @param reason the already rendered message
+     * @param ex
+     * @see #withReason(String, Throwable)
      */
-    @Override
-    public String getErrorCode() {
-        return ErrorCode.INVALID_PASSWORD_ERR_CODE.getErrCode();
+    protected PasswordNotAcceptableException(String reason, Throwable ex) {
+        super(STATUS, reason, ex);
+    }
+
+    /**
+     * Creates the exception with an already rendered message, e.g. one
+     * received from a remote service, instead of a message key.
+     *
+     * @param reason the already rendered message
+     * @param ex
+     * @return the exception
+     */
+    public static PasswordNotAcceptableException withReason(String reason, Throwable ex) {
+        return new PasswordNotAcceptableException(reason, ex);
     }
 
     /**
      *
      */
     @Override
-    public String getErrorMessage() {
-        String msgKey = ErrorCode.INVALID_PASSWORD_ERR_CODE.getErrMsgKey();
-        return ResourceBundleAccessor.accessMessageInBundle(msgKey, new Object[]{});
+    public String getErrorCode() {
+        return ErrorCode.INVALID_PASSWORD_ERR_CODE.getErrCode();
     }
 
 }
@@ -24,7 +24,6 @@
 package org.cometbid.component.api.auth.exceptions;
 
 import org.springframework.http.HttpStatus;
-import org.cometbid.component.api.util.ResourceBundleAccessor;
 import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
 import org.cometbid.component.api.util.ErrorCode;
 
@@ -71,7 +70,7 @@ public class ResetPasswordTokenValidationException extends ApplicationDefinedRun
      * @param ex
      */
     public ResetPasswordTokenValidationException(String messagekey, Object[] args, Throwable ex) {
-        super(STATUS, ResourceBundleAccessor.accessMessageInBundle(messagekey, args), ex);
+        super(STATUS, messagekey, args, ex);
     }
 
     /**
@@ -82,13 +81,4 @@ public class ResetPasswordTokenValidationException extends ApplicationDefinedRun
         return ErrorCode.INVALID_ACTIVATION_TOKEN_ERR_CODE.getErrCode();
     }
 
-    /**
-     *
-     */
-    @Override
-    public String getErrorMessage() {
-        String msgKey = ErrorCode.INVALID_ACTIVATION_TOKEN_ERR_CODE.getErrMsgKey();
-        return ResourceBundleAccessor.accessMessageInBundle(msgKey, new Object[]{});
-    }
-
 }
@@ -24,7 +24,6 @@
 package org.cometbid.component.api.auth.exceptions;
 
 import org.springframework.http.HttpStatus;
-import org.cometbid.component.api.util.ResourceBundleAccessor;
 import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
 import org.cometbid.component.api.util.ErrorCode;
 
@@ -72,23 +71,36 @@ public class SessionExpiredException extends ApplicationDefinedRuntimeException
      * @param ex
      */
     public SessionExpiredException(String messagekey, Object[] args, Throwable ex) {
-        super(STATUS, ResourceBundleAccessor.accessMessageInBundle(messagekey, args), ex);
+        super(STATUS, messagekey, args, ex);
     }
 
     /**
      *
+     * @param reason the already rendered message
+     * @param ex
+     * @see #withReason(String, Throwable)
      */
-    @Override
-    public String getErrorCode() {
-        return ErrorCode.EXPIRED_SESSION_ERR_CODE.getErrCode();
+    protected SessionExpiredException(String reason, Throwable ex) {
+        super(STATUS, reason, ex);
+    }
+
+    /**
+     * Creates the exception with an already rendered message, e.g. one
+     * received from a remote service, instead of a message key.
+     *
+     * @param reason the already rendered message
+     * @param ex
+     * @return the exception
+     */
+    public static SessionExpiredException withReason(String reason, Throwable ex) {
+        return new SessionExpiredException(reason, ex);
     }
 
     /**
      *
      */
     @Override
-    public String getErrorMessage() {
-        String msgKey = ErrorCode.EXPIRED_SESSION_ERR_CODE.getErrMsgKey();
-        return ResourceBundleAccessor.accessMessageInBundle(msgKey, new Object[]{});
+    public String getErrorCode() {
+        return ErrorCode.EXPIRED_SESSION_ERR_CODE.getErrCode();
     }
 }
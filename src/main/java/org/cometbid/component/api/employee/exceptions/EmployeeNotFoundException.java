@@ -25,7 +25,6 @@ package org.cometbid.component.api.employee.exceptions;
 
 import org.cometbid.component.api.generic.exceptions.ResourceNotFoundException;
 import org.cometbid.component.api.util.ErrorCode;
-import org.cometbid.component.api.util.ResourceBundleAccessor;
 
 /**
  *
@@ -74,11 +73,24 @@ public class EmployeeNotFoundException extends ResourceNotFoundException {
 
     /**
      *
-     * @return
+     * @param reason the already rendered message
+     * @param ex
+     * @see #withReason(String, Throwable)
      */
-    @Override
-    public String getErrorCode() {
-        return ErrorCode.EMP_NOT_FOUND_ERR_CODE.getErrCode();
+    protected EmployeeNotFoundException(String reason, Throwable ex) {
+        super(reason, ex);
+    }
+
+    /**
+     * Creates the exception with an already rendered message, e.g. one
+     * received from a remote service, instead of a message key.
+     *
+     * @param reason the already rendered message
+     * @param ex
+     * @return the exception
+     */
+    public static EmployeeNotFoundException withReason(String reason, Throwable ex) {
+        return new EmployeeNotFoundException(reason, ex);
     }
 
     /**
@@ -86,9 +98,8 @@ public class EmployeeNotFoundException extends ResourceNotFoundException {
      * @return
      */
     @Override
-    public String getErrorMessage() {
-        String msgKey = ErrorCode.EMP_NOT_FOUND_ERR_CODE.getErrMsgKey();
-        return ResourceBundleAccessor.accessMessageInBundle(msgKey, new Object[]{});
+    public String getErrorCode() {
+        return ErrorCode.EMP_NOT_FOUND_ERR_CODE.getErrCode();
     }
 
 }
@@ -27,6 +27,7 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Supplier;
 import org.cometbid.component.api.auth.exceptions.AuthenticationError;
 import org.cometbid.component.api.auth.exceptions.BlockedProfileAttemptsLoginWarning;
 import org.cometbid.component.api.auth.exceptions.InvalidJwtTokenException;
@@ -34,6 +35,7 @@ import org.cometbid.component.api.auth.exceptions.NewLocationTokenValidationExce
 import org.cometbid.component.api.auth.exceptions.PasswordNotAcceptableException;
 import org.cometbid.component.api.auth.exceptions.ResetPasswordTokenValidationException;
 import org.cometbid.component.api.auth.exceptions.SessionExpiredException;
+import org.cometbid.component.api.auth.exceptions.TooManyRequestException;
 import org.cometbid.component.api.auth.exceptions.UnauthenticatedUserException;
 import org.cometbid.component.api.generic.exceptions.ApiResponseException;
 import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
@@ -47,9 +49,14 @@ import org.cometbid.component.api.user.exceptions.UserProfileDisabledException;
 import org.cometbid.component.api.user.exceptions.UserProfileExpiredException;
 import org.cometbid.component.api.user.exceptions.UserProfileLockedException;
 import org.cometbid.component.api.user.exceptions.UserProfileUnverifiedException;
+import org.cometbid.component.api.util.ReactiveRequestContext;
+import org.cometbid.component.api.util.RequestRateLimiter;
 import reactor.core.publisher.Mono;
 
 /**
+ * The {@code Mono} variants build their exception when subscribed, using the
+ * locale and trace id carried in the Reactor {@code Context} (see
+ * {@link ReactiveRequestContext}); without one they use the current thread's.
  *
  * @author samueladebowale
  */
@@ -59,67 +66,81 @@ public class ErrorPublisher {
 
     }
 
+    /**
+     *
+     * @param <T>
+     * @param error
+     * @return a Mono failing with the error built for the subscriber's request context
+     */
+    public static <T> Mono<T> raiseError(Supplier<? extends Throwable> error) {
+        return Mono.deferContextual(context -> Mono.error(ReactiveRequestContext.callWith(context, error)));
+    }
+
     public static <T> Mono<T> raiseBadCredentials(String messageKey, Object[] args) {
-        return Mono.error(new AuthenticationError(messageKey, args));
+        return raiseError(() -> new AuthenticationError(messageKey, args));
     }
 
     public static <T> Mono<T> raiseUserAlreadyExist() {
-        return Mono.error(new UserAlreadyExistException(new Object[]{}));
+        return raiseError(() -> new UserAlreadyExistException(new Object[]{}));
     }
 
     public static <T> Mono<T> raiseBadRequestError(String messageKey, Object[] args) {
-        return Mono.error(new BadRequestException(messageKey, args));
+        return raiseError(() -> new BadRequestException(messageKey, args));
     }
 
     public static <T> Mono<T> raiseLoginSessionExpiredError(String messageKey, Object[] args) {
-        return Mono.error(new SessionExpiredException(messageKey, args));
+        return raiseError(() -> new SessionExpiredException(messageKey, args));
     }
 
     public static <T> Mono<T> raiseNewLocationTokenInvalidError(String messageKey, Object[] args) {
-        return Mono.error(new NewLocationTokenValidationException(messageKey, args));
+        return raiseError(() -> new NewLocationTokenValidationException(messageKey, args));
     }
 
     public static <T> Mono<T> raiseResetPasswordSessionExpiredError(String messageKey, Object[] args) {
-        return Mono.error(new SessionExpiredException(messageKey, args));
+        return raiseError(() -> new SessionExpiredException(messageKey, args));
     }
 
     public static <T> Mono<T> raiseUnauthenticatedUserError(String messagekey, Object[] args) {
-        return Mono.error(new UnauthenticatedUserException(messagekey, args));
+        return raiseError(() -> new UnauthenticatedUserException(messagekey, args));
     }
 
     public static <T> Mono<T> raiseRuntimeError(final String message, final Throwable cause) {
-        return Mono.error(new ApplicationDefinedRuntimeException(message, cause));
+        return raiseError(() -> new ApplicationDefinedRuntimeException(message, cause));
     }
 
     public static <T> Mono<T> raiseServiceUnavailableError(final String messageKey, Object[] args) {
-        return Mono.error(new ServiceUnavailableException(messageKey, args));
+        return raiseError(() -> new ServiceUnavailableException(messageKey, args));
     }
 
     public static <T> Mono<T> raiseResourceNotFoundError(final String messageKey, Object[] args) {
-        return Mono.error(new ResourceNotFoundException(messageKey, args));
+        return raiseError(() -> new ResourceNotFoundException(messageKey, args));
     }
 
     public static <T> Mono<T> raiseResourceAlreadyExistError(final String messageKey, Object[] args) {
-        return Mono.error(new ResourceAlreadyExistException(messageKey, args));
+        return raiseError(() -> new ResourceAlreadyExistException(messageKey, args));
     }
 
     public static <T> Mono<T> raiseInvalidJwtToken(String messageKey, Object[] args) {
 
-        return Mono.error(new InvalidJwtTokenException(messageKey, args));
+        return raiseError(() -> new InvalidJwtTokenException(messageKey, args));
     }
 
     public static <T> Mono<T> raiseResetPasswordTokenError(String messageKey, Object[] args) {
-        return Mono.error(new ResetPasswordTokenValidationException(messageKey, args));
+        return raiseError(() -> new ResetPasswordTokenValidationException(messageKey, args));
     }
 
     public static <T> Mono<T> raiseInvalidInputRequestError(final String message) {
         Set<ConstraintViolation<?>> constraintViolations = new HashSet<>();
 
-        return Mono.error(new ConstraintViolationException(message, constraintViolations));
+        return raiseError(() -> new ConstraintViolationException(message, constraintViolations));
+    }
+
+    public static <T> Mono<T> raiseTooManyRequestError(Object[] args) {
+        return raiseError(() -> new TooManyRequestException(args));
     }
 
     public static <T> Mono<T> raiseApiServiceError(final String message, Integer statusCode, Throwable ex) {
-        return Mono.error(new ApiResponseException(message, statusCode, ex));
+        return raiseError(() -> new ApiResponseException(message, statusCode, ex));
     }
 
     public static void raiseRuntimeException(String message, Throwable ex) {
@@ -182,6 +203,23 @@ public class ErrorPublisher {
         throw new BlockedProfileAttemptsLoginWarning(args);
     }
 
+    public static void raiseTooManyRequestException(Object[] args) {
+        throw new TooManyRequestException(args);
+    }
+
+    /**
+     * Counts an attempt for the key and raises a
+     * {@link TooManyRequestException} once the limiter trips.
+     *
+     * @param limiter
+     * @param key the client identity or profile the attempt is counted for
+     */
+    public static void raiseIfRateLimited(RequestRateLimiter limiter, String key) {
+        if (!limiter.tryAcquire(key)) {
+            throw new TooManyRequestException(new Object[]{});
+        }
+    }
+
     public static void raiseLoginSessionExpiredException(String messageKey, Object[] args) {
         throw new SessionExpiredException(messageKey, args);
     }
@@ -0,0 +1,259 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.exceptions.handler;
+
+import jakarta.validation.ConstraintViolationException;
+import java.util.Locale;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.ArrayUtils;
+import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
+import org.cometbid.component.api.jackson.ErrorResponseTemplates;
+import org.cometbid.component.api.metrics.ErrorMetrics;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.AppResponse;
+import org.cometbid.component.api.response.model.ResponseFactory;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.MessageCatalog;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.BindException;
+import org.springframework.web.ErrorResponse;
+
+/**
+ * Turns an exception into an {@link ApiError}, shared by the servlet
+ * ({@link RestExceptionHandler}) and reactive
+ * ({@link ReactiveErrorWebExceptionHandler}) handlers.
+ * <p>
+ * Status, error code and message key come from the {@link ExceptionMappings}
+ * dispatch table. The message is the localized reason carried by an
+ * {@link ApplicationDefinedRuntimeException}, its message key rendered for
+ * the given locale when that reason is resolved lazily, or the mapping's
+ * message rendered for the given locale otherwise; the locale is always passed in,
+ * never read from the current thread. The trace id can be passed in as well,
+ * so that the reactive handler binds no thread-local state. Validation
+ * failures additionally list one sub error per field or constraint.
+ * <p>
+ * Errors without such detail of their own can be answered from an
+ * {@link ErrorResponseTemplates} template instead, see
+ * {@link #toTemplateMapping}.
+ *
+ * @author samueladebowale
+ */
+@Log4j2
+public class ErrorResponseTranslator {
+
+    private static final Object[] NO_ARGS = {};
+
+    private final ResponseFactory responseFactory;
+    private final ExceptionMappings mappings;
+    private final MessageCatalog messageCatalog = MessageCatalog.getInstance();
+
+    /**
+     *
+     * @param responseFactory
+     * @param mappings
+     */
+    public ErrorResponseTranslator(ResponseFactory responseFactory, ExceptionMappings mappings) {
+        this.responseFactory = responseFactory;
+        this.mappings = mappings;
+    }
+
+    public ResponseFactory getResponseFactory() {
+        return responseFactory;
+    }
+
+    /**
+     *
+     * @param ex
+     * @param path
+     * @param method
+     * @param locale the locale the message is rendered for
+     * @return the error for the exception
+     */
+    public ApiError toApiError(Throwable ex, String path, String method, Locale locale) {
+        return toApiError(ex, path, method, locale, null);
+    }
+
+    /**
+     *
+     * @param ex
+     * @param path
+     * @param method
+     * @param locale the locale the message is rendered for
+     * @param traceId the trace id of the error, null for the current one
+     * @return the error for the exception
+     */
+    public ApiError toApiError(Throwable ex, String path, String method, Locale locale, String traceId) {
+        ExceptionMapping mapping = mappings.resolve(ex.getClass());
+        HttpStatus status = mapping.status() != null ? mapping.status() : statusOf(ex);
+        ErrorCode errorCode = mapping.errorCode() != null ? mapping.errorCode() : errorCodeOf(ex);
+
+        String message = messageOf(ex, mapping, errorCode, locale);
+        record(ex, path, method, status, errorCode, locale);
+
+        ApiError apiError = traceId == null
+                ? ApiError.create(path, method, errorCode.getErrCode(), status.name(), status.value(),
+                        status.getReasonPhrase(), message)
+                : ApiError.create(path, method, errorCode.getErrCode(), status.name(), status.value(),
+                        status.getReasonPhrase(), message, traceId);
+
+        if (ex instanceof BindException bindException) {
+            apiError.addValidationErrors(bindException.getFieldErrors());
+            apiError.addValidationError(bindException.getGlobalErrors());
+        } else if (ex instanceof ConstraintViolationException violationException
+                && violationException.getConstraintViolations() != null) {
+            apiError.addValidationErrors(violationException.getConstraintViolations());
+        }
+        return apiError;
+    }
+
+    /**
+     * Resolves the status and error code of an exception whose response
+     * holds nothing specific to it: no sub errors, and the error code's own
+     * message as {@code debugMessage}. That response is the one written by
+     * an {@link ErrorResponseTemplates} template, so the error is recorded
+     * here as by {@link #toApiError}.
+     *
+     * @param ex
+     * @param path
+     * @param method
+     * @param locale the locale the response is rendered for
+     * @return the mapping with status and error code resolved, null if the
+     * response needs an {@link ApiError}
+     */
+    public ExceptionMapping toTemplateMapping(Throwable ex, String path, String method, Locale locale) {
+        if (ex instanceof BindException || ex instanceof ConstraintViolationException) {
+            return null;
+        }
+
+        ExceptionMapping mapping = mappings.resolve(ex.getClass());
+        HttpStatus status = mapping.status() != null ? mapping.status() : statusOf(ex);
+        ErrorCode errorCode = mapping.errorCode() != null ? mapping.errorCode() : errorCodeOf(ex);
+
+        if (!hasErrorCodeMessage(ex, mapping, errorCode, locale)) {
+            return null;
+        }
+        record(ex, path, method, status, errorCode, locale);
+
+        return mapping.status() != null && mapping.errorCode() != null && mapping.messageKey() == null
+                ? mapping : new ExceptionMapping(status, errorCode, null);
+    }
+
+    /**
+     *
+     * @param apiError
+     * @return the response wrapping the error
+     */
+    public AppResponse toAppResponse(ApiError apiError) {
+        return responseFactory.error(apiError);
+    }
+
+    /**
+     * The headers an {@link ErrorResponse} asks for, e.g. {@code Allow} for a
+     * 405 or {@code Accept} for a 415, whichever way the body is written.
+     *
+     * @param ex
+     * @return the headers to add to the error response, empty if none
+     */
+    public static HttpHeaders headersOf(Throwable ex) {
+        return ex instanceof ErrorResponse errorResponse ? errorResponse.getHeaders() : HttpHeaders.EMPTY;
+    }
+
+    private static HttpStatus statusOf(Throwable ex) {
+        HttpStatus status = null;
+        if (ex instanceof ErrorResponse errorResponse) {
+            status = HttpStatus.resolve(errorResponse.getStatusCode().value());
+        }
+        return status == null ? HttpStatus.INTERNAL_SERVER_ERROR : status;
+    }
+
+    private static ErrorCode errorCodeOf(Throwable ex) {
+        ErrorCode errorCode = null;
+        if (ex instanceof ApplicationDefinedRuntimeException appException) {
+            errorCode = ErrorCode.fromErrCode(appException.getErrorCode());
+        }
+        return errorCode == null ? ErrorCode.APP_DEFINED_ERR_CODE : errorCode;
+    }
+
+    private void record(Throwable ex, String path, String method, HttpStatus status, ErrorCode errorCode,
+            Locale locale) {
+        ErrorMetrics metrics = responseFactory.getMetrics();
+        if (metrics != null) {
+            metrics.record(errorCode, status.value(), ex.getClass(), locale);
+        }
+
+        if (status.is5xxServerError()) {
+            log.error("{} {} failed with {}", method, path, status, ex);
+        } else {
+            log.debug("{} {} failed with {}: {}", method, path, status, ex.toString());
+        }
+    }
+
+    private boolean hasErrorCodeMessage(Throwable ex, ExceptionMapping mapping, ErrorCode errorCode,
+            Locale locale) {
+        if (ex instanceof ApplicationDefinedRuntimeException appException) {
+            if (appException.getMessageKey() != null) {
+                return appException.getMessageKey().equals(errorCode.getErrMsgKey())
+                        && ArrayUtils.isEmpty(appException.getMessageArgs());
+            }
+            String reason = appException.getReason();
+            if (reason != null) {
+                return reason.equals(messageCatalog.getMessage(errorCode, NO_ARGS, locale));
+            }
+        }
+        return mapping.messageKey() == null || mapping.messageKey().equals(errorCode.getErrMsgKey());
+    }
+
+    private String messageOf(Throwable ex, ExceptionMapping mapping, ErrorCode errorCode, Locale locale) {
+        if (ex instanceof ApplicationDefinedRuntimeException appException) {
+            if (appException.getMessageKey() != null) {
+                return render(errorCode, appException.getMessageKey(), appException.getMessageArgs(), locale);
+            }
+            String reason = appException.getReason();
+            if (reason != null) {
+                return reason;
+            }
+        }
+        return render(errorCode, mapping.messageKey(), NO_ARGS, locale);
+    }
+
+    /**
+     * Renders a message from the catalog, timed as message resolution.
+     *
+     * @param messageKey the key, null for the error code's
+     */
+    private String render(ErrorCode errorCode, String messageKey, Object[] args, Locale locale) {
+        ErrorMetrics metrics = responseFactory.getMetrics();
+        long startTime = metrics == null ? 0L : metrics.monotonicTime();
+
+        String message = messageKey != null
+                ? messageCatalog.getMessage(messageKey, args, locale)
+                : messageCatalog.getMessage(errorCode, args, locale);
+
+        if (metrics != null) {
+            metrics.recordMessageResolutionTime(errorCode, startTime);
+        }
+        return message;
+    }
+}
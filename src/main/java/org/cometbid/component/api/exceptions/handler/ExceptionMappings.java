@@ -0,0 +1,322 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.exceptions.handler;
+
+import jakarta.validation.ConstraintViolationException;
+import java.util.HashMap;
+import java.util.Map;
+import org.cometbid.component.api.auth.exceptions.ActivationTokenValidationException;
+import org.cometbid.component.api.auth.exceptions.AuthenticationError;
+import org.cometbid.component.api.auth.exceptions.BlockedProfileAttemptsLoginWarning;
+import org.cometbid.component.api.auth.exceptions.CustomConstraintViolationException;
+import org.cometbid.component.api.auth.exceptions.InvalidJwtTokenException;
+import org.cometbid.component.api.auth.exceptions.NewLocationTokenValidationException;
+import org.cometbid.component.api.auth.exceptions.PasswordNotAcceptableException;
+import org.cometbid.component.api.auth.exceptions.ResetPasswordTokenValidationException;
+import org.cometbid.component.api.auth.exceptions.SessionExpiredException;
+import org.cometbid.component.api.auth.exceptions.TooManyRequestException;
+import org.cometbid.component.api.auth.exceptions.UnauthenticatedUserException;
+import org.cometbid.component.api.employee.exceptions.EmployeeAlreadyExistException;
+import org.cometbid.component.api.employee.exceptions.EmployeeNotFoundException;
+import org.cometbid.component.api.generic.exceptions.ApiResponseException;
+import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
+import org.cometbid.component.api.generic.exceptions.ApplicationServiceException;
+import org.cometbid.component.api.generic.exceptions.BadRequestException;
+import org.cometbid.component.api.generic.exceptions.InvalidInputException;
+import org.cometbid.component.api.generic.exceptions.ResourceAlreadyExistException;
+import org.cometbid.component.api.generic.exceptions.ResourceNotFoundException;
+import org.cometbid.component.api.generic.exceptions.ServerTimeoutRequestException;
+import org.cometbid.component.api.generic.exceptions.ServiceUnavailableException;
+import org.cometbid.component.api.generic.exceptions.UnexpectedResultException;
+import org.cometbid.component.api.generic.exceptions.UnusualLocationException;
+import org.cometbid.component.api.payment.exceptions.InsufficientFundException;
+import org.cometbid.component.api.user.exceptions.UserAlreadyExistException;
+import org.cometbid.component.api.user.exceptions.UserHasNoAttributesException;
+import org.cometbid.component.api.user.exceptions.UserProfileDisabledException;
+import org.cometbid.component.api.user.exceptions.UserProfileExpiredException;
+import org.cometbid.component.api.user.exceptions.UserProfileLockedException;
+import org.cometbid.component.api.user.exceptions.UserProfileUnverifiedException;
+import org.cometbid.component.api.util.ErrorCode;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.ClassUtils;
+import org.springframework.validation.BindException;
+import org.springframework.web.ErrorResponseException;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+import org.springframework.web.bind.ServletRequestBindingException;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.NotAcceptableStatusException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+import org.springframework.web.servlet.NoHandlerFoundException;
+import org.springframework.web.servlet.resource.NoResourceFoundException;
+
+/**
+ * Immutable dispatch table from exception type to {@link ExceptionMapping},
+ * built once when the application starts.
+ * <p>
+ * An exception type without a mapping of its own uses the mapping of its
+ * nearest mapped superclass. That walk happens once per type: the result is
+ * cached in a {@link ClassValue}, so resolving the mapping of an exception
+ * is a single lookup regardless of the depth of its hierarchy. Types with
+ * no mapped superclass resolve to a 500 {@link ErrorCode#SYS_DEFINED_ERR_CODE}
+ * mapping.
+ * <p>
+ * The Spring MVC exceptions extend {@code jakarta.servlet.ServletException},
+ * which is not on the classpath of a WebFlux application. They are mapped by
+ * {@link Builder#withServletDefaults()} only, so that
+ * {@link #reactiveDefaults()} never loads them.
+ *
+ * @author samueladebowale
+ */
+public final class ExceptionMappings {
+
+    static final ExceptionMapping FALLBACK
+            = new ExceptionMapping(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.SYS_DEFINED_ERR_CODE, null);
+
+    private static final boolean SERVLET_PRESENT
+            = ClassUtils.isPresent("jakarta.servlet.ServletException", ExceptionMappings.class.getClassLoader());
+
+    private static final ExceptionMappings DEFAULTS = SERVLET_PRESENT
+            ? builder().withDefaults().withServletDefaults().build()
+            : builder().withDefaults().withReactiveDefaults().build();
+
+    private static final ExceptionMappings REACTIVE_DEFAULTS
+            = builder().withDefaults().withReactiveDefaults().build();
+
+    private final Map<Class<?>, ExceptionMapping> mappings;
+
+    private final ClassValue<ExceptionMapping> resolved = new ClassValue<>() {
+        @Override
+        protected ExceptionMapping computeValue(Class<?> type) {
+            for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+                ExceptionMapping mapping = mappings.get(c);
+                if (mapping != null) {
+                    return mapping;
+                }
+            }
+            return FALLBACK;
+        }
+    };
+
+    private ExceptionMappings(Map<Class<?>, ExceptionMapping> mappings) {
+        this.mappings = Map.copyOf(mappings);
+    }
+
+    /**
+     *
+     * @return the mappings of the component's exceptions, of the validation
+     * exceptions and of the common Spring MVC exceptions, or of the WebFlux
+     * ones when the servlet API is missing
+     */
+    public static ExceptionMappings defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     *
+     * @return the mappings of the component's exceptions, of the validation
+     * exceptions and of the common WebFlux exceptions
+     */
+    public static ExceptionMappings reactiveDefaults() {
+        return REACTIVE_DEFAULTS;
+    }
+
+    /**
+     *
+     * @return an empty builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     *
+     * @param type
+     * @return the mapping of the type or of its nearest mapped superclass
+     */
+    public ExceptionMapping resolve(Class<? extends Throwable> type) {
+        return resolved.get(type);
+    }
+
+    /**
+     *
+     * @return the mappings by exception type, unmodifiable
+     */
+    public Map<Class<?>, ExceptionMapping> getMappings() {
+        return mappings;
+    }
+
+    /**
+     *
+     */
+    public static final class Builder {
+
+        private final Map<Class<?>, ExceptionMapping> mappings = new HashMap<>();
+
+        private Builder() {
+
+        }
+
+        /**
+         * Adds the mappings of the component's exceptions, of the validation
+         * exceptions and of the Spring exceptions common to Spring MVC and
+         * WebFlux; mappings added afterwards replace them.
+         *
+         * @return this builder
+         */
+        public Builder withDefaults() {
+            // carry their own status, code and localized reason
+            map(ApplicationDefinedRuntimeException.class, null, null);
+            map(ApiResponseException.class, null, ErrorCode.APP_DEFINED_ERR_CODE);
+
+            map(ActivationTokenValidationException.class, HttpStatus.EXPECTATION_FAILED,
+                    ErrorCode.INVALID_ACTIVATION_TOKEN_ERR_CODE);
+            map(AuthenticationError.class, HttpStatus.UNAUTHORIZED, ErrorCode.AUTHENTICATION_ERR_CODE);
+            map(BlockedProfileAttemptsLoginWarning.class, HttpStatus.FORBIDDEN,
+                    ErrorCode.BLOCKED_PROFILE_REQUEST_ERR_CODE);
+            map(InvalidJwtTokenException.class, HttpStatus.UNAUTHORIZED, ErrorCode.INVALID_JWT_TOKEN_ERR_CODE);
+            map(NewLocationTokenValidationException.class, HttpStatus.EXPECTATION_FAILED,
+                    ErrorCode.INVALID_NEWLOCATION_TOKEN_ERR_CODE);
+            map(PasswordNotAcceptableException.class, HttpStatus.PRECONDITION_REQUIRED,
+                    ErrorCode.INVALID_PASSWORD_ERR_CODE);
+            map(ResetPasswordTokenValidationException.class, HttpStatus.EXPECTATION_FAILED,
+                    ErrorCode.INVALID_ACTIVATION_TOKEN_ERR_CODE);
+            map(SessionExpiredException.class, HttpStatus.UNAUTHORIZED, ErrorCode.EXPIRED_SESSION_ERR_CODE);
+            map(TooManyRequestException.class, HttpStatus.TOO_MANY_REQUESTS, ErrorCode.TOO_MANY_REQUEST_ERR_CODE);
+            map(UnauthenticatedUserException.class, HttpStatus.UNAUTHORIZED,
+                    ErrorCode.UNAUTHENTICATED_USER_ERR_CODE);
+            map(EmployeeAlreadyExistException.class, HttpStatus.CONFLICT, ErrorCode.EMP_EXIST_ERR_CODE);
+            map(EmployeeNotFoundException.class, HttpStatus.NOT_FOUND, ErrorCode.EMP_NOT_FOUND_ERR_CODE);
+            map(ApplicationServiceException.class, HttpStatus.UNPROCESSABLE_ENTITY, ErrorCode.APP_SERVER_ERR_CODE);
+            map(BadRequestException.class, HttpStatus.BAD_REQUEST, ErrorCode.BAD_REQUEST_ERR_CODE);
+            map(ResourceAlreadyExistException.class, HttpStatus.CONFLICT, ErrorCode.RESOURCE_EXIST_ERR_CODE);
+            map(ResourceNotFoundException.class, HttpStatus.NOT_FOUND, ErrorCode.GENERIC_NOT_FOUND_ERR_CODE);
+            map(ServerTimeoutRequestException.class, HttpStatus.GATEWAY_TIMEOUT,
+                    ErrorCode.UNAVAILABLE_SERVICE_ERR_CODE);
+            map(ServiceUnavailableException.class, HttpStatus.SERVICE_UNAVAILABLE,
+                    ErrorCode.UNAVAILABLE_SERVICE_ERR_CODE);
+            map(UnexpectedResultException.class, HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.SYS_DEFINED_ERR_CODE);
+            map(UnusualLocationException.class, HttpStatus.EXPECTATION_FAILED, ErrorCode.UNUSUAL_LOCATION_ERR_CODE);
+            map(InsufficientFundException.class, HttpStatus.PRECONDITION_REQUIRED,
+                    ErrorCode.INSUFFICIENT_FUND_ERR_CODE);
+            map(UserAlreadyExistException.class, HttpStatus.CONFLICT, ErrorCode.USER_EXIST_ERR_CODE);
+            map(UserHasNoAttributesException.class, HttpStatus.PRECONDITION_REQUIRED,
+                    ErrorCode.NOATTRIBUTES_PROFILE_ERR_CODE);
+            map(UserProfileDisabledException.class, HttpStatus.PRECONDITION_REQUIRED,
+                    ErrorCode.DISABLED_PROFILE_ERR_CODE);
+            map(UserProfileExpiredException.class, HttpStatus.PRECONDITION_REQUIRED,
+                    ErrorCode.EXPIRED_PROFILE_ERR_CODE);
+            map(UserProfileLockedException.class, HttpStatus.LOCKED, ErrorCode.LOCKED_PROFILE_ERR_CODE);
+            map(UserProfileUnverifiedException.class, HttpStatus.LOCKED, ErrorCode.UNVERIFIED_PROFILE_ERR_CODE);
+
+            map(InvalidInputException.class, HttpStatus.UNPROCESSABLE_ENTITY, ErrorCode.INVALID_INPUT_ERR_CODE);
+            map(ConstraintViolationException.class, HttpStatus.BAD_REQUEST, ErrorCode.CONSTRAINT_VIOLATION_ERR_CODE);
+            map(CustomConstraintViolationException.class, HttpStatus.UNPROCESSABLE_ENTITY,
+                    ErrorCode.CONSTRAINT_VIOLATION_ERR_CODE);
+            map(BindException.class, HttpStatus.BAD_REQUEST, ErrorCode.CONSTRAINT_VIOLATION_ERR_CODE);
+
+            map(ResponseStatusException.class, null, ErrorCode.APP_DEFINED_ERR_CODE);
+            map(ErrorResponseException.class, null, ErrorCode.APP_DEFINED_ERR_CODE);
+            map(HttpMessageNotReadableException.class, HttpStatus.BAD_REQUEST, ErrorCode.BAD_REQUEST_ERR_CODE);
+            map(TypeMismatchException.class, HttpStatus.BAD_REQUEST, ErrorCode.INVALID_PARAMETER_ERR_CODE);
+            map(AsyncRequestTimeoutException.class, HttpStatus.SERVICE_UNAVAILABLE,
+                    ErrorCode.REQUEST_TIMEOUT_ERR_CODE);
+            return this;
+        }
+
+        /**
+         * Adds the mappings of the Spring MVC exceptions, which need the
+         * servlet API on the classpath.
+         *
+         * @return this builder
+         */
+        public Builder withServletDefaults() {
+            map(ServletRequestBindingException.class, HttpStatus.BAD_REQUEST, ErrorCode.INVALID_PARAMETER_ERR_CODE);
+            map(HttpRequestMethodNotSupportedException.class, HttpStatus.METHOD_NOT_ALLOWED,
+                    ErrorCode.BAD_REQUEST_ERR_CODE);
+            map(HttpMediaTypeNotSupportedException.class, HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                    ErrorCode.BAD_REQUEST_ERR_CODE);
+            map(HttpMediaTypeNotAcceptableException.class, HttpStatus.NOT_ACCEPTABLE,
+                    ErrorCode.BAD_REQUEST_ERR_CODE);
+            map(NoHandlerFoundException.class, HttpStatus.NOT_FOUND, ErrorCode.GENERIC_NOT_FOUND_ERR_CODE);
+            map(NoResourceFoundException.class, HttpStatus.NOT_FOUND, ErrorCode.GENERIC_NOT_FOUND_ERR_CODE);
+            return this;
+        }
+
+        /**
+         * Adds the mappings of the WebFlux counterparts of the Spring MVC
+         * exceptions of {@link #withServletDefaults()}.
+         *
+         * @return this builder
+         */
+        public Builder withReactiveDefaults() {
+            map(ServerWebInputException.class, HttpStatus.BAD_REQUEST, ErrorCode.INVALID_PARAMETER_ERR_CODE);
+            map(MethodNotAllowedException.class, HttpStatus.METHOD_NOT_ALLOWED, ErrorCode.BAD_REQUEST_ERR_CODE);
+            map(UnsupportedMediaTypeStatusException.class, HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                    ErrorCode.BAD_REQUEST_ERR_CODE);
+            map(NotAcceptableStatusException.class, HttpStatus.NOT_ACCEPTABLE, ErrorCode.BAD_REQUEST_ERR_CODE);
+            return this;
+        }
+
+        /**
+         *
+         * @param type
+         * @param status the status, null to use the exception's
+         * @param errorCode the error code, null to use the exception's
+         * @return this builder
+         */
+        public Builder map(Class<? extends Throwable> type, HttpStatus status, ErrorCode errorCode) {
+            return map(type, status, errorCode, null);
+        }
+
+        /**
+         *
+         * @param type
+         * @param status the status, null to use the exception's
+         * @param errorCode the error code, null to use the exception's
+         * @param messageKey the response message key, null for the error
+         * code's
+         * @return this builder
+         */
+        public Builder map(Class<? extends Throwable> type, HttpStatus status, ErrorCode errorCode,
+                String messageKey) {
+            mappings.put(type, new ExceptionMapping(status, errorCode, messageKey));
+            return this;
+        }
+
+        /**
+         *
+         * @return the dispatch table
+         */
+        public ExceptionMappings build() {
+            return new ExceptionMappings(mappings);
+        }
+    }
+}
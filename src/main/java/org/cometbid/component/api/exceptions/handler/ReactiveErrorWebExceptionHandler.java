@@ -0,0 +1,244 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.exceptions.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.ZoneId;
+import java.util.Locale;
+import org.apache.commons.lang3.LocaleUtils;
+import org.cometbid.component.api.interceptors.CustomLocaleChangeWebFilter;
+import org.cometbid.component.api.interceptors.CustomTimezoneChangeWebFilter;
+import org.cometbid.component.api.jackson.ErrorResponseTemplates;
+import org.cometbid.component.api.jackson.ErrorResponseTemplates.Template;
+import org.cometbid.component.api.jackson.PooledResponseEncoder;
+import org.cometbid.component.api.metrics.ErrorMetrics;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.AppResponse;
+import org.cometbid.component.api.response.model.ResponseFactory;
+import org.cometbid.component.api.response.model.ResponseSettings;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.cometbid.component.api.util.ReactiveRequestContext;
+import org.cometbid.component.api.util.RequestContext;
+import org.cometbid.component.api.util.TimeZoneUtils;
+import org.springframework.boot.web.reactive.error.ErrorWebExceptionHandler;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+/**
+ * WebFlux counterpart of {@link RestExceptionHandler}: turns the errors
+ * signalled by the handlers, e.g. through {@code ErrorPublisher.raise*},
+ * into {@link AppResponse} bodies.
+ * <p>
+ * The body is encoded by a {@link PooledResponseEncoder} straight into a
+ * buffer of the response's {@code DataBufferFactory}, pooled on Reactor
+ * Netty, which the response releases after writing. All of this is
+ * in-memory work done on the calling thread, without blocking. Errors that carry nothing beyond their status
+ * and error code are written from pre-encoded {@link ErrorResponseTemplates}
+ * instead, without building an {@link ApiError}.
+ * <p>
+ * Exception handlers run outside the filter chain, so the request locale
+ * and zone are taken from the Reactor {@code Context} when present, else
+ * from the exchange attributes set by {@link CustomLocaleChangeWebFilter}
+ * and {@link CustomTimezoneChangeWebFilter}, else from the exchange's
+ * {@code Accept-Language} resolution. Locale, zone and trace id are passed
+ * explicitly to the translator and the encoder; no thread-local state is
+ * bound or read on the event loop thread, which serves other requests
+ * in between.
+ * <p>
+ * The headers of an {@link org.springframework.web.ErrorResponse}, e.g.
+ * {@code Allow} for a 405, are copied onto the response.
+ *
+ * @author samueladebowale
+ */
+public class ReactiveErrorWebExceptionHandler implements ErrorWebExceptionHandler, Ordered {
+
+    /**
+     * Ahead of Spring Boot's {@code DefaultErrorWebExceptionHandler}.
+     */
+    public static final int DEFAULT_ORDER = -2;
+
+    private static final Locale DEFAULT_LOCALE = LocaleUtils.toLocale(LocaleContextUtils.DEFAULT_LANG_CODE);
+
+    private final ErrorResponseTranslator translator;
+    private final PooledResponseEncoder encoder;
+    private final ErrorResponseTemplates templates;
+    private int order = DEFAULT_ORDER;
+
+    /**
+     *
+     * @param responseFactory
+     * @param objectMapper
+     */
+    public ReactiveErrorWebExceptionHandler(ResponseFactory responseFactory, ObjectMapper objectMapper) {
+        this(new ErrorResponseTranslator(responseFactory, ExceptionMappings.reactiveDefaults()), objectMapper);
+    }
+
+    /**
+     *
+     * @param translator
+     * @param objectMapper
+     */
+    public ReactiveErrorWebExceptionHandler(ErrorResponseTranslator translator, ObjectMapper objectMapper) {
+        this(translator, new PooledResponseEncoder(objectMapper));
+    }
+
+    /**
+     *
+     * @param translator
+     * @param encoder
+     */
+    public ReactiveErrorWebExceptionHandler(ErrorResponseTranslator translator, PooledResponseEncoder encoder) {
+        this(translator, encoder, new ErrorResponseTemplates(translator.getResponseFactory()));
+    }
+
+    /**
+     *
+     * @param translator
+     * @param encoder
+     * @param templates the templates built from the translator's response
+     * factory, null to always answer with an {@link ApiError}
+     */
+    public ReactiveErrorWebExceptionHandler(ErrorResponseTranslator translator, PooledResponseEncoder encoder,
+            ErrorResponseTemplates templates) {
+        this.translator = translator;
+        this.encoder = encoder;
+        this.templates = templates;
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
+        ServerHttpResponse response = exchange.getResponse();
+        if (response.isCommitted()) {
+            return Mono.error(ex);
+        }
+
+        return Mono.deferContextual(contextView -> {
+            DataBuffer body = encode(exchange, ex, requestContext(exchange, contextView));
+
+            return response.writeWith(Mono.just(body));
+        });
+    }
+
+    @Override
+    public int getOrder() {
+        return order;
+    }
+
+    public void setOrder(int order) {
+        this.order = order;
+    }
+
+    private DataBuffer encode(ServerWebExchange exchange, Throwable ex, RequestContext context) {
+        ServerHttpRequest request = exchange.getRequest();
+        String path = request.getPath().value();
+        String method = request.getMethod().name();
+        exchange.getResponse().getHeaders().addAll(ErrorResponseTranslator.headersOf(ex));
+
+        if (templates != null) {
+            ExceptionMapping mapping = translator.toTemplateMapping(ex, path, method, context.getLocale());
+            if (mapping != null) {
+                return writeTemplate(exchange.getResponse(), mapping, path, method, context);
+            }
+        }
+
+        ApiError apiError = translator.toApiError(ex, path, method, context.getLocale(), context.getTraceId());
+        AppResponse appResponse = translator.toAppResponse(apiError);
+
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatusCode.valueOf(apiError.getStatusCode()));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        ErrorMetrics metrics = translator.getResponseFactory().getMetrics();
+        long startTime = metrics == null ? 0L : metrics.monotonicTime();
+
+        DataBuffer buffer = encoder.encode(appResponse, response.bufferFactory(), context.getZoneId());
+
+        if (metrics != null) {
+            metrics.recordSerializationTime(ErrorCode.fromErrCode(apiError.getErrorCode()), startTime);
+        }
+        return buffer;
+    }
+
+    private DataBuffer writeTemplate(ServerHttpResponse response, ExceptionMapping mapping, String path,
+            String method, RequestContext context) {
+        Template template = templates.get(mapping.errorCode(), mapping.status(), context.getLocale());
+
+        response.setStatusCode(HttpStatusCode.valueOf(mapping.status().value()));
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+        ErrorMetrics metrics = translator.getResponseFactory().getMetrics();
+        long startTime = metrics == null ? 0L : metrics.monotonicTime();
+
+        DataBuffer buffer = response.bufferFactory().allocateBuffer(template.estimatedSize());
+        boolean release = true;
+        try {
+            template.writeTo(buffer.asOutputStream(), path, method, context.getTraceId(),
+                    Math.floorDiv(ResponseSettings.getClock().millis(), 1000), context.getZoneId());
+            release = false;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            if (release) {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        if (metrics != null) {
+            metrics.recordSerializationTime(mapping.errorCode(), startTime);
+        }
+        return buffer;
+    }
+
+    private static RequestContext requestContext(ServerWebExchange exchange, ContextView contextView) {
+        RequestContext context = ReactiveRequestContext.from(contextView);
+
+        if (context.getLocale() == null) {
+            Locale locale = exchange.getAttribute(CustomLocaleChangeWebFilter.LOCALE_ATTRIBUTE);
+            if (locale == null) {
+                locale = exchange.getLocaleContext().getLocale();
+            }
+            context = context.withLocale(locale != null ? locale : DEFAULT_LOCALE);
+        }
+        if (context.getZoneId() == null) {
+            ZoneId zoneId = exchange.getAttribute(CustomTimezoneChangeWebFilter.ZONE_ID_ATTRIBUTE);
+            context = context.withZoneId(zoneId != null ? zoneId : TimeZoneUtils.DEFAULT_ZONEID);
+        }
+        if (context.getTraceId() == null) {
+            String traceId = exchange.getRequest().getHeaders().getFirst(RequestContext.TRACE_ID_KEY);
+            context = context.withTraceId(traceId != null ? traceId : exchange.getRequest().getId());
+        }
+        return context;
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.exceptions.handler;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import org.cometbid.component.api.auth.exceptions.ActivationTokenValidationException;
+import org.cometbid.component.api.auth.exceptions.AuthenticationError;
+import org.cometbid.component.api.auth.exceptions.BlockedProfileAttemptsLoginWarning;
+import org.cometbid.component.api.auth.exceptions.InvalidJwtTokenException;
+import org.cometbid.component.api.auth.exceptions.NewLocationTokenValidationException;
+import org.cometbid.component.api.auth.exceptions.PasswordNotAcceptableException;
+import org.cometbid.component.api.auth.exceptions.SessionExpiredException;
+import org.cometbid.component.api.auth.exceptions.TooManyRequestException;
+import org.cometbid.component.api.auth.exceptions.UnauthenticatedUserException;
+import org.cometbid.component.api.employee.exceptions.EmployeeAlreadyExistException;
+import org.cometbid.component.api.employee.exceptions.EmployeeNotFoundException;
+import org.cometbid.component.api.generic.exceptions.ApiResponseException;
+import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
+import org.cometbid.component.api.generic.exceptions.ApplicationServiceException;
+import org.cometbid.component.api.generic.exceptions.BadRequestException;
+import org.cometbid.component.api.generic.exceptions.ResourceAlreadyExistException;
+import org.cometbid.component.api.generic.exceptions.ResourceNotFoundException;
+import org.cometbid.component.api.generic.exceptions.ServerTimeoutRequestException;
+import org.cometbid.component.api.generic.exceptions.ServiceUnavailableException;
+import org.cometbid.component.api.generic.exceptions.UnexpectedResultException;
+import org.cometbid.component.api.generic.exceptions.UnusualLocationException;
+import org.cometbid.component.api.payment.exceptions.InsufficientFundException;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.user.exceptions.UserAlreadyExistException;
+import org.cometbid.component.api.user.exceptions.UserHasNoAttributesException;
+import org.cometbid.component.api.user.exceptions.UserProfileDisabledException;
+import org.cometbid.component.api.user.exceptions.UserProfileExpiredException;
+import org.cometbid.component.api.user.exceptions.UserProfileLockedException;
+import org.cometbid.component.api.user.exceptions.UserProfileUnverifiedException;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.ResourceBundleAccessor;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Turns an {@link ApiError} received from a downstream service back into
+ * the typed exception of its error code, e.g. {@code USR-NF-001} into a
+ * {@link ResourceNotFoundException}, so that it is handled like a local one.
+ * <p>
+ * The remote error code is resolved through {@link ErrorCode#fromErrCode},
+ * and the exception is built through a {@link MethodHandle} on its static
+ * {@code withReason} factory, resolved when its class is registered: no
+ * reflection happens per error.
+ * The remote message, already localized, becomes the exception's reason as
+ * is, and the remote error travels as an {@link ApiResponseException}
+ * cause. A remote error without message gets the local message of its error
+ * code. Error codes without a
+ * registered exception yield that {@link ApiResponseException} itself.
+ * Several codes may share an exception, e.g. {@code USR-NF-001} and
+ * {@code GEN-NF-001}; the remote code stays available in the context of
+ * the cause.
+ *
+ * @author samueladebowale
+ */
+public final class RemoteExceptionFactory {
+
+    public static final String REMOTE_ERROR_CODE = "remote.errorCode";
+    public static final String REMOTE_PATH = "remote.path";
+    public static final String REMOTE_TRACE_ID = "remote.traceId";
+    public static final String REMOTE_DEBUG_MESSAGE = "remote.debugMessage";
+
+    /**
+     * Static factory every registered exception declares:
+     * {@code withReason(String reason, Throwable ex)}.
+     */
+    private static final String FACTORY_NAME = "withReason";
+
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(ApplicationDefinedRuntimeException.class,
+            String.class, Throwable.class);
+
+    private static final HttpStatus DEFAULT_STATUS = HttpStatus.FAILED_DEPENDENCY;
+
+    private static final RemoteExceptionFactory ONE_INSTANCE = new RemoteExceptionFactory();
+
+    private volatile MethodHandle[] factories = new MethodHandle[ErrorCode.values().length];
+
+    private RemoteExceptionFactory() {
+        register(ErrorCode.APP_SERVER_ERR_CODE, ApplicationServiceException.class);
+        register(ErrorCode.AUTHENTICATION_ERR_CODE, AuthenticationError.class);
+        register(ErrorCode.BAD_REQUEST_ERR_CODE, BadRequestException.class);
+        register(ErrorCode.BLOCKED_PROFILE_REQUEST_ERR_CODE, BlockedProfileAttemptsLoginWarning.class);
+        register(ErrorCode.CONNECTION_TIMEOUT_ERR_CODE, ServerTimeoutRequestException.class);
+        register(ErrorCode.CONSTRAINT_VIOLATION_ERR_CODE, BadRequestException.class);
+        register(ErrorCode.DISABLED_PROFILE_ERR_CODE, UserProfileDisabledException.class);
+        register(ErrorCode.EMP_EXIST_ERR_CODE, EmployeeAlreadyExistException.class);
+        register(ErrorCode.EMP_NOT_FOUND_ERR_CODE, EmployeeNotFoundException.class);
+        register(ErrorCode.EXPIRED_PROFILE_ERR_CODE, UserProfileExpiredException.class);
+        register(ErrorCode.EXPIRED_SESSION_ERR_CODE, SessionExpiredException.class);
+        register(ErrorCode.GENERIC_NOT_FOUND_ERR_CODE, ResourceNotFoundException.class);
+        register(ErrorCode.INSUFFICIENT_FUND_ERR_CODE, InsufficientFundException.class);
+        register(ErrorCode.INVALID_ACTIVATION_TOKEN_ERR_CODE, ActivationTokenValidationException.class);
+        register(ErrorCode.INVALID_JWT_TOKEN_ERR_CODE, InvalidJwtTokenException.class);
+        register(ErrorCode.INVALID_NEWLOCATION_TOKEN_ERR_CODE, NewLocationTokenValidationException.class);
+        register(ErrorCode.INVALID_PASSWORD_ERR_CODE, PasswordNotAcceptableException.class);
+        register(ErrorCode.LOCKED_PROFILE_ERR_CODE, UserProfileLockedException.class);
+        register(ErrorCode.NOATTRIBUTES_PROFILE_ERR_CODE, UserHasNoAttributesException.class);
+        register(ErrorCode.REQUEST_TIMEOUT_ERR_CODE, ServerTimeoutRequestException.class);
+        register(ErrorCode.RESOURCE_EXIST_ERR_CODE, ResourceAlreadyExistException.class);
+        register(ErrorCode.SYS_DEFINED_ERR_CODE, UnexpectedResultException.class);
+        register(ErrorCode.TOO_MANY_REQUEST_ERR_CODE, TooManyRequestException.class);
+        register(ErrorCode.UNAUTHENTICATED_USER_ERR_CODE, UnauthenticatedUserException.class);
+        register(ErrorCode.UNAVAILABLE_SERVICE_ERR_CODE, ServiceUnavailableException.class);
+        register(ErrorCode.UNUSUAL_LOCATION_ERR_CODE, UnusualLocationException.class);
+        register(ErrorCode.UNVERIFIED_PROFILE_ERR_CODE, UserProfileUnverifiedException.class);
+        register(ErrorCode.USER_EXIST_ERR_CODE, UserAlreadyExistException.class);
+        register(ErrorCode.USER_NOT_FOUND_ERR_CODE, ResourceNotFoundException.class);
+    }
+
+    public static RemoteExceptionFactory getInstance() {
+        return ONE_INSTANCE;
+    }
+
+    /**
+     * Maps an error code to an exception class, replacing any previous
+     * mapping.
+     *
+     * @param errorCode the error code
+     * @param exceptionType a public class declaring a public static
+     * {@code withReason(String reason, Throwable ex)} method returning the
+     * class itself
+     * @throws IllegalArgumentException if the class has no such method
+     */
+    public synchronized void register(ErrorCode errorCode,
+            Class<? extends ApplicationDefinedRuntimeException> exceptionType) {
+
+        MethodHandle factory;
+        try {
+            factory = MethodHandles.publicLookup().findStatic(exceptionType, FACTORY_NAME,
+                    MethodType.methodType(exceptionType, String.class, Throwable.class))
+                    .asType(FACTORY_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            throw new IllegalArgumentException(exceptionType.getName()
+                    + " has no public static withReason(String, Throwable) method", ex);
+        }
+
+        MethodHandle[] updated = factories.clone();
+        updated[errorCode.ordinal()] = factory;
+        factories = updated;
+    }
+
+    /**
+     *
+     * @param errorCode
+     * @return true if remote errors with this code become typed exceptions
+     */
+    public boolean isRegistered(ErrorCode errorCode) {
+        return factories[errorCode.ordinal()] != null;
+    }
+
+    /**
+     *
+     * @param apiError the error payload of a downstream service
+     * @return the typed exception of the remote error code, or an
+     * {@link ApiResponseException}
+     */
+    public ApplicationDefinedRuntimeException create(ApiError apiError) {
+        ApplicationDefinedRuntimeException ex = create(apiError.getErrorCode(), apiError.getMessage(),
+                apiError.getStatusCode());
+
+        if (apiError.getPath() != null) {
+            ex.addContextValue(REMOTE_PATH, apiError.getPath());
+        }
+        if (apiError.getTraceId() != null) {
+            ex.addContextValue(REMOTE_TRACE_ID, apiError.getTraceId());
+        }
+        if (apiError.getDebugMessage() != null) {
+            ex.addContextValue(REMOTE_DEBUG_MESSAGE, apiError.getDebugMessage());
+        }
+        return ex;
+    }
+
+    /**
+     *
+     * @param errCode the remote error code, e.g. {@code USR-NF-001}
+     * @param message the remote, already localized, message
+     * @param statusCode the remote HTTP status code
+     * @return the typed exception of the remote error code, or an
+     * {@link ApiResponseException}
+     */
+    public ApplicationDefinedRuntimeException create(String errCode, String message, int statusCode) {
+        HttpStatus status = HttpStatus.resolve(statusCode);
+        ApiResponseException remote = new ApiResponseException(message, status == null ? DEFAULT_STATUS : status,
+                null);
+        if (errCode != null) {
+            remote.addContextValue(REMOTE_ERROR_CODE, errCode);
+        }
+
+        ErrorCode errorCode = ErrorCode.fromErrCode(errCode);
+        MethodHandle factory = errorCode == null ? null : factories[errorCode.ordinal()];
+        if (factory == null) {
+            return remote;
+        }
+
+        String reason = message != null ? message : ResourceBundleAccessor.accessMessageInBundle(errorCode, null);
+        try {
+            return (ApplicationDefinedRuntimeException) factory.invokeExact(reason, (Throwable) remote);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Could not create exception for " + errorCode, ex);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.exceptions.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import org.cometbid.component.api.jackson.ErrorResponseTemplates;
+import org.cometbid.component.api.jackson.PooledResponseEncoder;
+import org.cometbid.component.api.metrics.ErrorMetrics;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.AppResponse;
+import org.cometbid.component.api.response.model.ResponseFactory;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Turns every exception reaching a controller into an {@link AppResponse}
+ * built by the {@link ResponseFactory}.
+ * <p>
+ * Status, error code and message key come from the {@link ExceptionMappings}
+ * dispatch table rather than from a chain of handlers per exception type,
+ * see {@link ErrorResponseTranslator}. The message is rendered for the
+ * request locale bound by the locale interceptor.
+ * <p>
+ * Errors that carry nothing beyond their status and error code, such as the
+ * 404 and 401 responses, are written from pre-encoded
+ * {@link ErrorResponseTemplates} straight to the servlet response, without
+ * building an {@link ApiError}. When built with an {@link ObjectMapper}, the
+ * other error responses are written straight to the servlet response too,
+ * encoded by a {@link PooledResponseEncoder} into recycled buffers instead
+ * of going through the message converters.
+ * <p>
+ * The headers of an {@link org.springframework.web.ErrorResponse}, e.g.
+ * {@code Allow} for a 405, are copied onto the response in every case.
+ * <p>
+ * Ordered last, so handlers declared by the application take precedence.
+ *
+ * @author samueladebowale
+ */
+@RestControllerAdvice
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class RestExceptionHandler {
+
+    private final ErrorResponseTranslator translator;
+    private final ErrorResponseTemplates templates;
+    private final PooledResponseEncoder encoder;
+
+    /**
+     *
+     * @param responseFactory
+     */
+    public RestExceptionHandler(ResponseFactory responseFactory) {
+        this(responseFactory, ExceptionMappings.defaults());
+    }
+
+    /**
+     *
+     * @param responseFactory
+     * @param mappings
+     */
+    public RestExceptionHandler(ResponseFactory responseFactory, ExceptionMappings mappings) {
+        this(responseFactory, mappings, new ErrorResponseTemplates(responseFactory));
+    }
+
+    /**
+     *
+     * @param responseFactory
+     * @param mappings
+     * @param templates the templates built from the factory, null to always
+     * answer with an {@link ApiError}
+     */
+    public RestExceptionHandler(ResponseFactory responseFactory, ExceptionMappings mappings,
+            ErrorResponseTemplates templates) {
+        this(responseFactory, mappings, templates, null);
+    }
+
+    /**
+     *
+     * @param responseFactory
+     * @param objectMapper the mapper the error responses are encoded with
+     */
+    public RestExceptionHandler(ResponseFactory responseFactory, ObjectMapper objectMapper) {
+        this(responseFactory, ExceptionMappings.defaults(), new ErrorResponseTemplates(responseFactory),
+                new PooledResponseEncoder(objectMapper));
+    }
+
+    /**
+     *
+     * @param responseFactory
+     * @param mappings
+     * @param templates the templates built from the factory, null to always
+     * answer with an {@link ApiError}
+     * @param encoder the encoder error responses are written with, null to
+     * return them through the message converters
+     */
+    public RestExceptionHandler(ResponseFactory responseFactory, ExceptionMappings mappings,
+            ErrorResponseTemplates templates, PooledResponseEncoder encoder) {
+        this.translator = new ErrorResponseTranslator(responseFactory, mappings);
+        this.templates = templates;
+        this.encoder = encoder;
+    }
+
+    /**
+     * Writes the response from a template when the error allows it, else
+     * with the encoder when set, else returns it as with
+     * {@link #handleException(Exception, HttpServletRequest)}.
+     *
+     * @param ex
+     * @param request
+     * @param response
+     * @return the response entity, null if the response was written
+     * @throws IOException
+     */
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<AppResponse> handleException(Exception ex, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        if (templates != null) {
+            Locale locale = LocaleContextUtils.getContextLocale();
+            ExceptionMapping mapping = translator.toTemplateMapping(ex, request.getRequestURI(),
+                    request.getMethod(), locale);
+            if (mapping != null) {
+                addHeaders(ex, response);
+                templates.write(request, response, mapping.errorCode(), mapping.status());
+                return null;
+            }
+        }
+        if (encoder != null) {
+            addHeaders(ex, response);
+            write(toApiError(ex, request.getRequestURI(), request.getMethod()), response);
+            return null;
+        }
+        return handleException(ex, request);
+    }
+
+    /**
+     *
+     * @param ex
+     * @param request
+     * @return the response entity wrapping the {@link ApiError} of the
+     * exception
+     */
+    public ResponseEntity<AppResponse> handleException(Exception ex, HttpServletRequest request) {
+        ApiError apiError = toApiError(ex, request.getRequestURI(), request.getMethod());
+
+        return ResponseEntity.status(apiError.getStatusCode())
+                .headers(ErrorResponseTranslator.headersOf(ex))
+                .body(translator.toAppResponse(apiError));
+    }
+
+    /**
+     *
+     * @param ex
+     * @param path
+     * @param method
+     * @return the error for the exception
+     */
+    public ApiError toApiError(Exception ex, String path, String method) {
+        return translator.toApiError(ex, path, method, LocaleContextUtils.getContextLocale());
+    }
+
+    private static void addHeaders(Exception ex, HttpServletResponse response) {
+        HttpHeaders headers = ErrorResponseTranslator.headersOf(ex);
+        headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+    }
+
+    private void write(ApiError apiError, HttpServletResponse response) throws IOException {
+        AppResponse appResponse = translator.toAppResponse(apiError);
+        response.setStatus(apiError.getStatusCode());
+
+        ErrorMetrics metrics = translator.getResponseFactory().getMetrics();
+        long startTime = metrics == null ? 0L : metrics.monotonicTime();
+
+        encoder.write(appResponse, response);
+
+        if (metrics != null) {
+            metrics.recordSerializationTime(ErrorCode.fromErrCode(apiError.getErrorCode()), startTime);
+        }
+    }
+}
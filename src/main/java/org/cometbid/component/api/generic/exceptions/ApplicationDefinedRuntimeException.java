@@ -27,17 +27,25 @@ package org.cometbid.component.api.generic.exceptions;
  * @author Gbenga
  *
  */
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Set;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.DefaultExceptionContext;
 import org.apache.commons.lang3.exception.ExceptionContext;
 import org.apache.commons.lang3.tuple.Pair;
 import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.LocaleContextUtils;
 import org.cometbid.component.api.util.ResourceBundleAccessor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
 import org.springframework.web.server.ResponseStatusException;
 
 /**
@@ -56,10 +64,39 @@ public class ApplicationDefinedRuntimeException extends ResponseStatusException
 
     private static final HttpStatus STATUS = HttpStatus.INTERNAL_SERVER_ERROR;
 
+    private static final Object[] NO_ARGS = {};
+
+    /**
+     * The context where the data is stored, allocated when the first value is
+     * added.
+     */
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private ExceptionContext exceptionContext;
+
     /**
-     * The context where the data is stored.
+     * Message key and arguments kept when the localized message is resolved
+     * lazily, see {@link ExceptionSettings#isLazyMessageResolution()}. The
+     * arguments need not be serializable: the reason is rendered before the
+     * exception is serialized, and they are not serialized.
      */
-    private final ExceptionContext exceptionContext;
+    @Setter(AccessLevel.NONE)
+    private final String messageKey;
+
+    @Setter(AccessLevel.NONE)
+    private final transient Object[] messageArgs;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Locale messageLocale;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private String resolvedReason;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient String resolvedErrorMessage;
 
     /**
      * Instantiates ApplicationDefinedRuntimeException without message or cause.
@@ -71,7 +108,9 @@ public class ApplicationDefinedRuntimeException extends ResponseStatusException
      */
     public ApplicationDefinedRuntimeException() {
         super(STATUS, "Unexpected runtime error occured");
-        exceptionContext = new DefaultExceptionContext();
+        messageKey = null;
+        messageArgs = null;
+        messageLocale = null;
     }
 
     /**
@@ -86,7 +125,9 @@ public class ApplicationDefinedRuntimeException extends ResponseStatusException
      */
     public ApplicationDefinedRuntimeException(final String message, final Throwable cause) {
         super(STATUS, message, cause);
-        exceptionContext = new DefaultExceptionContext();
+        messageKey = null;
+        messageArgs = null;
+        messageLocale = null;
     }
 
     /**
@@ -100,7 +141,9 @@ public class ApplicationDefinedRuntimeException extends ResponseStatusException
      */
     public ApplicationDefinedRuntimeException(final HttpStatus status, final String message) {
         super(status, message);
-        exceptionContext = new DefaultExceptionContext();
+        messageKey = null;
+        messageArgs = null;
+        messageLocale = null;
     }
 
     /**
@@ -114,7 +157,9 @@ public class ApplicationDefinedRuntimeException extends ResponseStatusException
      */
     public ApplicationDefinedRuntimeException(final HttpStatus status, final Throwable cause) {
         super(status, cause.getMessage(), cause);
-        exceptionContext = new DefaultExceptionContext();
+        messageKey = null;
+        messageArgs = null;
+        messageLocale = null;
     }
 
     /**
@@ -128,7 +173,9 @@ public class ApplicationDefinedRuntimeException extends ResponseStatusException
      */
     public ApplicationDefinedRuntimeException(final HttpStatus status, final String message, final Throwable cause) {
         super(status, message, cause);
-        exceptionContext = new DefaultExceptionContext();
+        messageKey = null;
+        messageArgs = null;
+        messageLocale = null;
     }
 
     /**
@@ -144,10 +191,40 @@ public class ApplicationDefinedRuntimeException extends ResponseStatusException
     public ApplicationDefinedRuntimeException(final HttpStatus status, final String message, final Throwable cause,
             ExceptionContext context) {
         super(status, message, cause);
-        if (context == null) {
-            context = new DefaultExceptionContext();
-        }
         exceptionContext = context;
+        messageKey = null;
+        messageArgs = null;
+        messageLocale = null;
+    }
+
+    /**
+     * Instantiates ApplicationDefinedRuntimeException from a message key in
+     * the response message bundles.
+     * <p>
+     * The message is rendered immediately for the caller's locale, unless
+     * lazy resolution is enabled through {@link ExceptionSettings}, in which
+     * case only the key, the arguments and the caller's locale are kept
+     * until the message is first read.
+     *
+     * @param status
+     * @param messageKey the message key, may be null
+     * @param args the message arguments, may be null
+     * @param cause the underlying cause of the exception, may be null
+     */
+    protected ApplicationDefinedRuntimeException(final HttpStatus status, final String messageKey,
+            final Object[] args, final Throwable cause) {
+        super(status, ExceptionSettings.isLazyMessageResolution() || messageKey == null
+                ? null : ResourceBundleAccessor.accessMessageInBundle(messageKey, args), cause);
+
+        if (ExceptionSettings.isLazyMessageResolution() && messageKey != null) {
+            this.messageKey = messageKey;
+            this.messageArgs = args;
+            this.messageLocale = LocaleContextUtils.getContextLocale();
+        } else {
+            this.messageKey = null;
+            this.messageArgs = null;
+            this.messageLocale = null;
+        }
     }
 
     // -----------------------------------------------------------------------
@@ -169,7 +246,7 @@ public class ApplicationDefinedRuntimeException extends ResponseStatusException
      */
     @Override
     public ApplicationDefinedRuntimeException addContextValue(final String label, final Object value) {
-        exceptionContext.addContextValue(label, value);
+        getExceptionContext().addContextValue(label, value);
         return this;
     }
 
@@ -191,7 +268,7 @@ public class ApplicationDefinedRuntimeException extends ResponseStatusException
      */
     @Override
     public ApplicationDefinedRuntimeException setContextValue(final String label, final Object value) {
-        exceptionContext.setContextValue(label, value);
+        getExceptionContext().setContextValue(label, value);
         return this;
     }
 
@@ -200,7 +277,7 @@ public class ApplicationDefinedRuntimeException extends ResponseStatusException
      */
     @Override
     public List<Object> getContextValues(final String label) {
-        return this.exceptionContext.getContextValues(label);
+        return exceptionContext == null ? Collections.emptyList() : exceptionContext.getContextValues(label);
     }
 
     /**
@@ -208,7 +285,7 @@ public class ApplicationDefinedRuntimeException extends ResponseStatusException
      */
     @Override
     public Object getFirstContextValue(final String label) {
-        return this.exceptionContext.getFirstContextValue(label);
+        return exceptionContext == null ? null : exceptionContext.getFirstContextValue(label);
     }
 
     /**
@@ -216,7 +293,7 @@ public class ApplicationDefinedRuntimeException extends ResponseStatusException
      */
     @Override
     public List<Pair<String, Object>> getContextEntries() {
-        return this.exceptionContext.getContextEntries();
+        return exceptionContext == null ? Collections.emptyList() : exceptionContext.getContextEntries();
     }
 
     /**
@@ -224,7 +301,7 @@ public class ApplicationDefinedRuntimeException extends ResponseStatusException
      */
     @Override
     public Set<String> getContextLabels() {
-        return exceptionContext.getContextLabels();
+        return exceptionContext == null ? Collections.emptySet() : exceptionContext.getContextLabels();
     }
 
     /**
@@ -236,7 +313,7 @@ public class ApplicationDefinedRuntimeException extends ResponseStatusException
      */
     @Override
     public String getMessage() {
-        return getFormattedExceptionMessage(super.getMessage());
+        return getFormattedExceptionMessage(getRawMessage());
     }
 
     /**
@@ -248,7 +325,50 @@ public class ApplicationDefinedRuntimeException extends ResponseStatusException
      * @since 3.0.1
      */
     public String getRawMessage() {
-        return super.getMessage();
+        if (messageKey == null) {
+            return super.getMessage();
+        }
+        String reason = getReason();
+        return getStatusCode() + (reason != null ? " \"" + reason + "\"" : "");
+    }
+
+    /**
+     * Provides the localized reason, rendering it on first access when the
+     * exception was created with lazy message resolution. The rendered reason
+     * also becomes the detail of the {@link #getBody() ProblemDetail}.
+     *
+     * @return the reason, may be null
+     */
+    @Override
+    public String getReason() {
+        if (messageKey == null) {
+            return super.getReason();
+        }
+
+        String reason = resolvedReason;
+        if (reason == null) {
+            reason = ResourceBundleAccessor.accessMessageInBundle(messageKey, messageArgs, messageLocale);
+            resolvedReason = reason;
+            setDetail(reason);
+        }
+        return reason;
+    }
+
+    /**
+     * Provides the {@link ProblemDetail}, its detail rendered first when the
+     * message is resolved lazily, so that the body written by Spring's
+     * exception handlers, e.g. through
+     * {@link #updateAndGetBody(org.springframework.context.MessageSource, Locale)},
+     * always carries the reason.
+     *
+     * @return the body
+     */
+    @Override
+    public ProblemDetail getBody() {
+        if (messageKey != null) {
+            getReason();
+        }
+        return super.getBody();
     }
 
     /**
@@ -260,12 +380,23 @@ public class ApplicationDefinedRuntimeException extends ResponseStatusException
     }
 
     /**
+     * Provides the localized message of the {@link #getErrorCode() error
+     * code}, rendered on first access for the locale captured with the
+     * message key, or else the caller's locale.
      *
-     * @return
+     * @return the error message
      */
     public String getErrorMessage() {
-        String msgKey = ErrorCode.APP_DEFINED_ERR_CODE.getErrMsgKey();
-        return ResourceBundleAccessor.accessMessageInBundle(msgKey, new Object[]{});
+        String errorMessage = resolvedErrorMessage;
+        if (errorMessage == null) {
+            ErrorCode errorCode = ErrorCode.fromErrCode(getErrorCode());
+            Locale locale = messageLocale != null ? messageLocale : LocaleContextUtils.getContextLocale();
+
+            errorMessage = ResourceBundleAccessor.accessMessageInBundle(
+                    errorCode != null ? errorCode : ErrorCode.APP_DEFINED_ERR_CODE, NO_ARGS, locale);
+            resolvedErrorMessage = errorMessage;
+        }
+        return errorMessage;
     }
 
     /**
@@ -273,6 +404,44 @@ public class ApplicationDefinedRuntimeException extends ResponseStatusException
      */
     @Override
     public String getFormattedExceptionMessage(final String baseMessage) {
+        if (exceptionContext == null) {
+            return StringUtils.defaultString(baseMessage);
+        }
         return exceptionContext.getFormattedExceptionMessage(baseMessage);
     }
+
+    /**
+     *
+     * @return the context storing the additional information, never null
+     */
+    public ExceptionContext getExceptionContext() {
+        if (exceptionContext == null) {
+            exceptionContext = new DefaultExceptionContext();
+        }
+        return exceptionContext;
+    }
+
+    /**
+     * Skips capturing the stack trace when the exception's error code is
+     * configured as stackless in {@link ExceptionSettings}.
+     * <p>
+     * Called from the {@link Throwable} constructor, before any field of this
+     * class is assigned, so {@link #getErrorCode()} must not depend on
+     * instance state.
+     *
+     * @return {@code this}
+     */
+    @Override
+    public Throwable fillInStackTrace() {
+        if (ExceptionSettings.isStackless(getErrorCode())) {
+            return this;
+        }
+        return super.fillInStackTrace();
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        // the message arguments are not serialized, render the reason with them now
+        getReason();
+        out.defaultWriteObject();
+    }
 }
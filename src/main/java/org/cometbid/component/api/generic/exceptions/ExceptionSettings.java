@@ -0,0 +1,137 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.generic.exceptions;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+import org.cometbid.component.api.util.ErrorCode;
+
+/**
+ * Process-wide switches controlling how {@link ApplicationDefinedRuntimeException}
+ * and its subclasses are built.
+ * <p>
+ * Defaults are read from system properties at startup and can be changed
+ * programmatically, e.g. from an application configuration class.
+ *
+ * @author samueladebowale
+ */
+public final class ExceptionSettings {
+
+    public static final String LAZY_MESSAGE_PROPERTY = "cometbid.exception.lazy-message";
+
+    /**
+     * Either {@code true} to make every exception stackless, or a comma
+     * separated list of error codes, e.g. {@code GEN-NF-001,USR-EXIST-001}.
+     */
+    public static final String STACKLESS_PROPERTY = "cometbid.exception.stackless";
+
+    private static volatile boolean lazyMessageResolution = Boolean.getBoolean(LAZY_MESSAGE_PROPERTY);
+
+    private static volatile boolean stacklessByDefault;
+
+    private static volatile Set<String> stacklessErrorCodes = Set.of();
+
+    static {
+        String stackless = System.getProperty(STACKLESS_PROPERTY);
+
+        if (Boolean.parseBoolean(stackless)) {
+            stacklessByDefault = true;
+        } else if (StringUtils.isNotBlank(stackless)) {
+            stacklessErrorCodes = Arrays.stream(stackless.split(","))
+                    .map(String::trim)
+                    .filter(StringUtils::isNotEmpty)
+                    .collect(Collectors.toUnmodifiableSet());
+        }
+    }
+
+    private ExceptionSettings() {
+    }
+
+    /**
+     * When enabled, exceptions created from a message key only keep the key,
+     * the arguments and the caller's locale, and render the localized message
+     * the first time it is read. Exceptions that are caught and discarded
+     * never pay for the bundle lookup and formatting.
+     *
+     * @return true if localized messages are resolved on first access
+     */
+    public static boolean isLazyMessageResolution() {
+        return lazyMessageResolution;
+    }
+
+    /**
+     *
+     * @param lazy
+     */
+    public static void setLazyMessageResolution(boolean lazy) {
+        lazyMessageResolution = lazy;
+    }
+
+    /**
+     * Stackless exceptions skip {@link Throwable#fillInStackTrace()}, which
+     * is the dominant cost of exceptions used for expected business
+     * outcomes, such as a missing resource or a duplicate user.
+     *
+     * @param errorCode the application error code of the exception
+     * @return true if exceptions with this error code capture no stack trace
+     */
+    public static boolean isStackless(String errorCode) {
+        return stacklessByDefault || (errorCode != null && stacklessErrorCodes.contains(errorCode));
+    }
+
+    /**
+     *
+     * @return true if every exception is created without a stack trace
+     */
+    public static boolean isStacklessByDefault() {
+        return stacklessByDefault;
+    }
+
+    /**
+     *
+     * @param stackless
+     */
+    public static void setStacklessByDefault(boolean stackless) {
+        stacklessByDefault = stackless;
+    }
+
+    /**
+     *
+     * @param errorCode
+     * @param stackless
+     */
+    public static synchronized void setStackless(ErrorCode errorCode, boolean stackless) {
+        Set<String> errorCodes = new HashSet<>(stacklessErrorCodes);
+
+        if (stackless) {
+            errorCodes.add(errorCode.getErrCode());
+        } else {
+            errorCodes.remove(errorCode.getErrCode());
+        }
+        stacklessErrorCodes = Set.copyOf(errorCodes);
+    }
+}
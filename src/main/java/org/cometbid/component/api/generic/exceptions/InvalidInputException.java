@@ -88,8 +88,7 @@ public class InvalidInputException extends ResponseStatusException {
      * @return
      */
     public String getErrorMessage() {
-        String msgKey = ErrorCode.INVALID_INPUT_ERR_CODE.getErrMsgKey();
-        return ResourceBundleAccessor.accessMessageInBundle(msgKey, new Object[]{});
+        return ResourceBundleAccessor.accessMessageInBundle(ErrorCode.INVALID_INPUT_ERR_CODE, new Object[]{});
     }
 
 }
@@ -25,7 +25,6 @@ package org.cometbid.component.api.generic.exceptions;
 
 import org.springframework.http.HttpStatus;
 import org.cometbid.component.api.util.ErrorCode;
-import org.cometbid.component.api.util.ResourceBundleAccessor;
 
 /**
  * @author Gbenga
@@ -71,24 +70,37 @@ public class UnexpectedResultException extends ApplicationDefinedRuntimeExceptio
      * @param ex
      */
     public UnexpectedResultException(String messagekey, Object[] args, Throwable ex) {
-        super(STATUS, ResourceBundleAccessor.accessMessageInBundle(messagekey, args), ex);
+        super(STATUS, messagekey, args, ex);
     }
 
     /**
      *
+     * @param reason the already rendered message
+     * @param ex
+     * @see #withReason(String, Throwable)
      */
-    @Override
-    public String getErrorCode() {
-        return ErrorCode.SYS_DEFINED_ERR_CODE.getErrCode();
+    protected UnexpectedResultException(String reason, Throwable ex) {
+        super(STATUS, reason, ex);
+    }
+
+    /**
+     * Creates the exception with an already rendered message, e.g. one
+     * received from a remote service, instead of a message key.
+     *
+     * @param reason the already rendered message
+     * @param ex
+     * @return the exception
+     */
+    public static UnexpectedResultException withReason(String reason, Throwable ex) {
+        return new UnexpectedResultException(reason, ex);
     }
 
     /**
      *
      */
     @Override
-    public String getErrorMessage() {
-        String msgKey = ErrorCode.SYS_DEFINED_ERR_CODE.getErrMsgKey();
-        return ResourceBundleAccessor.accessMessageInBundle(msgKey, new Object[]{});
+    public String getErrorCode() {
+        return ErrorCode.SYS_DEFINED_ERR_CODE.getErrCode();
     }
 
 }
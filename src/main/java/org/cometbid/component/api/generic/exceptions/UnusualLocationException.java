@@ -25,7 +25,6 @@ package org.cometbid.component.api.generic.exceptions;
 
 import org.springframework.http.HttpStatus;
 import org.cometbid.component.api.util.ErrorCode;
-import org.cometbid.component.api.util.ResourceBundleAccessor;
 
 /**
  * @author Gbenga
@@ -67,24 +66,37 @@ public class UnusualLocationException extends ApplicationDefinedRuntimeException
      * @param ex
      */
     public UnusualLocationException(String messagekey, Object[] args, Throwable ex) {
-        super(STATUS, ResourceBundleAccessor.accessMessageInBundle(messagekey, args), ex);
+        super(STATUS, messagekey, args, ex);
     }
 
     /**
      *
+     * @param reason the already rendered message
+     * @param ex
+     * @see #withReason(String, Throwable)
      */
-    @Override
-    public String getErrorCode() {
-        return ErrorCode.UNUSUAL_LOCATION_ERR_CODE.getErrCode();
+    protected UnusualLocationException(String reason, Throwable ex) {
+        super(STATUS, reason, ex);
+    }
+
+    /**
+     * Creates the exception with an already rendered message, e.g. one
+     * received from a remote service, instead of a message key.
+     *
+     * @param reason the already rendered message
+     * @param ex
+     * @return the exception
+     */
+    public static UnusualLocationException withReason(String reason, Throwable ex) {
+        return new UnusualLocationException(reason, ex);
     }
 
     /**
      *
      */
     @Override
-    public String getErrorMessage() {
-        String msgKey = ErrorCode.UNUSUAL_LOCATION_ERR_CODE.getErrMsgKey();
-        return ResourceBundleAccessor.accessMessageInBundle(msgKey, new Object[]{});
+    public String getErrorCode() {
+        return ErrorCode.UNUSUAL_LOCATION_ERR_CODE.getErrCode();
     }
 
 }
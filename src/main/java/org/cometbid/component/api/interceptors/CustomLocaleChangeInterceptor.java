@@ -60,11 +60,19 @@ public class CustomLocaleChangeInterceptor extends LocaleChangeInterceptor {
                  Locale Change preHandle called...%s"""
                 .formatted(newLocale));
 
+        RequestContextBinder.bind(request);
         LocaleContextUtils.setContextLocaleAsString(newLocale);
 
         return true;
     }
 
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+
+        RequestContextBinder.release();
+    }
+
     private boolean checkHttpMethod(String currentMethod) {
         String[] configuredMethods = getHttpMethods();
         if (ObjectUtils.isEmpty(configuredMethods)) {
@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.interceptors;
+
+import java.util.Locale;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.LocaleUtils;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.cometbid.component.api.util.ReactiveRequestContext;
+import org.cometbid.component.api.util.RequestContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux counterpart of {@link CustomLocaleChangeInterceptor}. The resolved
+ * locale, trace id and API version are written to the Reactor
+ * {@link reactor.util.context.Context} rather than to thread-locals. The
+ * locale is also kept in the {@link #LOCALE_ATTRIBUTE} exchange attribute,
+ * for the exception handlers which run outside the filter chain's context.
+ *
+ * @author samueladebowale
+ */
+@Log4j2
+public class CustomLocaleChangeWebFilter implements WebFilter {
+
+    public static final String LOCALE_ATTRIBUTE = CustomLocaleChangeWebFilter.class.getName() + ".LOCALE";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+        MultiValueMap<String, String> params = exchange.getRequest().getQueryParams();
+
+        String newLocale = LocaleContextUtils.DEFAULT_LANG_CODE;
+
+        if (headers.getFirst("locale") != null) {
+            newLocale = headers.getFirst("locale");
+        } else if (params.getFirst("lang") != null) {
+            newLocale = params.getFirst("lang");
+        } else if (params.getFirst("language") != null) {
+            newLocale = params.getFirst("language");
+        } else if (params.getFirst("locale") != null) {
+            newLocale = params.getFirst("locale");
+        }
+
+        Locale locale = toLocale(newLocale);
+        exchange.getAttributes().put(LOCALE_ATTRIBUTE, locale);
+        String traceId = headers.getFirst(RequestContext.TRACE_ID_KEY);
+        String apiVersion = headers.getFirst(RequestContext.API_VERSION_KEY);
+
+        return chain.filter(exchange)
+                .contextWrite(ReactiveRequestContext.update(context -> context.withLocale(locale)
+                .withTraceId(traceId)
+                .withApiVersion(apiVersion)));
+    }
+
+    private static Locale toLocale(String localeStr) {
+        try {
+            return LocaleUtils.toLocale(localeStr);
+        } catch (IllegalArgumentException ex) {
+            log.debug("Ignoring invalid locale {}", localeStr);
+            return LocaleUtils.toLocale(LocaleContextUtils.DEFAULT_LANG_CODE);
+        }
+    }
+}
@@ -75,6 +75,7 @@ public class CustomTimezoneChangeInterceptor implements HandlerInterceptor {
                  Timezone Change preHandle called...%s"""
                 .formatted(timezoneInfo));
 
+        RequestContextBinder.bind(request);
         TimeZoneUtils.setContextZoneId(timezoneInfo);
 
         return true;
@@ -92,5 +93,7 @@ public class CustomTimezoneChangeInterceptor implements HandlerInterceptor {
             log.info("An error occured while processing request.");
         }
         log.info("3 - after completion.");
+
+        RequestContextBinder.release();
     }
 }
@@ -0,0 +1,79 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.interceptors;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import org.cometbid.component.api.util.ReactiveRequestContext;
+import org.cometbid.component.api.util.RequestContext;
+import org.cometbid.component.api.util.TimeZoneUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux counterpart of {@link CustomTimezoneChangeInterceptor}. The resolved
+ * zone, trace id and API version are written to the Reactor
+ * {@link reactor.util.context.Context} rather than to thread-locals. The
+ * zone is also kept in the {@link #ZONE_ID_ATTRIBUTE} exchange attribute,
+ * for the exception handlers which run outside the filter chain's context.
+ *
+ * @author samueladebowale
+ */
+public class CustomTimezoneChangeWebFilter implements WebFilter {
+
+    public static final String ZONE_ID_ATTRIBUTE = CustomTimezoneChangeWebFilter.class.getName() + ".ZONE_ID";
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        HttpHeaders headers = exchange.getRequest().getHeaders();
+
+        String timezoneInfo = TimeZoneUtils.DEFAULT_TIMEZONE;
+
+        if (headers.getFirst("timezone") != null) {
+            timezoneInfo = headers.getFirst("timezone");
+        } else if (exchange.getRequest().getQueryParams().getFirst("tz") != null) {
+            timezoneInfo = exchange.getRequest().getQueryParams().getFirst("tz");
+        }
+
+        ZoneId zoneId;
+        try {
+            zoneId = TimeZoneUtils.resolveZoneId(timezoneInfo);
+        } catch (DateTimeException ex) {
+            return Mono.error(ex);
+        }
+
+        exchange.getAttributes().put(ZONE_ID_ATTRIBUTE, zoneId);
+
+        String traceId = headers.getFirst(RequestContext.TRACE_ID_KEY);
+        String apiVersion = headers.getFirst(RequestContext.API_VERSION_KEY);
+
+        return chain.filter(exchange)
+                .contextWrite(ReactiveRequestContext.update(context -> context.withZoneId(zoneId)
+                .withTraceId(traceId)
+                .withApiVersion(apiVersion)));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.interceptors;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.cometbid.component.api.util.RequestContext;
+
+/**
+ * Copies the request-level identifiers (trace id, API version) into the
+ * {@link RequestContext} and unbinds it once the request completes. Shared by
+ * the locale and timezone interceptors, either may be registered alone.
+ *
+ * @author samueladebowale
+ */
+final class RequestContextBinder {
+
+    private RequestContextBinder() {
+    }
+
+    /**
+     *
+     * @param request
+     */
+    static void bind(HttpServletRequest request) {
+        String traceId = request.getHeader(RequestContext.TRACE_ID_KEY);
+        String apiVersion = request.getHeader(RequestContext.API_VERSION_KEY);
+
+        RequestContext.update(context -> context.withTraceId(traceId).withApiVersion(apiVersion));
+    }
+
+    /**
+     *
+     */
+    static void release() {
+        RequestContext.clear();
+    }
+}
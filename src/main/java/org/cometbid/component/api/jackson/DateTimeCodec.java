@@ -0,0 +1,242 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DatabindContext;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.math.NumberUtils;
+import static org.cometbid.component.api.util.TimeZoneUtils.*;
+
+/**
+ * Shared encode/decode routines for the date-time serializers.
+ * <p>
+ * Values are written in the {@link org.cometbid.component.api.util.TimeZoneUtils#UTC_DATE_FORMATTER}
+ * layout ({@code yyyy-MM-dd hh:mm:ssa UTC}) straight into the generator,
+ * without building a {@link ZonedDateTime} or an intermediate {@link String}.
+ * Years outside {@code 0001-9999} fall back to the formatter.
+ * <p>
+ * Nothing is logged per value. Setting the system property
+ * {@value #TRACE_SAMPLE_PROPERTY} to {@code N} traces roughly one value in
+ * {@code N} at DEBUG level.
+ *
+ * @author samueladebowale
+ */
+@Log4j2
+final class DateTimeCodec {
+
+    public static final String TRACE_SAMPLE_PROPERTY = "cometbid.jackson.datetime.trace-sample";
+
+    private static final int TRACE_SAMPLE_RATE = NumberUtils.toInt(System.getProperty(TRACE_SAMPLE_PROPERTY), 0);
+
+    private static final TemporalQuery<?>[] PARSE_QUERIES = {
+        OffsetDateTime::from,
+        ZonedDateTime::from,
+        LocalDateTime::from,
+        LocalDate::from
+    };
+
+    // yyyy-MM-dd hh:mm:ssa UTC
+    static final int FORMATTED_LENGTH = 25;
+
+    private static final int SECONDS_PER_DAY = 86_400;
+    private static final int DAYS_0000_TO_1970 = 719_468;
+    private static final int DAYS_PER_400_YEARS = 146_097;
+
+    private DateTimeCodec() {
+    }
+
+    /**
+     *
+     * @param context the serializer provider or deserialization context
+     * @return the zone passed as {@value org.cometbid.component.api.util.TimeZoneUtils#ZONE_ID_ATTRIBUTE}
+     * attribute, else the context zone
+     */
+    static ZoneId zoneId(DatabindContext context) {
+        // a blueprint provider, e.g. ObjectMapper.getSerializerProvider(), has no config nor attributes
+        Object zoneId = context == null || context.getConfig() == null
+                ? null : context.getAttribute(ZONE_ID_ATTRIBUTE);
+        return zoneId instanceof ZoneId zone ? zone : getContextZoneId();
+    }
+
+    /**
+     * Writes the instant as seen in {@code zoneId}.
+     *
+     * @param epochSecond
+     * @param zoneId
+     * @param gen
+     * @throws IOException
+     */
+    static void write(long epochSecond, ZoneId zoneId, JsonGenerator gen) throws IOException {
+        char[] buffer = new char[FORMATTED_LENGTH];
+
+        if (format(epochSecond, offsetOf(epochSecond, zoneId), buffer)) {
+            gen.writeString(buffer, 0, FORMATTED_LENGTH);
+        } else {
+            gen.writeString(UTC_DATE_FORMATTER.format(Instant.ofEpochSecond(epochSecond).atZone(zoneId)));
+        }
+    }
+
+    /**
+     * Writes the instant as seen in {@code zoneId} as a quoted JSON string of
+     * UTF-8 bytes, for callers that assemble JSON without a generator.
+     *
+     * @param epochSecond
+     * @param zoneId
+     * @param out
+     * @throws IOException
+     */
+    static void writeQuoted(long epochSecond, ZoneId zoneId, OutputStream out) throws IOException {
+        char[] buffer = new char[FORMATTED_LENGTH];
+
+        out.write('"');
+        if (format(epochSecond, offsetOf(epochSecond, zoneId), buffer)) {
+            for (char c : buffer) {
+                out.write(c);
+            }
+        } else {
+            out.write(UTC_DATE_FORMATTER.format(Instant.ofEpochSecond(epochSecond).atZone(zoneId))
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+        out.write('"');
+    }
+
+    /**
+     *
+     * @param value
+     * @return
+     */
+    static TemporalAccessor parse(String value) {
+        return GENERIC_DATE_FORMATTER.parseBest(value, PARSE_QUERIES);
+    }
+
+    /**
+     *
+     * @return true if the current value should be traced
+     */
+    static boolean isTraceSampled() {
+        int rate = TRACE_SAMPLE_RATE;
+
+        return rate > 0 && log.isDebugEnabled() && ThreadLocalRandom.current().nextInt(rate) == 0;
+    }
+
+    /**
+     *
+     * @param type
+     * @param value
+     * @param zoneId
+     */
+    static void trace(String type, Object value, ZoneId zoneId) {
+        log.debug("{} {} in zone {}", type, value, zoneId);
+    }
+
+    /**
+     * Formats the local date-time at {@code epochSecond + offset} into
+     * {@code buffer}, which must hold {@link #FORMATTED_LENGTH} chars.
+     *
+     * @param epochSecond
+     * @param offset
+     * @param buffer
+     * @return false if the year cannot be written as four digits
+     */
+    static boolean format(long epochSecond, ZoneOffset offset, char[] buffer) {
+        long localSecond = epochSecond + offset.getTotalSeconds();
+        long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+        int secondOfDay = Math.floorMod(localSecond, SECONDS_PER_DAY);
+
+        // Civil-from-days over 400-year eras, March-based years.
+        long zeroDay = epochDay + DAYS_0000_TO_1970;
+        long era = Math.floorDiv(zeroDay, DAYS_PER_400_YEARS);
+        long dayOfEra = zeroDay - era * DAYS_PER_400_YEARS;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long marchMonth = (5 * dayOfYear + 2) / 153;
+
+        int day = (int) (dayOfYear - (153 * marchMonth + 2) / 5 + 1);
+        int month = (int) (marchMonth < 10 ? marchMonth + 3 : marchMonth - 9);
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        if (year < 1 || year > 9999) {
+            return false;
+        }
+
+        int hour = secondOfDay / 3600;
+        int minute = (secondOfDay / 60) % 60;
+        int second = secondOfDay % 60;
+        int clockHour = hour % 12 == 0 ? 12 : hour % 12;
+
+        int y = (int) year;
+        buffer[0] = digit(y / 1000);
+        buffer[1] = digit(y / 100);
+        buffer[2] = digit(y / 10);
+        buffer[3] = digit(y);
+        buffer[4] = '-';
+        writeTwoDigits(buffer, 5, month);
+        buffer[7] = '-';
+        writeTwoDigits(buffer, 8, day);
+        buffer[10] = ' ';
+        writeTwoDigits(buffer, 11, clockHour);
+        buffer[13] = ':';
+        writeTwoDigits(buffer, 14, minute);
+        buffer[16] = ':';
+        writeTwoDigits(buffer, 17, second);
+        buffer[19] = hour < 12 ? 'A' : 'P';
+        buffer[20] = 'M';
+        buffer[21] = ' ';
+        buffer[22] = 'U';
+        buffer[23] = 'T';
+        buffer[24] = 'C';
+
+        return true;
+    }
+
+    private static ZoneOffset offsetOf(long epochSecond, ZoneId zoneId) {
+        if (zoneId instanceof ZoneOffset offset) {
+            return offset;
+        }
+        return zoneId.getRules().getOffset(Instant.ofEpochSecond(epochSecond));
+    }
+
+    private static void writeTwoDigits(char[] buffer, int index, int value) {
+        buffer[index] = digit(value / 10);
+        buffer[index + 1] = digit(value);
+    }
+
+    private static char digit(int value) {
+        return (char) ('0' + value % 10);
+    }
+}
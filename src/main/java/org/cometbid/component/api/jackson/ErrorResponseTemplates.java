@@ -0,0 +1,421 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.jackson;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.cometbid.component.api.response.model.AppResponseMetadata;
+import org.cometbid.component.api.response.model.ResponseFactory;
+import org.cometbid.component.api.response.model.ResponseSettings;
+import org.cometbid.component.api.util.ByteBufferPool;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.cometbid.component.api.util.MessageCatalog;
+import org.cometbid.component.api.util.PooledByteBufferOutputStream;
+import org.cometbid.component.api.util.RequestContext;
+import org.cometbid.component.api.util.TimeZoneUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+
+/**
+ * Pre-encoded error envelopes for responses that carry no request-specific
+ * detail beyond {@code path}, {@code method}, {@code traceId} and
+ * {@code timestamp} (404, 401, timeouts ...).
+ * <p>
+ * For each {@code (ErrorCode, HttpStatus, Locale, apiVersion)} the invariant
+ * JSON is encoded once into UTF-8 fragments; a response only splices the
+ * variable values in between and writes the bytes out, without building an
+ * {@code ApiError} graph. The document is the one {@link ResponseModelModule}
+ * writes for {@code AppResponse.error(ApiError.create(...), metadata)}, with
+ * the HTTP reason phrase as {@code message} and the localized error code
+ * message as {@code debugMessage}.
+ * <p>
+ * Templates built from a {@link ResponseFactory} carry its metadata, so the
+ * exception handlers can answer the errors that have no detail of their own
+ * with them instead of an {@code ApiError}.
+ * <p>
+ * At most {@value #MAX_TEMPLATES} templates are cached; further combinations
+ * are encoded per call.
+ *
+ * @author samueladebowale
+ */
+public class ErrorResponseTemplates {
+
+    public static final int MAX_TEMPLATES = 1024;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] REPORT_ID = "?id=".getBytes(StandardCharsets.US_ASCII);
+
+    private final String apiVersion;
+    private final String sendReportUri;
+    private final String moreInfoUrl;
+    private final String apiDocUrl;
+    private final String technical;
+
+    private final ConcurrentMap<TemplateKey, Template> templates = new ConcurrentHashMap<>();
+
+    /**
+     *
+     * @param sendReportUri base of the {@code reportTo} link, the trace id is appended
+     * @param moreInfoUrl
+     * @param apiDocUrl
+     */
+    public ErrorResponseTemplates(String sendReportUri, String moreInfoUrl, String apiDocUrl) {
+        this(null, sendReportUri, moreInfoUrl, apiDocUrl, null);
+    }
+
+    /**
+     * Templates producing the metadata of the factory's error responses,
+     * including its API version.
+     *
+     * @param responseFactory
+     */
+    public ErrorResponseTemplates(ResponseFactory responseFactory) {
+        this(responseFactory.getMetadata(), responseFactory.getSendReportUri());
+    }
+
+    private ErrorResponseTemplates(AppResponseMetadata metadata, String sendReportUri) {
+        this(metadata.getApiVersion(), sendReportUri, metadata.getMoreInfo(), metadata.getApiDocUrl(),
+                metadata.getTechnical());
+    }
+
+    private ErrorResponseTemplates(String apiVersion, String sendReportUri, String moreInfoUrl, String apiDocUrl,
+            String technical) {
+        this.apiVersion = apiVersion;
+        this.sendReportUri = sendReportUri;
+        this.moreInfoUrl = moreInfoUrl;
+        this.apiDocUrl = apiDocUrl;
+        this.technical = technical;
+    }
+
+    /**
+     * Writes the error response for the current request, taking locale, zone
+     * and, unless the templates were built from a {@link ResponseFactory},
+     * API version from the {@link RequestContext}, and the trace id and
+     * timestamp from {@link ResponseSettings}, like an {@code ApiError}.
+     *
+     * @param request
+     * @param response
+     * @param errorCode
+     * @param status
+     * @throws IOException
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, ErrorCode errorCode,
+            HttpStatus status) throws IOException {
+
+        RequestContext context = RequestContext.current();
+        String traceId = ResponseSettings.getTraceIdSource().get();
+
+        Template template = get(errorCode, status, LocaleContextUtils.getContextLocale(),
+                apiVersion != null ? apiVersion : context.getApiVersion());
+
+        PooledByteBufferOutputStream body = new PooledByteBufferOutputStream(ByteBufferPool.getInstance());
+        try {
+            template.writeTo(body, request.getRequestURI(), request.getMethod(), traceId,
+                    Math.floorDiv(ResponseSettings.getClock().millis(), 1000), TimeZoneUtils.getContextZoneId());
+
+            response.setStatus(status.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(body.size());
+            body.writeTo(response.getOutputStream());
+        } finally {
+            body.release();
+        }
+    }
+
+    /**
+     *
+     * @param errorCode
+     * @param status
+     * @param locale
+     * @param apiVersion
+     * @param path
+     * @param method
+     * @param traceId
+     * @param epochSecond
+     * @param zoneId
+     * @return the encoded error response
+     */
+    public byte[] render(ErrorCode errorCode, HttpStatus status, Locale locale, String apiVersion,
+            String path, String method, String traceId, long epochSecond, ZoneId zoneId) {
+
+        Template template = get(errorCode, status, locale, apiVersion);
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream(template.estimatedSize());
+        try {
+            template.writeTo(body, path, method, traceId, epochSecond, zoneId);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return body.toByteArray();
+    }
+
+    /**
+     *
+     * @param errorCode
+     * @param status
+     * @param locale
+     * @return the template for the API version of the {@link ResponseFactory}
+     * the templates were built from, cached while there is room
+     */
+    public Template get(ErrorCode errorCode, HttpStatus status, Locale locale) {
+        return get(errorCode, status, locale, apiVersion);
+    }
+
+    /**
+     *
+     * @param errorCode
+     * @param status
+     * @param locale
+     * @param apiVersion
+     * @return the template, cached while there is room
+     */
+    public Template get(ErrorCode errorCode, HttpStatus status, Locale locale, String apiVersion) {
+        TemplateKey key = new TemplateKey(errorCode, status, locale, apiVersion);
+
+        Template template = templates.get(key);
+        if (template != null) {
+            return template;
+        }
+
+        template = encode(key);
+        if (templates.size() < MAX_TEMPLATES) {
+            Template existing = templates.putIfAbsent(key, template);
+            return existing != null ? existing : template;
+        }
+        return template;
+    }
+
+    /**
+     *
+     * @return number of cached templates
+     */
+    public int size() {
+        return templates.size();
+    }
+
+    private Template encode(TemplateKey key) {
+        String debugMessage = MessageCatalog.getInstance().getMessage(key.errorCode(), new Object[]{}, key.locale());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        TemplateWriter writer = new TemplateWriter(out);
+
+        try (JsonGenerator gen = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            writer.gen = gen;
+
+            gen.writeStartObject();
+            gen.writeBooleanField("success", false);
+            gen.writeStringField("message", "ERROR!");
+
+            gen.writeObjectFieldStart("metadata");
+            gen.writeStringField("apiVersion", key.apiVersion());
+            if (sendReportUri != null) {
+                gen.writeFieldName("reportTo");
+                writer.slot(Slot.REPORT_TO);
+            } else {
+                gen.writeNullField("reportTo");
+            }
+            gen.writeStringField("moreInfo", moreInfoUrl);
+            gen.writeStringField("apiDocUrl", apiDocUrl);
+            gen.writeStringField("technical", technical);
+            gen.writeEndObject();
+
+            gen.writeObjectFieldStart("response");
+            gen.writeFieldName("path");
+            writer.slot(Slot.PATH);
+            gen.writeStringField("message", key.status().getReasonPhrase());
+            gen.writeFieldName("method");
+            writer.slot(Slot.METHOD);
+            gen.writeStringField("status", key.status().name());
+            gen.writeFieldName("traceId");
+            writer.slot(Slot.TRACE_ID);
+            gen.writeFieldName("timestamp");
+            writer.slot(Slot.TIMESTAMP);
+            gen.writeStringField("errorCode", key.errorCode().getErrCode());
+            gen.writeStringField("debugMessage", debugMessage);
+            gen.writeNumberField("statusCode", key.status().value());
+            gen.writeArrayFieldStart("errorDetails");
+            gen.writeEndArray();
+            gen.writeEndObject();
+
+            gen.writeEndObject();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        byte[] reportPrefix = sendReportUri != null
+                ? concat(JsonStringEncoder.getInstance().quoteAsUTF8(sendReportUri), REPORT_ID) : null;
+
+        return writer.build(reportPrefix);
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    private record TemplateKey(ErrorCode errorCode, HttpStatus status, Locale locale, String apiVersion) {
+
+    }
+
+    private enum Slot {
+        REPORT_TO, PATH, METHOD, TRACE_ID, TIMESTAMP
+    }
+
+    /**
+     * Cuts the generator output into fragments around placeholder values.
+     * Each placeholder is written as {@code null} so the generator keeps its
+     * separators right, then cut out of the output.
+     */
+    private static final class TemplateWriter {
+
+        private final ByteArrayOutputStream out;
+        private final List<Integer> cuts = new ArrayList<>();
+        private final List<Slot> slots = new ArrayList<>();
+        private JsonGenerator gen;
+
+        TemplateWriter(ByteArrayOutputStream out) {
+            this.out = out;
+        }
+
+        void slot(Slot slot) throws IOException {
+            gen.writeNull();
+            gen.flush();
+
+            cuts.add(out.size() - NULL.length);
+            slots.add(slot);
+        }
+
+        Template build(byte[] reportPrefix) {
+            byte[] bytes = out.toByteArray();
+            byte[][] fragments = new byte[slots.size() + 1][];
+
+            int from = 0;
+            for (int i = 0; i < cuts.size(); i++) {
+                int cut = cuts.get(i);
+                fragments[i] = Arrays.copyOfRange(bytes, from, cut);
+                from = cut + NULL.length;
+            }
+            fragments[slots.size()] = Arrays.copyOfRange(bytes, from, bytes.length);
+
+            return new Template(fragments, slots.toArray(Slot[]::new), reportPrefix);
+        }
+    }
+
+    /**
+     * Encoded response for one {@code (ErrorCode, HttpStatus, Locale, apiVersion)}.
+     */
+    public static final class Template {
+
+        private final byte[][] fragments;
+        private final Slot[] slots;
+        private final byte[] reportPrefix;
+        private final int fixedSize;
+
+        private Template(byte[][] fragments, Slot[] slots, byte[] reportPrefix) {
+            this.fragments = fragments;
+            this.slots = slots;
+            this.reportPrefix = reportPrefix;
+
+            int size = 0;
+            for (byte[] fragment : fragments) {
+                size += fragment.length;
+            }
+            this.fixedSize = size;
+        }
+
+        /**
+         *
+         * @return the size of the fixed fragments plus room for typical
+         * variable values
+         */
+        public int estimatedSize() {
+            return fixedSize + 192;
+        }
+
+        /**
+         *
+         * @param out
+         * @param path
+         * @param method
+         * @param traceId
+         * @param epochSecond
+         * @param zoneId
+         * @throws IOException
+         */
+        public void writeTo(OutputStream out, String path, String method, String traceId,
+                long epochSecond, ZoneId zoneId) throws IOException {
+
+            for (int i = 0; i < slots.length; i++) {
+                out.write(fragments[i]);
+
+                switch (slots[i]) {
+                    case REPORT_TO -> {
+                        out.write('"');
+                        out.write(reportPrefix);
+                        out.write(traceId != null ? JsonStringEncoder.getInstance().quoteAsUTF8(traceId) : NULL);
+                        out.write('"');
+                    }
+                    case PATH ->
+                        writeString(out, path);
+                    case METHOD ->
+                        writeString(out, method);
+                    case TRACE_ID ->
+                        writeString(out, traceId);
+                    case TIMESTAMP ->
+                        DateTimeCodec.writeQuoted(epochSecond, zoneId, out);
+                }
+            }
+            out.write(fragments[slots.length]);
+        }
+
+        private static void writeString(OutputStream out, String value) throws IOException {
+            if (value == null) {
+                out.write(NULL);
+                return;
+            }
+            out.write('"');
+            out.write(JsonStringEncoder.getInstance().quoteAsUTF8(value));
+            out.write('"');
+        }
+    }
+}
@@ -29,12 +29,10 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import java.io.IOException;
 import java.time.Instant;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
-import java.time.ZonedDateTime;
 import java.time.temporal.TemporalAccessor;
 import static org.cometbid.component.api.util.TimeZoneUtils.*;
 
@@ -61,8 +59,8 @@ public class OffsetDateTimeDeserializer extends StdDeserializer<OffsetDateTime>
         String dateSpecified = jsonParser.getText();
 
         // Get specified timezone offset information 
-        TemporalAccessor dateTime = parse(dateSpecified);
-        ZoneId zoneId = getContextZoneId();
+        TemporalAccessor dateTime = DateTimeCodec.parse(dateSpecified);
+        ZoneId zoneId = DateTimeCodec.zoneId(ctxt);
 
         // Obtain LocalDateTime from specified date
         LocalDateTime localDateTime = LocalDateTime.from(dateTime);
@@ -70,19 +68,14 @@ public class OffsetDateTimeDeserializer extends StdDeserializer<OffsetDateTime>
         // Obtain the OffsetDateTime
         OffsetDateTime convertedValue = OffsetDateTime.of(localDateTime, convertToZoneOffset(zoneId));
 
+        if (DateTimeCodec.isTraceSampled()) {
+            DateTimeCodec.trace("OffsetDateTime", dateSpecified, zoneId);
+        }
+
         // convert to UTC 
         return convertOffset(convertedValue, DEFAULT_ZONEID);
     }
 
-    private TemporalAccessor parse(String v) {
-        return GENERIC_DATE_FORMATTER.parseBest(
-                v,
-                OffsetDateTime::from,
-                ZonedDateTime::from,
-                LocalDateTime::from,
-                LocalDate::from);
-    }
-
     private static ZoneOffset convertToZoneOffset(final ZoneId zoneId) {
         return zoneId.getRules().getOffset(Instant.now());
     }
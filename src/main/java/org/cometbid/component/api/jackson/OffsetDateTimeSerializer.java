@@ -30,14 +30,14 @@ import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.Objects;
-import lombok.extern.log4j.Log4j2;
 import static org.cometbid.component.api.util.TimeZoneUtils.*;
 
 /**
+ * Writes the value in the user's context time zone. No logging on this path,
+ * see {@link DateTimeCodec} for the sampled debug trace.
  *
  * @author samueladebowale
  */
-@Log4j2
 public class OffsetDateTimeSerializer extends StdSerializer<OffsetDateTime> {
 
     private static final long serialVersionUID = 1L;
@@ -50,19 +50,14 @@ public class OffsetDateTimeSerializer extends StdSerializer<OffsetDateTime> {
     public void serialize(OffsetDateTime utcValue, JsonGenerator gen,
             SerializerProvider provider) throws IOException {
 
-        log.info("OffsetDateTime from: {}", utcValue);
-
         if (!Objects.isNull(utcValue)) {
-            ZoneId zoneId = getContextZoneId();
-            log.info("Zone id: {}", zoneId);
-
-            OffsetDateTime convertedValue = convertOffset(utcValue, zoneId);
-            log.info("OffsetDateTime to: {}", convertedValue);
+            ZoneId zoneId = DateTimeCodec.zoneId(provider);
 
-            String dateTimeOffset = UTC_DATE_FORMATTER.format(convertedValue);
-            log.info("OffsetDateTime formatted: {}", dateTimeOffset);
+            DateTimeCodec.write(utcValue.toEpochSecond(), zoneId, gen);
 
-            gen.writeString(dateTimeOffset);
+            if (DateTimeCodec.isTraceSampled()) {
+                DateTimeCodec.trace("OffsetDateTime", utcValue, zoneId);
+            }
         }
     }
 
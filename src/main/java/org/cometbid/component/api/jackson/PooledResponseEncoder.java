@@ -0,0 +1,195 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.jackson;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.ZoneId;
+import org.cometbid.component.api.util.ByteBufferPool;
+import org.cometbid.component.api.util.PooledByteBufferOutputStream;
+import org.cometbid.component.api.util.TimeZoneUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+
+/**
+ * Serializes response bodies without a growing {@code byte[]}.
+ * <p>
+ * Servlet bodies are written into buffers borrowed from a
+ * {@link ByteBufferPool}, so that the exact {@code Content-Length} is known,
+ * then copied to the servlet output stream; the buffers are released as
+ * soon as the copy is done.
+ * {@link org.cometbid.component.api.exceptions.handler.RestExceptionHandler}
+ * writes its error responses this way when built with an
+ * {@code ObjectMapper}.
+ * <p>
+ * Reactive bodies are written straight into a buffer of the response's
+ * {@link DataBufferFactory}, pooled on Reactor Netty, which grows as needed
+ * and is released by the response after writing.
+ *
+ * @author samueladebowale
+ */
+public class PooledResponseEncoder {
+
+    /**
+     * Initial capacity of a {@link DataBuffer} body, enough for an error
+     * without sub errors.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    private final ObjectMapper objectMapper;
+    private final ByteBufferPool pool;
+
+    /**
+     *
+     * @param objectMapper
+     */
+    public PooledResponseEncoder(ObjectMapper objectMapper) {
+        this(objectMapper, ByteBufferPool.getInstance());
+    }
+
+    /**
+     *
+     * @param objectMapper
+     * @param pool
+     */
+    public PooledResponseEncoder(ObjectMapper objectMapper, ByteBufferPool pool) {
+        this.objectMapper = objectMapper;
+        this.pool = pool;
+    }
+
+    /**
+     * The caller owns the returned stream and must
+     * {@link PooledByteBufferOutputStream#release() release} it.
+     *
+     * @param value
+     * @return the JSON encoding of the value
+     */
+    public PooledByteBufferOutputStream encode(Object value) {
+        return encode(value, (ZoneId) null);
+    }
+
+    /**
+     * The caller owns the returned stream and must
+     * {@link PooledByteBufferOutputStream#release() release} it.
+     *
+     * @param value
+     * @param zoneId the zone date-times are written in, null for the context
+     * zone
+     * @return the JSON encoding of the value
+     */
+    public PooledByteBufferOutputStream encode(Object value, ZoneId zoneId) {
+        PooledByteBufferOutputStream body = new PooledByteBufferOutputStream(pool);
+        boolean release = true;
+        try {
+            writeTo(body, value, zoneId);
+            release = false;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            if (release) {
+                body.release();
+            }
+        }
+        return body;
+    }
+
+    /**
+     * Writes the value as the JSON body of the response; the status is left
+     * to the caller.
+     *
+     * @param value
+     * @param response
+     * @throws IOException
+     */
+    public void write(Object value, HttpServletResponse response) throws IOException {
+        PooledByteBufferOutputStream body = encode(value);
+        try {
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(body.size());
+            body.writeTo(response.getOutputStream());
+        } finally {
+            body.release();
+        }
+    }
+
+    /**
+     *
+     * @param value
+     * @param bufferFactory
+     * @return a buffer of the factory holding the JSON encoding of the value
+     */
+    public DataBuffer encode(Object value, DataBufferFactory bufferFactory) {
+        return encode(value, bufferFactory, null);
+    }
+
+    /**
+     *
+     * @param value
+     * @param bufferFactory
+     * @param zoneId the zone date-times are written in, null for the context
+     * zone
+     * @return a buffer of the factory holding the JSON encoding of the value
+     */
+    public DataBuffer encode(Object value, DataBufferFactory bufferFactory, ZoneId zoneId) {
+        DataBuffer buffer = bufferFactory.allocateBuffer(DEFAULT_BUFFER_SIZE);
+        boolean release = true;
+        try {
+            writeTo(buffer.asOutputStream(), value, zoneId);
+            release = false;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            if (release) {
+                DataBufferUtils.release(buffer);
+            }
+        }
+        return buffer;
+    }
+
+    private void writeTo(OutputStream out, Object value, ZoneId zoneId) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            if (zoneId == null) {
+                objectMapper.writeValue(generator, value);
+            } else {
+                objectMapper.writer().withAttribute(TimeZoneUtils.ZONE_ID_ATTRIBUTE, zoneId)
+                        .writeValue(generator, value);
+            }
+        }
+    }
+
+    /**
+     *
+     * @return the pool the servlet bodies are encoded into
+     */
+    public ByteBufferPool getPool() {
+        return pool;
+    }
+}
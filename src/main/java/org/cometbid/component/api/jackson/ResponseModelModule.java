@@ -0,0 +1,357 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.jackson;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.Serializers;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.ApiResponse;
+import org.cometbid.component.api.response.model.ApiValidationError;
+import org.cometbid.component.api.response.model.AppResponse;
+import org.cometbid.component.api.response.model.AppResponseMetadata;
+
+/**
+ * Hand-written serializers for the error envelope
+ * ({@link AppResponse} &rarr; {@link ApiError} &rarr; {@link ApiValidationError}).
+ * They write the same document as the annotated beans, in the same property
+ * order, straight to the {@link JsonGenerator} with pre-encoded field names,
+ * bypassing bean introspection and per-property reflection.
+ * <p>
+ * Register it on the {@code ObjectMapper} (or expose it as a bean in Spring
+ * Boot). Default property inclusion {@code NON_NULL}, {@code NON_ABSENT} and
+ * {@code NON_EMPTY} is honoured. The serializers apply to these exact
+ * classes only: other {@code ApiResponse} types and subclasses, which may
+ * declare properties of their own, are handed back to Jackson.
+ *
+ * @author samueladebowale
+ */
+public class ResponseModelModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    // AppResponse
+    private static final SerializedString SUCCESS = new SerializedString("success");
+    private static final SerializedString MESSAGE = new SerializedString("message");
+    private static final SerializedString METADATA = new SerializedString("metadata");
+    private static final SerializedString RESPONSE = new SerializedString("response");
+
+    // AppResponseMetadata
+    private static final SerializedString API_VERSION = new SerializedString("apiVersion");
+    private static final SerializedString REPORT_TO = new SerializedString("reportTo");
+    private static final SerializedString MORE_INFO = new SerializedString("moreInfo");
+    private static final SerializedString API_DOC_URL = new SerializedString("apiDocUrl");
+    private static final SerializedString TECHNICAL = new SerializedString("technical");
+
+    // ApiResponse / ApiError
+    private static final SerializedString PATH = new SerializedString("path");
+    private static final SerializedString METHOD = new SerializedString("method");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString TRACE_ID = new SerializedString("traceId");
+    private static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+    private static final SerializedString ERROR_CODE = new SerializedString("errorCode");
+    private static final SerializedString DEBUG_MESSAGE = new SerializedString("debugMessage");
+    private static final SerializedString STATUS_CODE = new SerializedString("statusCode");
+    private static final SerializedString ERROR_DETAILS = new SerializedString("errorDetails");
+
+    // ApiValidationError
+    private static final SerializedString OBJECT = new SerializedString("object");
+    private static final SerializedString CODE = new SerializedString("code");
+    private static final SerializedString ERROR = new SerializedString("error");
+    private static final SerializedString FIELD = new SerializedString("field");
+    private static final SerializedString REJECTED_VALUE = new SerializedString("rejectedValue");
+
+    public ResponseModelModule() {
+        super("ResponseModelModule", Version.unknownVersion());
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        super.setupModule(context);
+
+        context.addSerializers(new ExactTypeSerializers());
+    }
+
+    /**
+     * Unlike {@link SimpleModule#addSerializer}, matches no subclass.
+     */
+    private static final class ExactTypeSerializers extends Serializers.Base {
+
+        private static final AppResponseSerializer APP_RESPONSE = new AppResponseSerializer();
+        private static final AppResponseMetadataSerializer APP_RESPONSE_METADATA = new AppResponseMetadataSerializer();
+        private static final ApiErrorSerializer API_ERROR = new ApiErrorSerializer();
+        private static final ApiValidationErrorSerializer VALIDATION_ERROR = new ApiValidationErrorSerializer();
+
+        @Override
+        public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+            Class<?> rawClass = type.getRawClass();
+            if (rawClass == AppResponse.class) {
+                return APP_RESPONSE;
+            }
+            if (rawClass == AppResponseMetadata.class) {
+                return APP_RESPONSE_METADATA;
+            }
+            if (rawClass == ApiError.class) {
+                return API_ERROR;
+            }
+            if (rawClass == ApiValidationError.class) {
+                return VALIDATION_ERROR;
+            }
+            return null;
+        }
+    }
+
+    public static class AppResponseSerializer extends StdSerializer<AppResponse> {
+
+        private static final long serialVersionUID = 1L;
+
+        public AppResponseSerializer() {
+            super(AppResponse.class);
+        }
+
+        @Override
+        public void serialize(AppResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            Inclusion inclusion = Inclusion.of(provider, AppResponse.class);
+
+            gen.writeStartObject(value);
+
+            gen.writeFieldName(SUCCESS);
+            gen.writeBoolean(value.isSuccess());
+            inclusion.writeString(gen, MESSAGE, value.getMessage());
+
+            AppResponseMetadata metadata = value.getMetadata();
+            if (metadata != null) {
+                gen.writeFieldName(METADATA);
+                AppResponseMetadataSerializer.write(metadata, gen, provider);
+            } else if (inclusion.writeNulls) {
+                gen.writeFieldName(METADATA);
+                gen.writeNull();
+            }
+
+            ApiResponse response = value.getResponse();
+            if (response != null && response.getClass() == ApiError.class) {
+                gen.writeFieldName(RESPONSE);
+                ApiErrorSerializer.write((ApiError) response, gen, provider);
+            } else if (response != null) {
+                gen.writeFieldName(RESPONSE);
+                provider.defaultSerializeValue(response, gen);
+            } else if (inclusion.writeNulls) {
+                gen.writeFieldName(RESPONSE);
+                gen.writeNull();
+            }
+
+            gen.writeEndObject();
+        }
+    }
+
+    public static class AppResponseMetadataSerializer extends StdSerializer<AppResponseMetadata> {
+
+        private static final long serialVersionUID = 1L;
+
+        public AppResponseMetadataSerializer() {
+            super(AppResponseMetadata.class);
+        }
+
+        @Override
+        public void serialize(AppResponseMetadata value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            write(value, gen, provider);
+        }
+
+        static void write(AppResponseMetadata value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            Inclusion inclusion = Inclusion.of(provider, AppResponseMetadata.class);
+
+            gen.writeStartObject(value);
+
+            inclusion.writeString(gen, API_VERSION, value.getApiVersion());
+            inclusion.writeString(gen, REPORT_TO, value.getSendReport());
+            inclusion.writeString(gen, MORE_INFO, value.getMoreInfo());
+            inclusion.writeString(gen, API_DOC_URL, value.getApiDocUrl());
+            inclusion.writeString(gen, TECHNICAL, value.getTechnical());
+
+            gen.writeEndObject();
+        }
+    }
+
+    public static class ApiErrorSerializer extends StdSerializer<ApiError> {
+
+        private static final long serialVersionUID = 1L;
+
+        public ApiErrorSerializer() {
+            super(ApiError.class);
+        }
+
+        @Override
+        public void serialize(ApiError value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            write(value, gen, provider);
+        }
+
+        static void write(ApiError value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            Inclusion inclusion = Inclusion.of(provider, ApiError.class);
+
+            gen.writeStartObject(value);
+
+            inclusion.writeString(gen, PATH, value.getPath());
+            inclusion.writeString(gen, MESSAGE, value.getMessage());
+            inclusion.writeString(gen, METHOD, value.getReqMethod());
+            inclusion.writeString(gen, STATUS, value.getStatus());
+            inclusion.writeString(gen, TRACE_ID, value.getTraceId());
+
+            // Straight from the epoch millis: no ZonedDateTime is created
+            long epochSecond = Math.floorDiv(value.getEpochMilli(), 1000);
+            ZoneId zoneId = DateTimeCodec.zoneId(provider);
+            gen.writeFieldName(TIMESTAMP);
+            DateTimeCodec.write(epochSecond, zoneId, gen);
+
+            if (DateTimeCodec.isTraceSampled()) {
+                DateTimeCodec.trace("ApiError timestamp", value.getTimestamp(), zoneId);
+            }
+
+            inclusion.writeString(gen, ERROR_CODE, value.getErrorCode());
+            inclusion.writeString(gen, DEBUG_MESSAGE, value.getDebugMessage());
+
+            gen.writeFieldName(STATUS_CODE);
+            gen.writeNumber(value.getStatusCode());
+
+            List<?> subErrors = value.getSubErrors();
+            if (inclusion.includes(subErrors)) {
+                gen.writeFieldName(ERROR_DETAILS);
+                if (subErrors == null) {
+                    gen.writeNull();
+                } else {
+                    gen.writeStartArray(subErrors, subErrors.size());
+                    for (Object subError : subErrors) {
+                        if (subError != null && subError.getClass() == ApiValidationError.class) {
+                            ApiValidationErrorSerializer.write((ApiValidationError) subError, gen, provider);
+                        } else {
+                            provider.defaultSerializeValue(subError, gen);
+                        }
+                    }
+                    gen.writeEndArray();
+                }
+            }
+
+            gen.writeEndObject();
+        }
+    }
+
+    public static class ApiValidationErrorSerializer extends StdSerializer<ApiValidationError> {
+
+        private static final long serialVersionUID = 1L;
+
+        public ApiValidationErrorSerializer() {
+            super(ApiValidationError.class);
+        }
+
+        @Override
+        public void serialize(ApiValidationError value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            write(value, gen, provider);
+        }
+
+        static void write(ApiValidationError value, JsonGenerator gen, SerializerProvider provider)
+                throws IOException {
+            Inclusion inclusion = Inclusion.of(provider, ApiValidationError.class);
+
+            gen.writeStartObject(value);
+
+            inclusion.writeString(gen, OBJECT, value.getObject());
+            inclusion.writeString(gen, CODE, value.getCode());
+            inclusion.writeString(gen, ERROR, value.getError());
+            inclusion.writeString(gen, FIELD, value.getField());
+
+            Object rejectedValue = value.getRejectedValue();
+            if (inclusion.includes(rejectedValue)) {
+                gen.writeFieldName(REJECTED_VALUE);
+                provider.defaultSerializeValue(rejectedValue, gen);
+            }
+
+            inclusion.writeString(gen, MESSAGE, value.getMessage());
+
+            gen.writeEndObject();
+        }
+    }
+
+    /**
+     * Default property inclusion in effect for a type.
+     */
+    private enum Inclusion {
+        ALWAYS(true, false),
+        NON_NULL(false, false),
+        NON_EMPTY(false, true);
+
+        final boolean writeNulls;
+        final boolean skipEmpty;
+
+        Inclusion(boolean writeNulls, boolean skipEmpty) {
+            this.writeNulls = writeNulls;
+            this.skipEmpty = skipEmpty;
+        }
+
+        static Inclusion of(SerializerProvider provider, Class<?> type) {
+            JsonInclude.Include include = provider.getConfig().getDefaultPropertyInclusion(type).getValueInclusion();
+
+            return switch (include) {
+                case NON_NULL, NON_ABSENT ->
+                    NON_NULL;
+                case NON_EMPTY ->
+                    NON_EMPTY;
+                default ->
+                    ALWAYS;
+            };
+        }
+
+        boolean includes(Object value) {
+            if (value == null) {
+                return writeNulls;
+            }
+            if (skipEmpty) {
+                return !(value instanceof String string && string.isEmpty())
+                        && !(value instanceof Collection<?> collection && collection.isEmpty());
+            }
+            return true;
+        }
+
+        void writeString(JsonGenerator gen, SerializedString name, String value) throws IOException {
+            if (includes(value)) {
+                gen.writeFieldName(name);
+                gen.writeString(value);
+            }
+        }
+    }
+}
@@ -27,20 +27,16 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import java.io.IOException;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.TemporalAccessor;
-import lombok.extern.log4j.Log4j2;
 import static org.cometbid.component.api.util.TimeZoneUtils.*;
 
 /**
  *
  * @author samueladebowale
  */
-@Log4j2
 public class ZonedDateTimeDeserializer extends StdDeserializer<ZonedDateTime> {
 
     private static final long serialVersionUID = 1L;
@@ -58,30 +54,18 @@ public class ZonedDateTimeDeserializer extends StdDeserializer<ZonedDateTime> {
             throws IOException {
 
         String dateSpecified = jsonParser.getText();
-        log.info("Specified Date: " + dateSpecified);
 
         // Get specified timezone offset information
-        TemporalAccessor dateTime = parse(dateSpecified);
-        log.info("Parsed Date: " + dateTime);
-
-        ZoneId zonedId = getContextZoneId();
-        log.info("Zone id: " + zonedId);
+        TemporalAccessor dateTime = DateTimeCodec.parse(dateSpecified);
+        ZoneId zonedId = DateTimeCodec.zoneId(deserializationContext);
 
         LocalDateTime localDateTime = LocalDateTime.from(dateTime);
-        log.info("Local Date time: " + localDateTime);
-
         ZonedDateTime convertedValue = ZonedDateTime.of(localDateTime, zonedId);
-        log.info("Converted Zoned Date time: " + convertedValue);
 
-        return convert(convertedValue, DEFAULT_ZONEID);
-    }
+        if (DateTimeCodec.isTraceSampled()) {
+            DateTimeCodec.trace("ZonedDateTime", dateSpecified, zonedId);
+        }
 
-    private TemporalAccessor parse(String v) {
-        return GENERIC_DATE_FORMATTER.parseBest(
-                v, 
-                OffsetDateTime::from, 
-                ZonedDateTime::from,
-                LocalDateTime::from, 
-                LocalDate::from);
+        return convert(convertedValue, DEFAULT_ZONEID);
     }
 }
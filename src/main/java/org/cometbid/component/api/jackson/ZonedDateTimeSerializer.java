@@ -30,14 +30,14 @@ import java.io.IOException;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Objects;
-import lombok.extern.log4j.Log4j2;
 import static org.cometbid.component.api.util.TimeZoneUtils.*;
 
 /**
+ * Writes the value in the user's context time zone. No logging on this path,
+ * see {@link DateTimeCodec} for the sampled debug trace.
  *
  * @author samueladebowale
  */
-@Log4j2
 public class ZonedDateTimeSerializer extends StdSerializer<ZonedDateTime> {
 
     private static final long serialVersionUID = 1L;
@@ -49,19 +49,14 @@ public class ZonedDateTimeSerializer extends StdSerializer<ZonedDateTime> {
     @Override
     public void serialize(ZonedDateTime utcValue, JsonGenerator gen, SerializerProvider provider) throws IOException {
 
-        log.info("ZoneDateTime from: {}", utcValue);
-
         if (!Objects.isNull(utcValue)) {
-            ZoneId zoneId = getContextZoneId();
-            log.info("Zone id: {}", zoneId);
-
-            ZonedDateTime convertedValue = convert(utcValue, zoneId);
-            log.info("ZoneDateTime to: {}", utcValue);
+            ZoneId zoneId = DateTimeCodec.zoneId(provider);
 
-            String dateTimeOffset = UTC_DATE_FORMATTER.format(convertedValue);
-            log.info("ZoneDateTime offset: {}", dateTimeOffset);
+            DateTimeCodec.write(utcValue.toEpochSecond(), zoneId, gen);
 
-            gen.writeString(dateTimeOffset);
+            if (DateTimeCodec.isTraceSampled()) {
+                DateTimeCodec.trace("ZonedDateTime", utcValue, zoneId);
+            }
         }
     }
 
@@ -0,0 +1,301 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.cometbid.component.api.auth.exceptions.CustomConstraintViolationException;
+import org.cometbid.component.api.exceptions.handler.ExceptionMapping;
+import org.cometbid.component.api.exceptions.handler.ExceptionMappings;
+import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.MessageCatalog;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Micrometer instruments for the exceptions turned into error responses.
+ * <p>
+ * {@value #ERRORS} counts the errors tagged by {@code code},
+ * {@code status}, {@code exception} (simple class name) and {@code locale}
+ * (language); {@value #MESSAGE_RESOLUTION} and {@value #SERIALIZATION} time
+ * the rendering of the localized message and of the response body, tagged
+ * by {@code code} only.
+ * <p>
+ * Every instrument is registered up front: the timers and an overflow
+ * counter for every {@link ErrorCode}, and a counter per locale for every
+ * status, error code and exception listed in the {@link ExceptionMappings}.
+ * Recording an error only looks its counter up, it never registers one.
+ * Other combinations can be added with {@link #register} when the
+ * application starts; until then they are counted by the overflow counter
+ * of their code. Tag cardinality is bounded the same way: locales outside
+ * the configured languages and unknown error codes are reported as
+ * {@value #OTHER}.
+ *
+ * @author samueladebowale
+ */
+public class ErrorMetrics {
+
+    public static final String ERRORS = "cometbid.errors";
+    public static final String MESSAGE_RESOLUTION = "cometbid.errors.message.resolution";
+    public static final String SERIALIZATION = "cometbid.errors.serialization";
+
+    public static final String CODE_TAG = "code";
+    public static final String STATUS_TAG = "status";
+    public static final String EXCEPTION_TAG = "exception";
+    public static final String LOCALE_TAG = "locale";
+
+    public static final String OTHER = "other";
+
+    private static final int OTHER_LOCALE = -1;
+
+    private final MeterRegistry registry;
+    private final String[] languages;
+    private final CodeMeters[] meters;
+    private final CodeMeters unknown;
+
+    /**
+     * Tags the locales the response message bundles are available for.
+     *
+     * @param registry
+     */
+    public ErrorMetrics(MeterRegistry registry) {
+        this(registry, MessageCatalog.getInstance().getLocales());
+    }
+
+    /**
+     *
+     * @param registry
+     * @param locales the locales whose language is used as tag value, any
+     * other locale is tagged {@value #OTHER}
+     */
+    public ErrorMetrics(MeterRegistry registry, Collection<Locale> locales) {
+        this(registry, locales, ExceptionMappings.defaults());
+    }
+
+    /**
+     *
+     * @param registry
+     * @param locales the locales whose language is used as tag value, any
+     * other locale is tagged {@value #OTHER}
+     * @param mappings the mappings whose status, error code and exception
+     * combinations are registered
+     */
+    public ErrorMetrics(MeterRegistry registry, Collection<Locale> locales, ExceptionMappings mappings) {
+        this.registry = registry;
+
+        Set<String> distinct = new LinkedHashSet<>();
+        for (Locale locale : locales) {
+            if (!locale.getLanguage().isEmpty()) {
+                distinct.add(locale.getLanguage());
+            }
+        }
+        this.languages = distinct.toArray(String[]::new);
+
+        ErrorCode[] errorCodes = ErrorCode.values();
+        this.meters = new CodeMeters[errorCodes.length];
+        for (ErrorCode errorCode : errorCodes) {
+            meters[errorCode.ordinal()] = new CodeMeters(errorCode.getErrCode());
+        }
+        this.unknown = new CodeMeters(OTHER);
+
+        mappings.getMappings().forEach((type, mapping) -> register(type, mapping));
+    }
+
+    /**
+     * Registers the counters of a combination the mappings do not list, e.g.
+     * an exception carrying a status of its own. Meant to be called when the
+     * application starts.
+     *
+     * @param errorCode the error code, null for unresolved codes
+     * @param status
+     * @param exceptionClass
+     */
+    public final void register(ErrorCode errorCode, HttpStatus status, Class<? extends Throwable> exceptionClass) {
+        meters(errorCode).register(status.value(), exceptionClass);
+    }
+
+    /**
+     *
+     * @param ex
+     * @param locale the locale the response is rendered for
+     */
+    public void record(ApplicationDefinedRuntimeException ex, Locale locale) {
+        record(ErrorCode.fromErrCode(ex.getErrorCode()), ex.getStatusCode().value(), ex.getClass(), locale);
+    }
+
+    /**
+     *
+     * @param ex
+     * @param locale the locale the response is rendered for
+     */
+    public void record(CustomConstraintViolationException ex, Locale locale) {
+        record(ErrorCode.CONSTRAINT_VIOLATION_ERR_CODE, ex.getStatus().value(), ex.getClass(), locale);
+    }
+
+    /**
+     *
+     * @param errorCode the error code, null if it could not be resolved
+     * @param status
+     * @param exceptionClass
+     * @param locale
+     */
+    public void record(ErrorCode errorCode, int status, Class<? extends Throwable> exceptionClass, Locale locale) {
+        meters(errorCode).counter(status, exceptionClass, localeIndex(locale)).increment();
+    }
+
+    /**
+     *
+     * @return the registry clock's monotonic time, the start value of the
+     * {@code record*Time} methods
+     */
+    public long monotonicTime() {
+        return registry.config().clock().monotonicTime();
+    }
+
+    /**
+     *
+     * @param errorCode
+     * @param startTime a value returned by {@link #monotonicTime()}
+     */
+    public void recordMessageResolutionTime(ErrorCode errorCode, long startTime) {
+        meters(errorCode).messageResolution.record(monotonicTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     *
+     * @param errorCode
+     * @param startTime a value returned by {@link #monotonicTime()}
+     */
+    public void recordSerializationTime(ErrorCode errorCode, long startTime) {
+        meters(errorCode).serialization.record(monotonicTime() - startTime, TimeUnit.NANOSECONDS);
+    }
+
+    private CodeMeters meters(ErrorCode errorCode) {
+        return errorCode == null ? unknown : meters[errorCode.ordinal()];
+    }
+
+    private int localeIndex(Locale locale) {
+        if (locale == null) {
+            return OTHER_LOCALE;
+        }
+        String language = locale.getLanguage();
+        for (int i = 0; i < languages.length; i++) {
+            if (languages[i].equals(language)) {
+                return i;
+            }
+        }
+        return OTHER_LOCALE;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void register(Class<?> type, ExceptionMapping mapping) {
+        if (mapping.status() != null && mapping.errorCode() != null && Throwable.class.isAssignableFrom(type)) {
+            register(mapping.errorCode(), mapping.status(), (Class<? extends Throwable>) type);
+        }
+    }
+
+    /**
+     * The counters of a status and exception, one per language and a last
+     * one for {@value #OTHER}.
+     */
+    private record Series(int status, Class<?> exceptionClass, Counter[] counters) {
+
+        boolean matches(int status, Class<?> exceptionClass) {
+            return this.status == status && this.exceptionClass == exceptionClass;
+        }
+
+        Counter counter(int locale) {
+            return counters[locale == OTHER_LOCALE ? counters.length - 1 : locale];
+        }
+    }
+
+    private final class CodeMeters {
+
+        private final String code;
+        private final Timer messageResolution;
+        private final Timer serialization;
+        private final Counter overflow;
+        private volatile Series[] series = new Series[0];
+
+        CodeMeters(String code) {
+            this.code = code;
+            this.messageResolution = Timer.builder(MESSAGE_RESOLUTION)
+                    .description("Time spent rendering the localized error message")
+                    .tag(CODE_TAG, code)
+                    .register(registry);
+            this.serialization = Timer.builder(SERIALIZATION)
+                    .description("Time spent writing the error response body")
+                    .tag(CODE_TAG, code)
+                    .register(registry);
+            this.overflow = counter(OTHER, OTHER, OTHER);
+        }
+
+        Counter counter(int status, Class<?> exceptionClass, int locale) {
+            for (Series entry : series) {
+                if (entry.matches(status, exceptionClass)) {
+                    return entry.counter(locale);
+                }
+            }
+            return overflow;
+        }
+
+        synchronized void register(int status, Class<?> exceptionClass) {
+            Series[] current = series;
+            for (Series entry : current) {
+                if (entry.matches(status, exceptionClass)) {
+                    return;
+                }
+            }
+
+            String statusTag = Integer.toString(status);
+            String exceptionTag = exceptionClass.getSimpleName();
+            Counter[] counters = new Counter[languages.length + 1];
+            for (int i = 0; i < languages.length; i++) {
+                counters[i] = counter(statusTag, exceptionTag, languages[i]);
+            }
+            counters[languages.length] = counter(statusTag, exceptionTag, OTHER);
+
+            Series[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = new Series(status, exceptionClass, counters);
+            series = updated;
+        }
+
+        private Counter counter(String status, String exception, String locale) {
+            return Counter.builder(ERRORS)
+                    .description("Exceptions turned into error responses")
+                    .tag(CODE_TAG, code)
+                    .tag(STATUS_TAG, status)
+                    .tag(EXCEPTION_TAG, exception)
+                    .tag(LOCALE_TAG, locale)
+                    .register(registry);
+        }
+    }
+}
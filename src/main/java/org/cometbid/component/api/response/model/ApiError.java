@@ -23,17 +23,24 @@
  */
 package org.cometbid.component.api.response.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 import jakarta.validation.ConstraintViolation;
+import java.lang.reflect.Array;
+import java.time.temporal.TemporalAccessor;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.io.Serializable;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
-import org.hibernate.validator.internal.engine.path.PathImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
@@ -46,6 +53,8 @@ import org.springframework.validation.ObjectError;
 @JsonIgnoreProperties(ignoreUnknown = false)
 public class ApiError extends ApiResponse implements Serializable {
 
+    static final String TRUNCATION_MARKER = "...";
+
     /**
      * Application error code, which is different from HTTP error code.
      */
@@ -61,6 +70,14 @@ public class ApiError extends ApiResponse implements Serializable {
     @JsonProperty("errorDetails")
     private List<ApiSubError> subErrors;
 
+    /**
+     * The last of the sub-errors once the cap is reached; not serialized on
+     * its own.
+     */
+    @JsonIgnore
+    @Getter(AccessLevel.NONE)
+    private transient ApiValidationErrorSummary overflow;
+
     /**
      * 
      * @param uri
@@ -87,11 +104,38 @@ public class ApiError extends ApiResponse implements Serializable {
                 .build();
     }
 
+    /**
+     *
+     * @param uri
+     * @param method
+     * @param errorCode
+     * @param status
+     * @param statusCode
+     * @param message
+     * @param detailMessage
+     * @param traceId the trace id of the request
+     * @return
+     */
+    public static ApiError create(String uri, String method,
+            String errorCode, String status, int statusCode,
+            String message, String detailMessage, String traceId) {
+
+        return new ApiError(uri, method, errorCode, status, statusCode, message, detailMessage, traceId);
+    }
+
     @Builder
     public ApiError(String path, String reqMethod, String errorCode,
             String status, int httpCode, String shortMessage, String detailMessage) {
 
-        this(shortMessage, status, HttpStatus.valueOf(httpCode));
+        this(path, reqMethod, errorCode, status, httpCode, shortMessage, detailMessage,
+                ResponseSettings.currentTraceId());
+    }
+
+    public ApiError(String path, String reqMethod, String errorCode,
+            String status, int httpCode, String shortMessage, String detailMessage, String traceId) {
+
+        super(shortMessage, status, HttpStatus.valueOf(httpCode), traceId);
+        this.subErrors = new ArrayList<>();
 
         this.path = path;
         this.reqMethod = reqMethod;
@@ -118,17 +162,30 @@ public class ApiError extends ApiResponse implements Serializable {
         subErrors.add(subError);
     }
 
-    private void addValidationError(String object, String field, Object rejectedValue, String message) {
-        addSubError(new ApiValidationError(object, field, rejectedValue, message));
-    }
+    /**
+     * Lists the error while fewer than
+     * {@link ValidationErrorSettings#getMaxSubErrors()} are listed, and only
+     * counts it in the overflow summary afterwards.
+     */
+    private void addValidationError(String object, String field, String code, Object rejectedValue, String message) {
+        int maxSubErrors = ValidationErrorSettings.getMaxSubErrors();
+
+        if (overflow == null && (subErrors == null || subErrors.size() < maxSubErrors)) {
+            addSubError(new ApiValidationError(object, field, boundRejectedValue(rejectedValue), message));
+            return;
+        }
 
-    private void addValidationError(String object, String message) {
-        addSubError(new ApiValidationError(object, message));
+        if (overflow == null) {
+            overflow = new ApiValidationErrorSummary(object);
+            addSubError(overflow);
+        }
+        overflow.count(field, code, Math.max(maxSubErrors, 1));
     }
 
     public void addValidationError(FieldError fieldError) {
         this.addValidationError(fieldError.getObjectName(),
                 fieldError.getField(),
+                fieldError.getCode(),
                 fieldError.getRejectedValue(),
                 fieldError.getDefaultMessage());
     }
@@ -140,6 +197,9 @@ public class ApiError extends ApiResponse implements Serializable {
     public void addValidationError(ObjectError objectError) {
         this.addValidationError(
                 objectError.getObjectName(),
+                null,
+                objectError.getCode(),
+                null,
                 objectError.getDefaultMessage());
     }
 
@@ -155,13 +215,106 @@ public class ApiError extends ApiResponse implements Serializable {
      * @param cv the ConstraintViolation
      */
     private void addValidationError(ConstraintViolation<?> cv) {
-        this.addValidationError(cv.getRootBeanClass().getSimpleName(),
-                cv.getPropertyPath() == null ? ""
-                : ((PathImpl) cv.getPropertyPath()).getLeafNode().asString(),
+        ConstraintViolationMapper.Shape shape = ConstraintViolationMapper.shapeOf(cv);
+
+        this.addValidationError(shape.object(), shape.field(), shape.code(),
                 cv.getInvalidValue(), cv.getMessage());
     }
 
-    public void addValidationErrors(Set<ConstraintViolation<?>> constraintViolations) {
-        constraintViolations.forEach(this::addValidationError);
+    public void addValidationErrors(Set<? extends ConstraintViolation<?>> constraintViolations) {
+        reserveSubErrors(constraintViolations.size());
+
+        for (ConstraintViolation<?> cv : constraintViolations) {
+            addValidationError(cv);
+        }
+    }
+
+    /**
+     * Sizes the sub-error list once for a batch, up to the listed maximum.
+     */
+    private void reserveSubErrors(int count) {
+        if (overflow != null) {
+            return;
+        }
+        if (subErrors == null) {
+            subErrors = new ArrayList<>();
+        }
+        if (subErrors instanceof ArrayList<ApiSubError> list) {
+            list.ensureCapacity(Math.min(list.size() + count, ValidationErrorSettings.getMaxSubErrors() + 1));
+        }
+    }
+
+    /**
+     * Keeps at most {@link ValidationErrorSettings#getMaxRejectedValueLength()}
+     * characters of a text, and as many elements of a collection, map or
+     * array, so a sub-error never holds on to a large part of the request.
+     * Scalars are kept as is. Elements that are themselves collections, maps
+     * or arrays become their type name and size, and any other object its
+     * truncated {@code toString()}.
+     */
+    static Object boundRejectedValue(Object value) {
+        int max = ValidationErrorSettings.getMaxRejectedValueLength();
+
+        if (value instanceof Collection<?> collection) {
+            List<Object> bounded = new ArrayList<>(Math.min(collection.size(), max));
+            for (Object element : collection) {
+                if (bounded.size() == max) {
+                    break;
+                }
+                bounded.add(boundElement(element, max));
+            }
+            return bounded;
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> bounded = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (bounded.size() == max) {
+                    break;
+                }
+                bounded.put(boundElement(entry.getKey(), max), boundElement(entry.getValue(), max));
+            }
+            return bounded;
+        }
+        if (value != null && value.getClass().isArray()) {
+            int length = Math.min(Array.getLength(value), max);
+            List<Object> bounded = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                bounded.add(boundElement(Array.get(value, i), max));
+            }
+            return bounded;
+        }
+        return boundElement(value, max);
+    }
+
+    private static Object boundElement(Object value, int max) {
+        if (value == null || isScalar(value)) {
+            return value;
+        }
+        if (value instanceof CharSequence text) {
+            return truncate(text, max);
+        }
+        if (value instanceof Collection<?> collection) {
+            return summary(value, collection.size());
+        }
+        if (value instanceof Map<?, ?> map) {
+            return summary(value, map.size());
+        }
+        if (value.getClass().isArray()) {
+            return summary(value, Array.getLength(value));
+        }
+        return truncate(String.valueOf(value), max);
+    }
+
+    private static boolean isScalar(Object value) {
+        return value instanceof Number || value instanceof Boolean || value instanceof Character
+                || value instanceof Enum<?> || value instanceof TemporalAccessor || value instanceof UUID;
+    }
+
+    private static String summary(Object value, int size) {
+        return value.getClass().getSimpleName() + "[size=" + size + "]";
+    }
+
+    private static Object truncate(CharSequence text, int max) {
+        return text.length() <= max ? text : text.subSequence(0, max) + TRUNCATION_MARKER;
     }
-}
\ No newline at end of file
+}
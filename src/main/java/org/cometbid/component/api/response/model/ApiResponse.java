@@ -26,11 +26,13 @@ package org.cometbid.component.api.response.model;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.time.Instant;
 import java.time.ZonedDateTime;
-import org.apache.logging.log4j.ThreadContext;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import org.cometbid.component.api.jackson.ZonedDateTimeDeserializer;
@@ -44,6 +46,7 @@ import org.springframework.http.HttpStatus;
  */
 @Getter
 //@Setter
+@JsonPropertyOrder({"path", "message", "method", "status", "traceId", "timestamp"})
 public abstract class ApiResponse {
 
     /**
@@ -73,15 +76,27 @@ public abstract class ApiResponse {
     @JsonProperty("traceId")
     protected String traceId;
 
-    @JsonProperty(value = "timestamp")
-    @JsonSerialize(using = ZonedDateTimeSerializer.class)
-    @JsonDeserialize(using = ZonedDateTimeDeserializer.class)
-    @JsonFormat(pattern = "yyyy-MM-dd hh:mm:ss a")
+    /**
+     * Creation time, see {@link ResponseSettings#getClock()}. Exposed as the
+     * {@code timestamp} property.
+     */
+    @JsonIgnore
+    protected long epochMilli;
+
+    /**
+     * The creation time as returned by {@link #getTimestamp()}, converted on
+     * first use. A value assigned by a subclass takes precedence over
+     * {@link #epochMilli}.
+     *
+     * @deprecated use {@link #getTimestamp()} or {@link #getEpochMilli()}
+     */
+    @Deprecated
+    @Getter(AccessLevel.NONE)
     protected ZonedDateTime timestamp;
 
     public ApiResponse() {
-        this.traceId = ThreadContext.get("X-B3-TraceId");
-        this.timestamp = TimeZoneUtils.getZonedDateTimeInUTC();
+        this.traceId = ResponseSettings.currentTraceId();
+        this.epochMilli = ResponseSettings.currentTimeMillis();
 
         this.message = null;
         this.status = null;
@@ -89,10 +104,62 @@ public abstract class ApiResponse {
     }
 
     public ApiResponse(String message, String status, HttpStatus httpStatus) {
-        this();
+        this(message, status, httpStatus, ResponseSettings.currentTraceId());
+    }
+
+    /**
+     *
+     * @param message
+     * @param status
+     * @param httpStatus
+     * @param traceId the trace id of the request, passed by callers that
+     * cannot rely on the current thread's context
+     */
+    protected ApiResponse(String message, String status, HttpStatus httpStatus, String traceId) {
+        this.traceId = traceId;
+        this.epochMilli = ResponseSettings.currentTimeMillis();
+
         this.message = message;
         this.status = status;
         this.httpStatus = httpStatus;
     }
 
+    /**
+     *
+     * @return the creation time, in UTC unless a subclass set it otherwise
+     */
+    @JsonProperty(value = "timestamp")
+    @JsonSerialize(using = ZonedDateTimeSerializer.class)
+    @JsonFormat(pattern = "yyyy-MM-dd hh:mm:ss a")
+    @SuppressWarnings("deprecation")
+    public ZonedDateTime getTimestamp() {
+        ZonedDateTime converted = timestamp;
+        if (converted == null) {
+            converted = Instant.ofEpochMilli(epochMilli).atZone(TimeZoneUtils.UTC_ZONEID);
+            timestamp = converted;
+        }
+        return converted;
+    }
+
+    /**
+     *
+     * @return the creation time in milliseconds since the epoch
+     */
+    @SuppressWarnings("deprecation")
+    public long getEpochMilli() {
+        ZonedDateTime assigned = timestamp;
+        if (assigned == null) {
+            return epochMilli;
+        }
+        return assigned.toEpochSecond() * 1000 + assigned.getNano() / 1_000_000;
+    }
+
+    @JsonProperty(value = "timestamp")
+    @JsonDeserialize(using = ZonedDateTimeDeserializer.class)
+    @SuppressWarnings("deprecation")
+    protected void setTimestamp(ZonedDateTime timestamp) {
+        this.timestamp = timestamp;
+        this.epochMilli = timestamp.toInstant().toEpochMilli();
+    }
+
 }
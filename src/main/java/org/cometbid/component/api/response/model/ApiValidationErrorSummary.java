@@ -0,0 +1,107 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.response.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Stands in for the validation errors of an {@link ApiError} beyond
+ * {@link ValidationErrorSettings#getMaxSubErrors()}: only the number of
+ * omitted errors per field and constraint code is reported.
+ * <p>
+ * Indexes and keys are removed from field paths ({@code items[42].name}
+ * becomes {@code items[].name}), so the errors of a bulk payload collapse
+ * into a handful of entries. The number of entries is bounded as well;
+ * anything past it is counted under {@link #OTHER_KEY}.
+ *
+ * @author samueladebowale
+ */
+@Getter
+public class ApiValidationErrorSummary extends ApiSubError {
+
+    public static final String OTHER_KEY = "*";
+
+    private static final HttpStatus STATUS = HttpStatus.UNPROCESSABLE_ENTITY;
+
+    @JsonProperty(value = "omittedCount")
+    private int omittedCount;
+
+    @JsonProperty(value = "omitted")
+    private final Map<String, Integer> omitted;
+
+    public ApiValidationErrorSummary(String object) {
+        super(object, STATUS.toString(), STATUS.getReasonPhrase());
+        this.omitted = new LinkedHashMap<>();
+    }
+
+    /**
+     * Counts one omitted error.
+     *
+     * @param field the field in error, or null for an object level error
+     * @param code the constraint code, e.g. {@code NotBlank}, if known
+     * @param maxEntries the maximum number of distinct entries to keep
+     */
+    void count(String field, String code, int maxEntries) {
+        String key = keyOf(field, code);
+
+        if (!omitted.containsKey(key) && omitted.size() >= maxEntries) {
+            key = OTHER_KEY;
+        }
+        omitted.merge(key, 1, Integer::sum);
+        omittedCount++;
+    }
+
+    static String keyOf(String field, String code) {
+        String path = field == null ? "" : stripIndexes(field);
+
+        if (code == null) {
+            return path.isEmpty() ? OTHER_KEY : path;
+        }
+        return path.isEmpty() ? code : path + ':' + code;
+    }
+
+    private static String stripIndexes(String field) {
+        int open = field.indexOf('[');
+        if (open < 0) {
+            return field;
+        }
+
+        StringBuilder sb = new StringBuilder(field.length());
+        int from = 0;
+        while (open >= 0) {
+            int close = field.indexOf(']', open);
+            if (close < 0) {
+                break;
+            }
+            sb.append(field, from, open + 1);
+            from = close;
+            open = field.indexOf('[', close);
+        }
+        return sb.append(field, from, field.length()).toString();
+    }
+}
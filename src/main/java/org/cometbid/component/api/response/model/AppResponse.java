@@ -50,8 +50,11 @@ public class AppResponse {
     @JsonProperty("response")
     private ApiResponse response;
 
+    static final String SUCCESS_MESSAGE = "SUCCESS!";
+    static final String ERROR_MESSAGE = "ERROR!";
+
     @Builder
-    private AppResponse(boolean success, String message, AppResponseMetadata metadata, ApiResponse data) {
+    AppResponse(boolean success, String message, AppResponseMetadata metadata, ApiResponse data) {
         this.success = success;
         this.message = message;
         this.metadata = metadata;
@@ -63,23 +66,11 @@ public class AppResponse {
     }
 
     public static AppResponse success(ApiResponse data, AppResponseMetadata metadata) {
-
-        return AppResponse.builder()
-                .message("SUCCESS!")
-                .success(true)
-                .metadata(metadata)
-                .data(data)
-                .build();
+        return new AppResponse(true, SUCCESS_MESSAGE, metadata, data);
     }
 
     public static AppResponse error(ApiResponse data, AppResponseMetadata metadata) {
-
-        return AppResponse.builder()
-                .message("ERROR!")
-                .success(false)
-                .metadata(metadata)
-                .data(data)
-                .build();
+        return new AppResponse(false, ERROR_MESSAGE, metadata, data);
     }
 
     /**
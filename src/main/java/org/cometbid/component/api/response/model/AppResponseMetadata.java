@@ -23,37 +23,147 @@
  */
 package org.cometbid.component.api.response.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-import lombok.experimental.Accessors;
-import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.With;
+import lombok.extern.jackson.Jacksonized;
 
 /**
+ * Metadata of a response.
+ * <p>
+ * Instances are immutable, so one can be shared by every response of an
+ * application, see {@link ResponseFactory}; {@link #intern()} returns a
+ * canonical instance for equal metadata. Use the builder or the
+ * {@code with} methods to derive variants. The setters of earlier versions
+ * are kept for binary compatibility only and always throw.
  *
  * @author samueladebowale
  */
-@Data
-@Builder
-@NoArgsConstructor
+@Getter
+@With
+@ToString
+@EqualsAndHashCode
+@Builder(toBuilder = true)
+@Jacksonized
 @AllArgsConstructor
-@Accessors(chain = true)
-public class AppResponseMetadata {
+public final class AppResponseMetadata {
+
+    public static final AppResponseMetadata EMPTY = new AppResponseMetadata();
+
+    /**
+     * Bounds the interned instances; metadata interned once the pool is full
+     * is returned as is.
+     */
+    static final int MAX_INTERNED = 256;
+
+    private static final ConcurrentMap<AppResponseMetadata, AppResponseMetadata> INTERNED
+            = new ConcurrentHashMap<>();
 
     @JsonProperty("apiVersion")
-    private String apiVersion;
+    private final String apiVersion;
 
     @JsonProperty("reportTo")
-    private String sendReport;
+    private final String sendReport;
 
     @JsonProperty("moreInfo")
-    private String moreInfo;
-    
+    private final String moreInfo;
+
     @JsonProperty("apiDocUrl")
-    private String apiDocUrl;
-    
+    private final String apiDocUrl;
+
     @JsonProperty("technical")
-    private String technical;
+    private final String technical;
+
+    /**
+     * Metadata without any value, like {@link #EMPTY}.
+     */
+    public AppResponseMetadata() {
+        this(null, null, null, null, null);
+    }
+
+    /**
+     *
+     * @return the shared instance equal to this one
+     */
+    public AppResponseMetadata intern() {
+        AppResponseMetadata interned = INTERNED.get(this);
+        if (interned != null) {
+            return interned;
+        }
+        if (INTERNED.size() >= MAX_INTERNED) {
+            return this;
+        }
+        interned = INTERNED.putIfAbsent(this, this);
+        return interned != null ? interned : this;
+    }
+
+    /**
+     *
+     * @param apiVersion
+     * @return never
+     * @throws UnsupportedOperationException always, the metadata is immutable
+     * @deprecated use {@link #withApiVersion(String)} or the builder
+     */
+    @Deprecated(forRemoval = true)
+    public AppResponseMetadata setApiVersion(String apiVersion) {
+        throw immutable();
+    }
+
+    /**
+     *
+     * @param sendReport
+     * @return never
+     * @throws UnsupportedOperationException always, the metadata is immutable
+     * @deprecated use {@link #withSendReport(String)} or the builder
+     */
+    @Deprecated(forRemoval = true)
+    public AppResponseMetadata setSendReport(String sendReport) {
+        throw immutable();
+    }
+
+    /**
+     *
+     * @param moreInfo
+     * @return never
+     * @throws UnsupportedOperationException always, the metadata is immutable
+     * @deprecated use {@link #withMoreInfo(String)} or the builder
+     */
+    @Deprecated(forRemoval = true)
+    public AppResponseMetadata setMoreInfo(String moreInfo) {
+        throw immutable();
+    }
+
+    /**
+     *
+     * @param apiDocUrl
+     * @return never
+     * @throws UnsupportedOperationException always, the metadata is immutable
+     * @deprecated use {@link #withApiDocUrl(String)} or the builder
+     */
+    @Deprecated(forRemoval = true)
+    public AppResponseMetadata setApiDocUrl(String apiDocUrl) {
+        throw immutable();
+    }
+
+    /**
+     *
+     * @param technical
+     * @return never
+     * @throws UnsupportedOperationException always, the metadata is immutable
+     * @deprecated use {@link #withTechnical(String)} or the builder
+     */
+    @Deprecated(forRemoval = true)
+    public AppResponseMetadata setTechnical(String technical) {
+        throw immutable();
+    }
 
+    private static UnsupportedOperationException immutable() {
+        return new UnsupportedOperationException("Response metadata is immutable, use the with methods");
+    }
 }
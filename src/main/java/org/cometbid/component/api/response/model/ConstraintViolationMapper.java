@@ -0,0 +1,128 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.response.model;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Path;
+import jakarta.validation.metadata.ConstraintDescriptor;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the object name, field and constraint code of a
+ * {@link ConstraintViolation} through the public Bean Validation API.
+ * <p>
+ * The resolution is cached per root bean class, {@link ConstraintDescriptor}
+ * and leaf node name, which together determine it. Container indexes and
+ * keys play no part, so a bulk payload with thousands of violations of a few
+ * constraints resolves a few shapes. The leaf name is part of the key
+ * because class level and cross-field constraints can report violations
+ * against several properties through
+ * {@code addPropertyNode(..)} with the same descriptor.
+ *
+ * @author samueladebowale
+ */
+final class ConstraintViolationMapper {
+
+    /**
+     * Bounds the cache when validators, and their descriptors, are created
+     * over and over; further shapes are resolved on every call.
+     */
+    static final int MAX_CACHED_SHAPES = 1024;
+
+    private static final Map<ShapeKey, Shape> SHAPES = new ConcurrentHashMap<>();
+
+    private ConstraintViolationMapper() {
+    }
+
+    /**
+     *
+     * @param cv the violation
+     * @return the object name, field and constraint code of the violation
+     */
+    static Shape shapeOf(ConstraintViolation<?> cv) {
+        ConstraintDescriptor<?> descriptor = cv.getConstraintDescriptor();
+        String leafName = leafName(cv.getPropertyPath());
+        if (descriptor == null || cv.getRootBeanClass() == null) {
+            return resolve(cv, leafName);
+        }
+
+        ShapeKey key = new ShapeKey(cv.getRootBeanClass(), descriptor, leafName);
+        Shape shape = SHAPES.get(key);
+
+        if (shape == null) {
+            shape = resolve(cv, leafName);
+            if (SHAPES.size() < MAX_CACHED_SHAPES) {
+                SHAPES.putIfAbsent(key, shape);
+            }
+        }
+        return shape;
+    }
+
+    private static Shape resolve(ConstraintViolation<?> cv, String leafName) {
+        ConstraintDescriptor<?> descriptor = cv.getConstraintDescriptor();
+
+        return new Shape(
+                cv.getRootBeanClass() == null ? null : cv.getRootBeanClass().getSimpleName(),
+                leafName,
+                descriptor == null ? null : descriptor.getAnnotation().annotationType().getSimpleName());
+    }
+
+    /**
+     * Name of the last node of the path, or an empty string for a class level
+     * constraint of the root bean, whose path has no named node.
+     */
+    static String leafName(Path path) {
+        if (path == null) {
+            return "";
+        }
+
+        Path.Node leaf = null;
+        for (Path.Node node : path) {
+            leaf = node;
+        }
+        return leaf == null || leaf.getName() == null ? "" : leaf.getName();
+    }
+
+    static int cachedShapes() {
+        return SHAPES.size();
+    }
+
+    private record ShapeKey(Class<?> rootBeanClass, ConstraintDescriptor<?> descriptor, String leafName) {
+
+    }
+
+    /**
+     * What a violation contributes to an {@link ApiValidationError} besides
+     * its invalid value and message.
+     *
+     * @param object simple name of the root bean class
+     * @param field name of the leaf node of the property path
+     * @param code simple name of the constraint annotation, e.g.
+     * {@code NotBlank}
+     */
+    record Shape(String object, String field, String code) {
+
+    }
+}
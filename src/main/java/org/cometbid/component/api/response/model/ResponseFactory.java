@@ -0,0 +1,252 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.response.model;
+
+import java.util.Locale;
+import org.apache.commons.lang3.StringUtils;
+import org.cometbid.component.api.auth.exceptions.CustomConstraintViolationException;
+import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
+import org.cometbid.component.api.metrics.ErrorMetrics;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.cometbid.component.api.util.MessageCatalog;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Stamps out {@link AppResponse}s sharing one immutable, interned
+ * {@link AppResponseMetadata} built once per application; declare it as a
+ * bean and inject it where responses are produced.
+ * <p>
+ * Success responses only allocate the {@code AppResponse} itself and the
+ * empty response is a constant. Error responses additionally copy the
+ * metadata when a report URI is configured, because the report link carries
+ * the trace id of the error.
+ * <p>
+ * Exceptions turned into responses through this factory are recorded in
+ * the {@link ErrorMetrics}, when set. Callers off the request thread, such
+ * as reactive handlers, pass locale and trace id explicitly; the overloads
+ * without them read the current thread's context.
+ *
+ * @author samueladebowale
+ */
+public class ResponseFactory {
+
+    private static final Object[] NO_ARGS = {};
+
+    private final AppResponseMetadata metadata;
+    private final String sendReportUri;
+    private final AppResponse empty;
+    private volatile ErrorMetrics metrics;
+
+    /**
+     *
+     * @param apiVersion
+     * @param sendReportUri
+     * @param moreInfoUrl
+     * @param apiDocUrl
+     */
+    public ResponseFactory(String apiVersion, String sendReportUri, String moreInfoUrl, String apiDocUrl) {
+        this(AppResponseMetadata.builder()
+                .apiVersion(apiVersion)
+                .moreInfo(moreInfoUrl)
+                .apiDocUrl(apiDocUrl)
+                .build(), sendReportUri);
+    }
+
+    /**
+     *
+     * @param metadata
+     * @param sendReportUri
+     */
+    public ResponseFactory(AppResponseMetadata metadata, String sendReportUri) {
+        this.metadata = (metadata == null ? AppResponseMetadata.EMPTY : metadata).intern();
+        this.sendReportUri = StringUtils.isBlank(sendReportUri) ? null : sendReportUri;
+        this.empty = AppResponse.empty(this.metadata);
+    }
+
+    /**
+     *
+     * @return the metadata shared by every response of this factory
+     */
+    public AppResponseMetadata getMetadata() {
+        return metadata;
+    }
+
+    /**
+     *
+     * @return base of the {@code reportTo} link of error responses, null if
+     * none
+     */
+    public String getSendReportUri() {
+        return sendReportUri;
+    }
+
+    /**
+     *
+     * @return the shared empty response
+     */
+    public AppResponse empty() {
+        return empty;
+    }
+
+    /**
+     *
+     * @param data
+     * @return
+     */
+    public AppResponse success(ApiResponse data) {
+        return data == null ? empty : AppResponse.success(data, metadata);
+    }
+
+    /**
+     *
+     * @param error
+     * @return
+     */
+    public AppResponse error(ApiError error) {
+        return AppResponse.error(error, errorMetadata(error));
+    }
+
+    /**
+     *
+     * @param ex
+     * @param path
+     * @param method
+     * @return the error response for the exception, its localized reason as
+     * message
+     */
+    public AppResponse error(ApplicationDefinedRuntimeException ex, String path, String method) {
+        return error(ex, path, method, LocaleContextUtils.getContextLocale(), null);
+    }
+
+    /**
+     *
+     * @param ex
+     * @param path
+     * @param method
+     * @param locale the locale a lazily resolved reason is rendered for
+     * @param traceId the trace id of the error, null for the current one
+     * @return the error response for the exception, its localized reason as
+     * message
+     */
+    public AppResponse error(ApplicationDefinedRuntimeException ex, String path, String method, Locale locale,
+            String traceId) {
+        ErrorCode errorCode = ErrorCode.fromErrCode(ex.getErrorCode());
+        HttpStatus status = HttpStatus.resolve(ex.getStatusCode().value());
+        if (status == null) {
+            status = HttpStatus.INTERNAL_SERVER_ERROR;
+        }
+
+        ErrorMetrics errorMetrics = this.metrics;
+        String message;
+        if (ex.getMessageKey() != null) {
+            // only a lazily resolved reason is rendered here
+            long startTime = errorMetrics == null ? 0L : errorMetrics.monotonicTime();
+            message = MessageCatalog.getInstance().getMessage(ex.getMessageKey(), ex.getMessageArgs(), locale);
+            if (errorMetrics != null) {
+                errorMetrics.recordMessageResolutionTime(errorCode, startTime);
+            }
+        } else {
+            message = ex.getReason();
+        }
+        if (errorMetrics != null) {
+            errorMetrics.record(ex, locale);
+        }
+
+        return error(apiError(path, method, ex.getErrorCode(), status, message, traceId));
+    }
+
+    /**
+     *
+     * @param ex
+     * @param path
+     * @param method
+     * @return the error response for the exception, one sub error per
+     * violation
+     */
+    public AppResponse error(CustomConstraintViolationException ex, String path, String method) {
+        return error(ex, path, method, LocaleContextUtils.getContextLocale(), null);
+    }
+
+    /**
+     *
+     * @param ex
+     * @param path
+     * @param method
+     * @param locale the locale the message is rendered for
+     * @param traceId the trace id of the error, null for the current one
+     * @return the error response for the exception, one sub error per
+     * violation
+     */
+    public AppResponse error(CustomConstraintViolationException ex, String path, String method, Locale locale,
+            String traceId) {
+        HttpStatus status = ex.getStatus();
+
+        ErrorMetrics errorMetrics = this.metrics;
+        long startTime = errorMetrics == null ? 0L : errorMetrics.monotonicTime();
+        String message = MessageCatalog.getInstance().getMessage(ErrorCode.CONSTRAINT_VIOLATION_ERR_CODE, NO_ARGS,
+                locale);
+        if (errorMetrics != null) {
+            errorMetrics.recordMessageResolutionTime(ErrorCode.CONSTRAINT_VIOLATION_ERR_CODE, startTime);
+            errorMetrics.record(ex, locale);
+        }
+
+        ApiError apiError = apiError(path, method, ex.getErrorCode(), status, message, traceId);
+        apiError.addValidationErrors(ex.getConstraintViolations());
+
+        return error(apiError);
+    }
+
+    /**
+     *
+     * @return the metrics exceptions are recorded in, may be null
+     */
+    public ErrorMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     *
+     * @param metrics the metrics to record exceptions in, null to disable
+     */
+    public void setMetrics(ErrorMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    private static ApiError apiError(String path, String method, String errorCode, HttpStatus status,
+            String message, String traceId) {
+        return traceId == null
+                ? ApiError.create(path, method, errorCode, status.name(), status.value(), status.getReasonPhrase(),
+                        message)
+                : ApiError.create(path, method, errorCode, status.name(), status.value(), status.getReasonPhrase(),
+                        message, traceId);
+    }
+
+    private AppResponseMetadata errorMetadata(ApiError error) {
+        if (sendReportUri == null || error == null) {
+            return metadata;
+        }
+        return metadata.withSendReport(sendReportUri + "?id=" + error.getTraceId());
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.response.model;
+
+import java.time.Clock;
+import java.util.function.Supplier;
+import org.apache.logging.log4j.ThreadContext;
+import org.cometbid.component.api.util.RequestContext;
+
+/**
+ * Sources of the timestamp and trace id stamped on every
+ * {@link ApiResponse}.
+ * <p>
+ * Responses only keep the epoch milliseconds read from the {@link Clock};
+ * the {@code ZonedDateTime} is created when the response is serialized.
+ * Tests can install a fixed clock and trace id source, and restore the
+ * defaults with {@link #reset()}.
+ *
+ * @author samueladebowale
+ */
+public final class ResponseSettings {
+
+    private static final Supplier<String> CONTEXT_TRACE_ID = ResponseSettings::contextTraceId;
+
+    private static volatile Clock clock = Clock.systemUTC();
+
+    private static volatile Supplier<String> traceIdSource = CONTEXT_TRACE_ID;
+
+    private ResponseSettings() {
+    }
+
+    /**
+     *
+     * @return the clock timestamping responses
+     */
+    public static Clock getClock() {
+        return clock;
+    }
+
+    /**
+     *
+     * @param responseClock
+     */
+    public static void setClock(Clock responseClock) {
+        clock = responseClock == null ? Clock.systemUTC() : responseClock;
+    }
+
+    /**
+     *
+     * @return the source of the trace id of new responses
+     */
+    public static Supplier<String> getTraceIdSource() {
+        return traceIdSource;
+    }
+
+    /**
+     *
+     * @param source
+     */
+    public static void setTraceIdSource(Supplier<String> source) {
+        traceIdSource = source == null ? CONTEXT_TRACE_ID : source;
+    }
+
+    /**
+     * Restores the system clock and the request context trace id.
+     */
+    public static void reset() {
+        clock = Clock.systemUTC();
+        traceIdSource = CONTEXT_TRACE_ID;
+    }
+
+    static long currentTimeMillis() {
+        return clock.millis();
+    }
+
+    static String currentTraceId() {
+        return traceIdSource.get();
+    }
+
+    /**
+     * The trace id of the {@link RequestContext}, else of the logging
+     * context.
+     */
+    private static String contextTraceId() {
+        String contextTraceId = RequestContext.current().getTraceId();
+        return contextTraceId != null ? contextTraceId : ThreadContext.get(RequestContext.TRACE_ID_KEY);
+    }
+}
@@ -23,10 +23,12 @@
  */
 package org.cometbid.component.api.response.model;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Arrays;
+import java.util.Locale;
 import java.util.Set;
+import java.util.stream.Collectors;
 import lombok.Getter;
+import org.cometbid.component.api.util.EnumIndex;
 
 /**
  *
@@ -55,21 +57,19 @@ public enum ResponseType {
     }
 
     // Implementing a fromString method on an enum type
-    private static final Map<String, ResponseType> stringToEnum = new HashMap<>();
+    private static final EnumIndex<ResponseType> stringToEnum = EnumIndex.by(ResponseType.class, ResponseType::toString);
 
-    static { // Initialize map from constant name to enum constant
-        for (ResponseType op : values()) {
-            stringToEnum.put(op.toString().toLowerCase(), op);
-        }
-    }
+    private static final Set<String> allTypes = Arrays.stream(values())
+            .map(op -> op.toString().toLowerCase(Locale.ROOT))
+            .collect(Collectors.toUnmodifiableSet());
 
-    // Returns Operation for string, or null if string is invalid
+    // Returns Operation for string, in any case, or null if string is invalid
     public static ResponseType fromString(String typeName) {
         return stringToEnum.get(typeName);
     }
 
     public static Set<String> getAllTypes() {
-        return stringToEnum.keySet();
+        return allTypes;
     }
 
 }
@@ -0,0 +1,102 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.response.model;
+
+import org.apache.commons.lang3.math.NumberUtils;
+
+/**
+ * Process-wide limits on the validation details carried by an
+ * {@link ApiError}, so that the size of an error response does not grow with
+ * the size of the rejected request.
+ * <p>
+ * Defaults are read from system properties at startup and can be changed
+ * programmatically, e.g. from an application configuration class.
+ *
+ * @author samueladebowale
+ */
+public final class ValidationErrorSettings {
+
+    /**
+     * Maximum number of sub-errors listed one by one in an {@link ApiError}.
+     * Further errors are only counted in an {@link ApiValidationErrorSummary}.
+     */
+    public static final String MAX_SUB_ERRORS_PROPERTY = "cometbid.validation.max-sub-errors";
+
+    /**
+     * Maximum number of characters of a rejected text value, and of elements
+     * of a rejected collection, map or array, kept in a sub-error.
+     */
+    public static final String MAX_REJECTED_VALUE_LENGTH_PROPERTY = "cometbid.validation.max-rejected-value-length";
+
+    public static final int DEFAULT_MAX_SUB_ERRORS = 100;
+
+    public static final int DEFAULT_MAX_REJECTED_VALUE_LENGTH = 256;
+
+    private static volatile int maxSubErrors = NumberUtils.toInt(
+            System.getProperty(MAX_SUB_ERRORS_PROPERTY), DEFAULT_MAX_SUB_ERRORS);
+
+    private static volatile int maxRejectedValueLength = NumberUtils.toInt(
+            System.getProperty(MAX_REJECTED_VALUE_LENGTH_PROPERTY), DEFAULT_MAX_REJECTED_VALUE_LENGTH);
+
+    private ValidationErrorSettings() {
+    }
+
+    /**
+     *
+     * @return the maximum number of sub-errors listed in an error response
+     */
+    public static int getMaxSubErrors() {
+        return maxSubErrors;
+    }
+
+    /**
+     *
+     * @param max
+     */
+    public static void setMaxSubErrors(int max) {
+        if (max < 0) {
+            throw new IllegalArgumentException("Maximum number of sub-errors must not be negative: " + max);
+        }
+        maxSubErrors = max;
+    }
+
+    /**
+     *
+     * @return the maximum length of a rejected value kept in a sub-error
+     */
+    public static int getMaxRejectedValueLength() {
+        return maxRejectedValueLength;
+    }
+
+    /**
+     *
+     * @param max
+     */
+    public static void setMaxRejectedValueLength(int max) {
+        if (max < 0) {
+            throw new IllegalArgumentException("Maximum rejected value length must not be negative: " + max);
+        }
+        maxRejectedValueLength = max;
+    }
+}
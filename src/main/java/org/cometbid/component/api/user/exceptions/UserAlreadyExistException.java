@@ -26,7 +26,6 @@ package org.cometbid.component.api.user.exceptions;
 import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
 import org.cometbid.component.api.util.ErrorCode;
 import org.springframework.http.HttpStatus;
-import org.cometbid.component.api.util.ResourceBundleAccessor;
 
 /**
  * @author Gbenga
@@ -72,24 +71,37 @@ public class UserAlreadyExistException extends ApplicationDefinedRuntimeExceptio
      * @param ex
      */
     public UserAlreadyExistException(String messagekey, Object[] args, Throwable ex) {
-        super(STATUS, ResourceBundleAccessor.accessMessageInBundle(messagekey, args), ex);
+        super(STATUS, messagekey, args, ex);
     }
 
     /**
      *
+     * @param reason the already rendered message
+     * @param ex
+     * @see #withReason(String, Throwable)
      */
-    @Override
-    public String getErrorCode() {
-        return ErrorCode.USER_EXIST_ERR_CODE.getErrCode();
+    protected UserAlreadyExistException(String reason, Throwable ex) {
+        super(STATUS, reason, ex);
+    }
+
+    /**
+     * Creates the exception with an already rendered message, e.g. one
+     * received from a remote service, instead of a message key.
+     *
+     * @param reason the already rendered message
+     * @param ex
+     * @return the exception
+     */
+    public static UserAlreadyExistException withReason(String reason, Throwable ex) {
+        return new UserAlreadyExistException(reason, ex);
     }
 
     /**
      *
      */
     @Override
-    public String getErrorMessage() {
-        String msgKey = ErrorCode.USER_EXIST_ERR_CODE.getErrMsgKey();
-        return ResourceBundleAccessor.accessMessageInBundle(msgKey, new Object[]{});
+    public String getErrorCode() {
+        return ErrorCode.USER_EXIST_ERR_CODE.getErrCode();
     }
 
 }
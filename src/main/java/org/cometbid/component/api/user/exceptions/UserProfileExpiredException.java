@@ -25,7 +25,6 @@ package org.cometbid.component.api.user.exceptions;
 
 import org.springframework.http.HttpStatus;
 import org.cometbid.component.api.util.ErrorCode;
-import org.cometbid.component.api.util.ResourceBundleAccessor;
 import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
 
 /**
@@ -72,23 +71,36 @@ public class UserProfileExpiredException extends ApplicationDefinedRuntimeExcept
      * @param ex
      */
     public UserProfileExpiredException(String messagekey, Object[] args, Throwable ex) {
-        super(STATUS, ResourceBundleAccessor.accessMessageInBundle(messagekey, args), ex);
+        super(STATUS, messagekey, args, ex);
     }
 
     /**
      *
+     * @param reason the already rendered message
+     * @param ex
+     * @see #withReason(String, Throwable)
      */
-    @Override
-    public String getErrorCode() {
-        return ErrorCode.EXPIRED_PROFILE_ERR_CODE.getErrCode();
+    protected UserProfileExpiredException(String reason, Throwable ex) {
+        super(STATUS, reason, ex);
+    }
+
+    /**
+     * Creates the exception with an already rendered message, e.g. one
+     * received from a remote service, instead of a message key.
+     *
+     * @param reason the already rendered message
+     * @param ex
+     * @return the exception
+     */
+    public static UserProfileExpiredException withReason(String reason, Throwable ex) {
+        return new UserProfileExpiredException(reason, ex);
     }
 
     /**
      *
      */
     @Override
-    public String getErrorMessage() {
-        String msgKey = ErrorCode.EXPIRED_PROFILE_ERR_CODE.getErrMsgKey();
-        return ResourceBundleAccessor.accessMessageInBundle(msgKey, new Object[]{});
+    public String getErrorCode() {
+        return ErrorCode.EXPIRED_PROFILE_ERR_CODE.getErrCode();
     }
 }
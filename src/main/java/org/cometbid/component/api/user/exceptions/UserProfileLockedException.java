@@ -25,7 +25,6 @@ package org.cometbid.component.api.user.exceptions;
 
 import org.springframework.http.HttpStatus;
 import org.cometbid.component.api.util.ErrorCode;
-import org.cometbid.component.api.util.ResourceBundleAccessor;
 import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
 
 /**
@@ -72,24 +71,37 @@ public class UserProfileLockedException extends ApplicationDefinedRuntimeExcepti
      * @param ex
      */
     public UserProfileLockedException(String messagekey, Object[] args, Throwable ex) {
-        super(STATUS, ResourceBundleAccessor.accessMessageInBundle(messagekey, args), ex);
+        super(STATUS, messagekey, args, ex);
     }
 
     /**
      *
+     * @param reason the already rendered message
+     * @param ex
+     * @see #withReason(String, Throwable)
      */
-    @Override
-    public String getErrorCode() {
-        return ErrorCode.LOCKED_PROFILE_ERR_CODE.getErrCode();
+    protected UserProfileLockedException(String reason, Throwable ex) {
+        super(STATUS, reason, ex);
+    }
+
+    /**
+     * Creates the exception with an already rendered message, e.g. one
+     * received from a remote service, instead of a message key.
+     *
+     * @param reason the already rendered message
+     * @param ex
+     * @return the exception
+     */
+    public static UserProfileLockedException withReason(String reason, Throwable ex) {
+        return new UserProfileLockedException(reason, ex);
     }
 
     /**
      *
      */
     @Override
-    public String getErrorMessage() {
-        String msgKey = ErrorCode.LOCKED_PROFILE_ERR_CODE.getErrMsgKey();
-        return ResourceBundleAccessor.accessMessageInBundle(msgKey, new Object[]{});
+    public String getErrorCode() {
+        return ErrorCode.LOCKED_PROFILE_ERR_CODE.getErrCode();
     }
 
 }
@@ -0,0 +1,146 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.util;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded pool of fixed-size {@link ByteBuffer}s, direct by default.
+ * <p>
+ * Buffers are kept in an array of slots claimed and refilled with
+ * compare-and-set, each thread starting its scan at a different slot, so
+ * neither acquiring nor releasing takes a lock or allocates. When the pool
+ * is empty a new buffer is allocated; when it is full a released buffer is
+ * left to the garbage collector.
+ *
+ * @author samueladebowale
+ */
+public final class ByteBufferPool {
+
+    public static final int DEFAULT_CHUNK_SIZE = 8 * 1024;
+    public static final int DEFAULT_MAX_POOLED = 256;
+
+    private static final ByteBufferPool ONE_INSTANCE = new ByteBufferPool();
+
+    private final int chunkSize;
+    private final boolean direct;
+    private final AtomicReferenceArray<ByteBuffer> slots;
+    private final int mask;
+
+    public ByteBufferPool() {
+        this(DEFAULT_CHUNK_SIZE, DEFAULT_MAX_POOLED, true);
+    }
+
+    /**
+     *
+     * @param chunkSize the capacity of the buffers
+     * @param maxPooled the buffers kept at most, rounded up to a power of two
+     * @param direct true for direct buffers, false for heap buffers
+     */
+    public ByteBufferPool(int chunkSize, int maxPooled, boolean direct) {
+        if (chunkSize < 1 || maxPooled < 1) {
+            throw new IllegalArgumentException("chunkSize and maxPooled must be positive");
+        }
+        int capacity = Integer.highestOneBit(maxPooled - 1) << 1;
+        this.chunkSize = chunkSize;
+        this.direct = direct;
+        this.slots = new AtomicReferenceArray<>(Math.max(capacity, 1));
+        this.mask = slots.length() - 1;
+    }
+
+    /**
+     *
+     * @return the shared pool of direct {@value #DEFAULT_CHUNK_SIZE} byte
+     * buffers
+     */
+    public static ByteBufferPool getInstance() {
+        return ONE_INSTANCE;
+    }
+
+    /**
+     *
+     * @return a cleared buffer, to be handed back with {@link #release}
+     */
+    public ByteBuffer acquire() {
+        int start = probe();
+        for (int i = 0; i <= mask; i++) {
+            int index = (start + i) & mask;
+            if (slots.get(index) != null) {
+                ByteBuffer buffer = slots.getAndSet(index, null);
+                if (buffer != null) {
+                    return buffer;
+                }
+            }
+        }
+        return direct ? ByteBuffer.allocateDirect(chunkSize) : ByteBuffer.allocate(chunkSize);
+    }
+
+    /**
+     *
+     * @param buffer a buffer obtained from {@link #acquire}, not to be used
+     * afterwards
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null || buffer.capacity() != chunkSize || buffer.isDirect() != direct) {
+            return;
+        }
+        buffer.clear();
+
+        int start = probe();
+        for (int i = 0; i <= mask; i++) {
+            int index = (start + i) & mask;
+            if (slots.get(index) == null && slots.compareAndSet(index, null, buffer)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     *
+     * @return the number of buffers currently held by the pool
+     */
+    public int getPooledCount() {
+        int count = 0;
+        for (int i = 0; i <= mask; i++) {
+            if (slots.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public boolean isDirect() {
+        return direct;
+    }
+
+    private int probe() {
+        long id = Thread.currentThread().threadId();
+        return (int) (id ^ (id >>> 32)) * 0x9E3779B9 & mask;
+    }
+}
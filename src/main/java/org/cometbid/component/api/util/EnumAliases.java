@@ -0,0 +1,151 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.util;
+
+import com.google.gson.annotations.SerializedName;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * The strings an enum constant is known by: its {@code toString()} and the
+ * result of a public {@code getValue()} method, if the enum declares one.
+ * This is the set {@code @VerifyEnumValue} has always accepted.
+ * <p>
+ * Shared by the enum validator and the request parameter converter so that
+ * a value accepted by one is understood by the other. The converter also
+ * understands the {@link #forEachConversion conversion aliases}: the
+ * constant names and Gson {@link SerializedName} values.
+ *
+ * @author samueladebowale
+ */
+@Log4j2
+public final class EnumAliases {
+
+    private EnumAliases() {
+    }
+
+    /**
+     * Passes every alias of every constant to the consumer. The
+     * {@code toString()} of all constants come first, so that a caller
+     * keeping the first constant per alias never lets a value shadow one.
+     *
+     * @param <E>
+     * @param enumClass the enum class
+     * @param consumer receives each alias with its constant
+     */
+    public static <E extends Enum<E>> void forEach(Class<E> enumClass, BiConsumer<String, E> consumer) {
+        E[] constants = enumClass.getEnumConstants();
+
+        for (E constant : constants) {
+            consumer.accept(constant.toString(), constant);
+        }
+
+        MethodHandle getValue = getValueAccessor(enumClass);
+        for (E constant : constants) {
+            Object enumValue = getEnumValue(getValue, constant);
+            if (enumValue != null) {
+                consumer.accept(enumValue.toString(), constant);
+            }
+        }
+    }
+
+    /**
+     * Passes every string the request parameter converter accepts to the
+     * consumer: the constant names first, then the aliases of
+     * {@link #forEach}, then the value and alternates of a Gson
+     * {@link SerializedName} on the constant.
+     *
+     * @param <E>
+     * @param enumClass the enum class
+     * @param consumer receives each alias with its constant
+     */
+    public static <E extends Enum<E>> void forEachConversion(Class<E> enumClass, BiConsumer<String, E> consumer) {
+        E[] constants = enumClass.getEnumConstants();
+
+        for (E constant : constants) {
+            consumer.accept(constant.name(), constant);
+        }
+
+        forEach(enumClass, consumer);
+
+        for (E constant : constants) {
+            SerializedName serializedName = serializedNameOf(enumClass, constant);
+            if (serializedName != null) {
+                consumer.accept(serializedName.value(), constant);
+                for (String alternate : serializedName.alternate()) {
+                    consumer.accept(alternate, constant);
+                }
+            }
+        }
+    }
+
+    private static SerializedName serializedNameOf(Class<?> enumClass, Enum<?> constant) {
+        try {
+            return enumClass.getField(constant.name()).getAnnotation(SerializedName.class);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Finds the public getValue() method of an enum, if present
+     *
+     * @param enumClass The Enum class
+     * @return a handle on getValue(), or null
+     */
+    private static MethodHandle getValueAccessor(Class<?> enumClass) {
+        try {
+            for (Method method : enumClass.getDeclaredMethods()) {
+                if (method.getName().equals("getValue") && method.getParameterCount() == 0) {
+                    return MethodHandles.publicLookup().unreflect(method);
+                }
+            }
+        } catch (IllegalAccessException e) {
+            log.error("Enum conversion failed ", e);
+        }
+        return null;
+    }
+
+    /**
+     * Invokes the getValue() method for enum if present
+     *
+     * @param getValue the getValue() accessor, or null
+     * @param enumerable The Enum object
+     * @return returns the value of enum from getValue() or null
+     */
+    private static Object getEnumValue(MethodHandle getValue, Object enumerable) {
+        if (getValue == null) {
+            return null;
+        }
+        try {
+            return getValue.invoke(enumerable);
+        } catch (Throwable e) {
+            log.error("Enum conversion failed ", e);
+        }
+        return null;
+    }
+}
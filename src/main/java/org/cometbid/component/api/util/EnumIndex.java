@@ -0,0 +1,290 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.util;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Case-insensitive lookup of enum constants by a string key, e.g. the
+ * constant name or a display value.
+ * <p>
+ * Keys are kept in an open-addressing table hashed on case-folded
+ * characters, so a lookup neither lower-cases nor trims the input: it
+ * allocates nothing. Two keys are the same if
+ * {@link String#equalsIgnoreCase(String)} says so; leading and trailing
+ * blanks of the input are ignored. When several constants share a key, the
+ * first one registered wins.
+ * <p>
+ * Indexes are immutable and safe to share between threads.
+ *
+ * @author samueladebowale
+ * @param <E>
+ */
+public final class EnumIndex<E extends Enum<E>> {
+
+    private static final ClassValue<EnumIndex<?>> ALIAS_INDEXES = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        protected EnumIndex<?> computeValue(Class<?> enumClass) {
+            return aliasIndexOf((Class) enumClass);
+        }
+    };
+
+    private static final ClassValue<EnumIndex<?>> CONVERSION_INDEXES = new ClassValue<>() {
+        @Override
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        protected EnumIndex<?> computeValue(Class<?> enumClass) {
+            return conversionIndexOf((Class) enumClass);
+        }
+    };
+
+    private final Class<E> enumClass;
+
+    private final String[] keys;
+
+    private final E[] constants;
+
+    private final int mask;
+
+    private final Set<String> keySet;
+
+    private EnumIndex(Class<E> enumClass, Builder<E> builder) {
+        this.enumClass = enumClass;
+
+        int size = builder.keys.size();
+        int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+        this.keys = new String[capacity];
+        this.constants = newArray(enumClass, capacity);
+        this.mask = capacity - 1;
+
+        Set<String> registered = new LinkedHashSet<>();
+        for (int i = 0; i < size; i++) {
+            String key = builder.keys.get(i);
+            if (put(key, builder.constants.get(i))) {
+                registered.add(key);
+            }
+        }
+        this.keySet = Collections.unmodifiableSet(registered);
+    }
+
+    /**
+     * Index of every alias of the constants, as listed by
+     * {@link EnumAliases}. Built once per enum class.
+     *
+     * @param <E>
+     * @param enumClass the enum class
+     * @return the shared index
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumIndex<E> forEnum(Class<E> enumClass) {
+        return (EnumIndex<E>) ALIAS_INDEXES.get(enumClass);
+    }
+
+    /**
+     * Index of every conversion alias of the constants, as listed by
+     * {@link EnumAliases#forEachConversion}: a superset of
+     * {@link #forEnum(Class)}. Built once per enum class.
+     *
+     * @param <E>
+     * @param enumClass the enum class
+     * @return the shared index
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> EnumIndex<E> forConversion(Class<E> enumClass) {
+        return (EnumIndex<E>) CONVERSION_INDEXES.get(enumClass);
+    }
+
+    /**
+     * Index of the constants by a single key each.
+     *
+     * @param <E>
+     * @param enumClass the enum class
+     * @param key extracts the key of a constant; null keys are skipped
+     * @return a new index
+     */
+    public static <E extends Enum<E>> EnumIndex<E> by(Class<E> enumClass, Function<? super E, String> key) {
+        Builder<E> builder = new Builder<>(enumClass.getEnumConstants().length);
+
+        for (E constant : enumClass.getEnumConstants()) {
+            builder.add(key.apply(constant), constant);
+        }
+        return new EnumIndex<>(enumClass, builder);
+    }
+
+    private static <E extends Enum<E>> EnumIndex<E> aliasIndexOf(Class<E> enumClass) {
+        Builder<E> builder = new Builder<>(enumClass.getEnumConstants().length * 4);
+
+        EnumAliases.forEach(enumClass, builder::add);
+
+        return new EnumIndex<>(enumClass, builder);
+    }
+
+    private static <E extends Enum<E>> EnumIndex<E> conversionIndexOf(Class<E> enumClass) {
+        Builder<E> builder = new Builder<>(enumClass.getEnumConstants().length * 6);
+
+        EnumAliases.forEachConversion(enumClass, builder::add);
+
+        return new EnumIndex<>(enumClass, builder);
+    }
+
+    /**
+     *
+     * @param key the key, in any case
+     * @return the constant registered under the key, or null
+     */
+    public E get(CharSequence key) {
+        if (key == null) {
+            return null;
+        }
+
+        int from = 0;
+        int to = key.length();
+        while (from < to && key.charAt(from) <= ' ') {
+            from++;
+        }
+        while (to > from && key.charAt(to - 1) <= ' ') {
+            to--;
+        }
+
+        for (int i = hash(key, from, to) & mask;; i = (i + 1) & mask) {
+            String candidate = keys[i];
+            if (candidate == null) {
+                return null;
+            }
+            if (matches(candidate, key, from, to)) {
+                return constants[i];
+            }
+        }
+    }
+
+    /**
+     *
+     * @param key the key, in any case
+     * @param defaultConstant returned for an unknown key
+     * @return the constant registered under the key, or the default
+     */
+    public E getOrDefault(CharSequence key, E defaultConstant) {
+        E constant = get(key);
+        return constant == null ? defaultConstant : constant;
+    }
+
+    /**
+     *
+     * @param key the key, in any case
+     * @return true if a constant is registered under the key
+     */
+    public boolean contains(CharSequence key) {
+        return get(key) != null;
+    }
+
+    /**
+     *
+     * @return the registered keys, in registration order and original case
+     */
+    public Set<String> keys() {
+        return keySet;
+    }
+
+    public Class<E> getEnumClass() {
+        return enumClass;
+    }
+
+    private boolean put(String key, E constant) {
+        for (int i = hash(key, 0, key.length()) & mask;; i = (i + 1) & mask) {
+            if (keys[i] == null) {
+                keys[i] = key;
+                constants[i] = constant;
+                return true;
+            }
+            if (keys[i].equalsIgnoreCase(key)) {
+                return false;
+            }
+        }
+    }
+
+    private static boolean matches(String candidate, CharSequence key, int from, int to) {
+        if (candidate.length() != to - from) {
+            return false;
+        }
+        if (key instanceof String text) {
+            return candidate.regionMatches(true, 0, text, from, to - from);
+        }
+        for (int i = 0; i < candidate.length(); i++) {
+            if (fold(candidate.charAt(i)) != fold(key.charAt(from + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(CharSequence key, int from, int to) {
+        int h = 0;
+        for (int i = from; i < to; i++) {
+            h = 31 * h + fold(key.charAt(i));
+        }
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Maps characters that {@link String#equalsIgnoreCase(String)} considers
+     * equal to the same value.
+     */
+    private static char fold(char c) {
+        if (c < 0x80) {
+            return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Enum<E>> E[] newArray(Class<E> enumClass, int length) {
+        return (E[]) Array.newInstance(enumClass, length);
+    }
+
+    private static final class Builder<E extends Enum<E>> {
+
+        private final List<String> keys;
+
+        private final List<E> constants;
+
+        Builder(int expected) {
+            this.keys = new ArrayList<>(expected);
+            this.constants = new ArrayList<>(expected);
+        }
+
+        void add(String key, E constant) {
+            if (key == null) {
+                return;
+            }
+            keys.add(key.trim());
+            constants.add(constant);
+        }
+    }
+}
@@ -85,6 +85,10 @@ public enum ErrorCode {
     JSON_PARSE_ERROR("HTTP-ERR-0005", "json.parser.err"),
     HTTP_MESSAGE_NOT_READABLE("HTTP-ERR-0006", "request.unreadable");
 
+    private static final EnumIndex<ErrorCode> BY_ERR_CODE = EnumIndex.by(ErrorCode.class, ErrorCode::getErrCode);
+
+    private static final EnumIndex<ErrorCode> BY_ERR_MSG_KEY = EnumIndex.by(ErrorCode.class, ErrorCode::getErrMsgKey);
+
     private final String errCode;
     private final String errMsgKey;
 
@@ -109,4 +113,24 @@ public enum ErrorCode {
     public String getErrMsgKey() {
         return errMsgKey;
     }
+
+    /**
+     *
+     * @param errCode an application error code, e.g. {@code GEN-NF-001}, in
+     * any case
+     * @return the matching ErrorCode, or null
+     */
+    public static ErrorCode fromErrCode(String errCode) {
+        return BY_ERR_CODE.get(errCode);
+    }
+
+    /**
+     *
+     * @param errMsgKey a message key, e.g. {@code not.found.error}, in any
+     * case
+     * @return the matching ErrorCode, or null
+     */
+    public static ErrorCode fromErrMsgKey(String errMsgKey) {
+        return BY_ERR_MSG_KEY.get(errMsgKey);
+    }
 }
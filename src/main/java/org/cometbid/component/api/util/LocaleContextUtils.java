@@ -58,6 +58,11 @@ public final class LocaleContextUtils {
      * @return
      */
     public static Locale getContextLocale() {
+        Locale locale = RequestContext.current().getLocale();
+        if (locale != null) {
+            return locale;
+        }
+
         String localeStr = getContextLocaleAsString();
 
         log.info("Get context locale {}", localeStr);
@@ -71,7 +76,20 @@ public final class LocaleContextUtils {
     public static void setContextLocaleAsString(String localeStr) {
 
         log.info("Set context locale as String {}", localeStr);
-        ThreadContext.put(THREAD_CONTEXT_LOCALE_KEY, localeStr);
+
+        Locale locale = null;
+        try {
+            locale = StringUtils.isNotBlank(localeStr) ? LocaleUtils.toLocale(localeStr) : null;
+        } catch (IllegalArgumentException ex) {
+            // left to getContextLocale(), which reports it as before
+        }
+
+        if (locale == null) {
+            ThreadContext.put(THREAD_CONTEXT_LOCALE_KEY, localeStr);
+        }
+
+        Locale resolved = locale;
+        RequestContext.update(context -> context.withLocale(resolved));
     }
 
     /**
@@ -81,7 +99,7 @@ public final class LocaleContextUtils {
     public static void setContextLocale(Locale locale) {
 
         log.info("Set context locale {}", locale);
-        ThreadContext.put(THREAD_CONTEXT_LOCALE_KEY, locale.toString());
+        RequestContext.update(context -> context.withLocale(locale));
     }
 
 }
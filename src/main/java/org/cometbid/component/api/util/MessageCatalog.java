@@ -0,0 +1,401 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.text.MessageFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.LocaleUtils;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+/**
+ * Immutable, precompiled view of the {@code response-messages*.properties}
+ * bundles.
+ * <p>
+ * Every bundle found on the classpath is read once when the class is loaded.
+ * For each available locale the effective messages (root, language and
+ * country bundles merged the same way {@link java.util.ResourceBundle} chains
+ * them) are compiled into literal/argument segments, and the messages bound
+ * to an {@link ErrorCode} are additionally indexed by the constant's ordinal.
+ * Lookups afterwards are plain reads of immutable maps and arrays, and
+ * formatting a message with simple {@code {n}} arguments only appends into a
+ * {@link StringBuilder}.
+ * <p>
+ * The output is the same as Spring's
+ * {@link org.springframework.context.support.ResourceBundleMessageSource}
+ * configured with {@code useCodeAsDefaultMessage=true}: a message rendered
+ * without arguments is returned verbatim, a message rendered with arguments
+ * follows {@link MessageFormat} quoting rules, and an unknown key is returned
+ * as is.
+ *
+ * @author samueladebowale
+ */
+@Log4j2
+public final class MessageCatalog {
+
+    public static final String DEFAULT_BASENAME = "response-messages";
+
+    private static final ErrorCode[] ERROR_CODES = ErrorCode.values();
+
+    private static final MessageCatalog ONE_INSTANCE = new MessageCatalog(DEFAULT_BASENAME);
+
+    private final LocaleMessages rootMessages;
+    private final Map<Locale, LocaleMessages> messagesByLocale;
+    private final Map<String, LocaleMessages> messagesByLanguage;
+
+    /**
+     *
+     * @param basename the bundle basename, e.g. {@code response-messages}
+     */
+    MessageCatalog(String basename) {
+        Map<Locale, Properties> bundles = loadBundles(basename);
+
+        Properties root = bundles.getOrDefault(Locale.ROOT, new Properties());
+        this.rootMessages = new LocaleMessages(Locale.ROOT, toMap(root));
+
+        Map<Locale, LocaleMessages> byLocale = new HashMap<>();
+        Map<String, LocaleMessages> byLanguage = new HashMap<>();
+
+        for (Map.Entry<Locale, Properties> entry : bundles.entrySet()) {
+            Locale locale = entry.getKey();
+            if (Locale.ROOT.equals(locale)) {
+                continue;
+            }
+
+            Map<String, String> merged = toMap(root);
+            Locale languageLocale = Locale.of(locale.getLanguage());
+            if (!languageLocale.equals(locale) && bundles.containsKey(languageLocale)) {
+                merged.putAll(toMap(bundles.get(languageLocale)));
+            }
+            merged.putAll(toMap(entry.getValue()));
+
+            LocaleMessages messages = new LocaleMessages(locale, merged);
+            byLocale.put(locale, messages);
+
+            if (languageLocale.equals(locale)) {
+                byLanguage.put(locale.getLanguage(), messages);
+            }
+        }
+
+        this.messagesByLocale = Map.copyOf(byLocale);
+        this.messagesByLanguage = Map.copyOf(byLanguage);
+
+        log.debug("Message catalog '{}' loaded for locales {}", basename, messagesByLocale.keySet());
+    }
+
+    /**
+     *
+     * @return the catalog backed by the {@code response-messages} bundles
+     */
+    public static MessageCatalog getInstance() {
+        return ONE_INSTANCE;
+    }
+
+    /**
+     *
+     * @param messageKey
+     * @param args
+     * @param locale
+     * @return the formatted message, or the key itself if it is not defined
+     */
+    public String getMessage(String messageKey, Object[] args, Locale locale) {
+        if (messageKey == null) {
+            return null;
+        }
+        CompiledMessage message = resolve(locale).byKey.get(messageKey);
+
+        return message == null ? messageKey : message.format(args);
+    }
+
+    /**
+     *
+     * @param errorCode
+     * @param args
+     * @param locale
+     * @return the formatted message bound to the error code's message key
+     */
+    public String getMessage(ErrorCode errorCode, Object[] args, Locale locale) {
+        CompiledMessage message = resolve(locale).byErrorCode[errorCode.ordinal()];
+
+        return message == null ? errorCode.getErrMsgKey() : message.format(args);
+    }
+
+    /**
+     *
+     * @param messageKey
+     * @param locale
+     * @return true if the key is defined for the locale or one of its parents
+     */
+    public boolean containsMessage(String messageKey, Locale locale) {
+        return resolve(locale).byKey.containsKey(messageKey);
+    }
+
+    /**
+     *
+     * @return the locales a bundle was found for, the root bundle excluded
+     */
+    public Set<Locale> getLocales() {
+        return messagesByLocale.keySet();
+    }
+
+    private LocaleMessages resolve(Locale locale) {
+        if (locale == null) {
+            return rootMessages;
+        }
+
+        LocaleMessages messages = messagesByLocale.get(locale);
+        if (messages == null) {
+            messages = messagesByLanguage.get(locale.getLanguage());
+        }
+        return messages == null ? rootMessages : messages;
+    }
+
+    private static Map<Locale, Properties> loadBundles(String basename) {
+        Map<Locale, Properties> bundles = new LinkedHashMap<>();
+
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver(MessageCatalog.class.getClassLoader())
+                    .getResources("classpath*:" + basename + "*.properties");
+
+            for (Resource resource : resources) {
+                Locale locale = toBundleLocale(basename, resource.getFilename());
+                if (locale == null) {
+                    continue;
+                }
+
+                Properties properties = bundles.computeIfAbsent(locale, l -> new Properties());
+                try (InputStream in = resource.getInputStream();
+                        Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+
+                    Properties loaded = new Properties();
+                    loaded.load(reader);
+                    // first bundle on the classpath wins, as with ResourceBundle
+                    loaded.forEach(properties::putIfAbsent);
+                }
+            }
+        } catch (IOException ex) {
+            log.error("Unable to load message bundles '{}'", basename, ex);
+        }
+        return bundles;
+    }
+
+    private static Locale toBundleLocale(String basename, String filename) {
+        if (filename == null || !filename.startsWith(basename) || !filename.endsWith(".properties")) {
+            return null;
+        }
+
+        String suffix = filename.substring(basename.length(), filename.length() - ".properties".length());
+        if (suffix.isEmpty()) {
+            return Locale.ROOT;
+        }
+        if (suffix.charAt(0) != '_') {
+            return null;
+        }
+
+        try {
+            return LocaleUtils.toLocale(suffix.substring(1));
+        } catch (IllegalArgumentException ex) {
+            log.warn("Ignoring message bundle with unrecognized locale suffix: {}", filename);
+            return null;
+        }
+    }
+
+    private static Map<String, String> toMap(Properties properties) {
+        Map<String, String> map = new HashMap<>();
+        properties.forEach((key, value) -> map.put(key.toString(), value.toString()));
+        return map;
+    }
+
+    /**
+     * The effective messages of one locale.
+     */
+    private static final class LocaleMessages {
+
+        private final Map<String, CompiledMessage> byKey;
+        private final CompiledMessage[] byErrorCode;
+
+        LocaleMessages(Locale locale, Map<String, String> messages) {
+            Map<String, CompiledMessage> compiled = new HashMap<>();
+            messages.forEach((key, pattern) -> compiled.put(key, CompiledMessage.compile(key, pattern, locale)));
+
+            this.byKey = Map.copyOf(compiled);
+            this.byErrorCode = new CompiledMessage[ERROR_CODES.length];
+
+            for (ErrorCode errorCode : ERROR_CODES) {
+                byErrorCode[errorCode.ordinal()] = byKey.get(errorCode.getErrMsgKey());
+            }
+        }
+    }
+
+    /**
+     * A message pattern split into literal text and argument indexes.
+     * <p>
+     * Arguments that {@link MessageFormat} would render through a
+     * locale-sensitive {@link java.text.Format} (numbers, dates, or any
+     * argument carrying an explicit format type) are delegated to a clone of
+     * a prototype built once at load time; every other argument is appended
+     * with {@link String#valueOf(Object)}.
+     */
+    static final class CompiledMessage {
+
+        private final String pattern;
+        private final String[] literals;
+        private final int[] argumentIndexes;
+        private final boolean typedArguments;
+        private final MessageFormat prototype;
+
+        private CompiledMessage(String pattern, String[] literals, int[] argumentIndexes,
+                boolean typedArguments, MessageFormat prototype) {
+            this.pattern = pattern;
+            this.literals = literals;
+            this.argumentIndexes = argumentIndexes;
+            this.typedArguments = typedArguments;
+            this.prototype = prototype;
+        }
+
+        static CompiledMessage compile(String key, String pattern, Locale locale) {
+            MessageFormat prototype;
+            try {
+                prototype = new MessageFormat(pattern, locale);
+            } catch (IllegalArgumentException ex) {
+                log.warn("Message '{}' is not a valid MessageFormat pattern and will not be formatted", key);
+                return new CompiledMessage(pattern, new String[]{pattern}, new int[0], false, null);
+            }
+
+            List<String> literals = new ArrayList<>();
+            List<Integer> indexes = new ArrayList<>();
+            boolean typed = false;
+
+            StringBuilder literal = new StringBuilder();
+            boolean inQuote = false;
+            int length = pattern.length();
+
+            for (int i = 0; i < length; i++) {
+                char ch = pattern.charAt(i);
+
+                if (ch == '\'') {
+                    if (i + 1 < length && pattern.charAt(i + 1) == '\'') {
+                        literal.append(ch);
+                        ++i;
+                    } else {
+                        inQuote = !inQuote;
+                    }
+                } else if (ch == '{' && !inQuote) {
+                    int end = findArgumentEnd(pattern, i + 1);
+                    String argument = pattern.substring(i + 1, end);
+                    int comma = argument.indexOf(',');
+
+                    typed |= comma >= 0;
+                    literals.add(literal.toString());
+                    indexes.add(Integer.parseInt(comma >= 0 ? argument.substring(0, comma) : argument));
+
+                    literal.setLength(0);
+                    i = end;
+                } else {
+                    literal.append(ch);
+                }
+            }
+            literals.add(literal.toString());
+
+            return new CompiledMessage(pattern, literals.toArray(String[]::new),
+                    indexes.stream().mapToInt(Integer::intValue).toArray(), typed,
+                    indexes.isEmpty() ? null : prototype);
+        }
+
+        /**
+         * Mirrors the sub-pattern scan of {@link MessageFormat}: nested braces
+         * and quoted text are skipped until the closing brace is found.
+         */
+        private static int findArgumentEnd(String pattern, int start) {
+            int depth = 0;
+            boolean inQuote = false;
+
+            for (int i = start; i < pattern.length(); i++) {
+                char ch = pattern.charAt(i);
+                if (inQuote) {
+                    inQuote = ch != '\'';
+                } else if (ch == '\'') {
+                    inQuote = true;
+                } else if (ch == '{') {
+                    depth++;
+                } else if (ch == '}') {
+                    if (depth == 0) {
+                        return i;
+                    }
+                    depth--;
+                }
+            }
+            // cannot happen, MessageFormat already rejected unmatched braces
+            return pattern.length();
+        }
+
+        String format(Object[] args) {
+            if (args == null || args.length == 0) {
+                return pattern;
+            }
+            if (prototype == null) {
+                return literals[0];
+            }
+            if (typedArguments || requiresFormat(args)) {
+                return ((MessageFormat) prototype.clone()).format(args);
+            }
+
+            StringBuilder sb = new StringBuilder(pattern.length() + 16 * argumentIndexes.length);
+            for (int i = 0; i < argumentIndexes.length; i++) {
+                sb.append(literals[i]);
+
+                int index = argumentIndexes[i];
+                if (index < args.length) {
+                    sb.append(args[index]);
+                } else {
+                    sb.append('{').append(index).append('}');
+                }
+            }
+            return sb.append(literals[argumentIndexes.length]).toString();
+        }
+
+        private boolean requiresFormat(Object[] args) {
+            for (int index : argumentIndexes) {
+                if (index < args.length && (args[index] instanceof Number || args[index] instanceof Date)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
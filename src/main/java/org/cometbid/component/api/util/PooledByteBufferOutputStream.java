@@ -0,0 +1,178 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+
+/**
+ * Output stream collecting its bytes in buffers borrowed from a
+ * {@link ByteBufferPool}, so a response body can be written without
+ * growing a {@code byte[]} on the heap.
+ * <p>
+ * {@link #close()} only ends writing, as a Jackson generator closes its
+ * target; the buffers go back to the pool on {@link #release()}, which the
+ * owner must call once the content has been copied out. Not thread-safe.
+ *
+ * @author samueladebowale
+ */
+public final class PooledByteBufferOutputStream extends OutputStream {
+
+    /**
+     * Heap buffers used to copy direct buffers to an {@link OutputStream}.
+     */
+    private static final ByteBufferPool TRANSFER_POOL
+            = new ByteBufferPool(ByteBufferPool.DEFAULT_CHUNK_SIZE, 64, false);
+
+    private final ByteBufferPool pool;
+    private final List<ByteBuffer> buffers = new ArrayList<>(4);
+    private ByteBuffer current;
+    private int size;
+    private boolean released;
+
+    /**
+     *
+     * @param pool
+     */
+    public PooledByteBufferOutputStream(ByteBufferPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void write(int b) {
+        writable().put((byte) b);
+        size++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        while (length > 0) {
+            ByteBuffer buffer = writable();
+            int count = Math.min(length, buffer.remaining());
+            buffer.put(bytes, offset, count);
+            offset += count;
+            length -= count;
+            size += count;
+        }
+    }
+
+    /**
+     * Ends writing; the buffers are kept until {@link #release()}.
+     */
+    @Override
+    public void close() {
+        current = null;
+    }
+
+    /**
+     *
+     * @return the number of bytes written
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     *
+     * @param out
+     * @throws IOException
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        ensureNotReleased();
+
+        ByteBuffer transfer = null;
+        try {
+            for (ByteBuffer buffer : buffers) {
+                if (buffer.hasArray()) {
+                    out.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+                    continue;
+                }
+                if (transfer == null) {
+                    transfer = TRANSFER_POOL.acquire();
+                }
+                ByteBuffer source = buffer.duplicate().flip();
+                while (source.hasRemaining()) {
+                    int count = Math.min(source.remaining(), transfer.capacity());
+                    source.get(transfer.array(), transfer.arrayOffset(), count);
+                    out.write(transfer.array(), transfer.arrayOffset(), count);
+                }
+            }
+        } finally {
+            TRANSFER_POOL.release(transfer);
+        }
+    }
+
+    /**
+     *
+     * @param bufferFactory
+     * @return a data buffer of the factory holding a copy of the content
+     */
+    public DataBuffer toDataBuffer(DataBufferFactory bufferFactory) {
+        ensureNotReleased();
+
+        DataBuffer dataBuffer = bufferFactory.allocateBuffer(Math.max(size, 1));
+        for (ByteBuffer buffer : buffers) {
+            dataBuffer.write(buffer.duplicate().flip());
+        }
+        return dataBuffer;
+    }
+
+    /**
+     * Hands the buffers back to the pool; the stream must not be used
+     * afterwards.
+     */
+    public void release() {
+        if (released) {
+            return;
+        }
+        released = true;
+        current = null;
+        for (ByteBuffer buffer : buffers) {
+            pool.release(buffer);
+        }
+        buffers.clear();
+    }
+
+    private ByteBuffer writable() {
+        ByteBuffer buffer = current;
+        if (buffer == null || !buffer.hasRemaining()) {
+            ensureNotReleased();
+            buffer = pool.acquire();
+            buffers.add(buffer);
+            current = buffer;
+        }
+        return buffer;
+    }
+
+    private void ensureNotReleased() {
+        if (released) {
+            throw new IllegalStateException("Buffers already released");
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.util;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Carries the {@link RequestContext} in the Reactor {@link Context} for
+ * WebFlux applications, where a request hops between threads and nothing
+ * bound to a {@code ThreadLocal} can be relied on.
+ *
+ * @author samueladebowale
+ */
+public final class ReactiveRequestContext {
+
+    public static final Class<RequestContext> CONTEXT_KEY = RequestContext.class;
+
+    private ReactiveRequestContext() {
+    }
+
+    /**
+     *
+     * @param context
+     * @return the request context in {@code context}, or {@link RequestContext#EMPTY}
+     */
+    public static RequestContext from(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, RequestContext.EMPTY);
+    }
+
+    /**
+     *
+     * @return the request context of the subscriber
+     */
+    public static Mono<RequestContext> current() {
+        return Mono.deferContextual(context -> Mono.just(from(context)));
+    }
+
+    /**
+     * For use with {@code contextWrite}; updates compose, so the locale and
+     * timezone filters can each contribute their part.
+     *
+     * @param update
+     * @return
+     */
+    public static Function<Context, Context> update(UnaryOperator<RequestContext> update) {
+        return context -> context.put(CONTEXT_KEY, update.apply(from(context)));
+    }
+
+    /**
+     * Runs {@code action} with the request context found in {@code context}.
+     * When there is none, the action sees the current thread's binding.
+     *
+     * @param <T>
+     * @param context
+     * @param action
+     * @return the result of {@code action}
+     */
+    public static <T> T callWith(ContextView context, Supplier<T> action) {
+        RequestContext requestContext = context.getOrDefault(CONTEXT_KEY, null);
+
+        return requestContext != null ? RequestContext.callWith(requestContext, action) : action.get();
+    }
+}
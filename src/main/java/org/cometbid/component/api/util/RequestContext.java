@@ -0,0 +1,291 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.util;
+
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.With;
+import lombok.extern.log4j.Log4j2;
+import org.apache.logging.log4j.ThreadContext;
+import org.cometbid.component.api.util.ScopedValueSupport.Slot;
+
+/**
+ * Typed, immutable view of the per-request settings the response component
+ * cares about: the resolved {@link Locale} and {@link ZoneId}, the trace id
+ * and the API version.
+ * <p>
+ * The interceptors populate it once per request (through
+ * {@link LocaleContextUtils} and {@link TimeZoneUtils}) and consumers read the
+ * already-resolved values from a single thread-local instead of parsing the
+ * strings kept in the Log4j {@link ThreadContext}. The {@code ThreadContext}
+ * entries are still written whenever the context changes, so log patterns
+ * keep working, and are removed again by {@link #clear()}. Entries put by
+ * someone else, e.g. a trace id set by the tracing library, are left alone.
+ * <p>
+ * With {@code -D}{@value #SCOPED_VALUE_PROPERTY}{@code =true} the context is
+ * instead held in a {@code ScopedValue} opened per request by
+ * {@code ScopedRequestContextFilter} (see {@link #callInScope}). The binding
+ * cannot outlive the request and nothing is mirrored into the
+ * {@code ThreadContext}, so virtual threads do not each carry an MDC map.
+ * {@code ScopedValue} is reached through method handles, so neither this
+ * library nor the application is compiled with {@code --enable-preview},
+ * and on Java 21 it is used without the flag. Where it is unavailable the
+ * thread-local is used.
+ *
+ * @author samueladebowale
+ */
+@Log4j2
+@Getter
+@With
+@ToString
+@Builder(toBuilder = true)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class RequestContext {
+
+    public static final String TRACE_ID_KEY = "X-B3-TraceId";
+    public static final String API_VERSION_KEY = "X-API-Version";
+
+    public static final RequestContext EMPTY = new RequestContext(null, null, null, null);
+
+    public static final String SCOPED_VALUE_PROPERTY = "cometbid.context.scoped-value";
+
+    private static final List<String> THREAD_CONTEXT_KEYS = List.of(LocaleContextUtils.THREAD_CONTEXT_LOCALE_KEY,
+            TimeZoneUtils.THREAD_CONTEXT_TIMEZONE_KEY, TRACE_ID_KEY, API_VERSION_KEY);
+
+    private static final ThreadLocal<Binding> CURRENT = new ThreadLocal<>();
+
+    private static final boolean SCOPED_VALUE_MODE = scopedValueMode();
+
+    private final Locale locale;
+
+    private final ZoneId zoneId;
+
+    private final String traceId;
+
+    private final String apiVersion;
+
+    /**
+     *
+     * @return the context bound to the current thread, never null
+     */
+    public static RequestContext current() {
+        if (SCOPED_VALUE_MODE) {
+            Slot slot = ScopedValueSupport.currentSlot();
+            if (slot != null) {
+                return slot.context;
+            }
+        }
+
+        Binding binding = CURRENT.get();
+        return binding != null ? binding.context() : EMPTY;
+    }
+
+    /**
+     *
+     * @return true if request scopes are backed by a {@code ScopedValue}
+     */
+    public static boolean isScopedValueMode() {
+        return SCOPED_VALUE_MODE;
+    }
+
+    /**
+     * Binds {@code context} to the current thread and mirrors its values into
+     * the Log4j {@link ThreadContext}.
+     *
+     * @param context
+     */
+    public static void set(RequestContext context) {
+        if (context == null || context == EMPTY) {
+            clear();
+            return;
+        }
+
+        if (SCOPED_VALUE_MODE) {
+            Slot slot = ScopedValueSupport.currentSlot();
+            if (slot != null) {
+                slot.context = context;
+                return;
+            }
+        }
+
+        Binding previous = CURRENT.get();
+        int mirrored = previous != null
+                ? syncThreadContext(previous.context(), context, previous.mirrored())
+                : syncThreadContext(EMPTY, context, 0);
+
+        CURRENT.set(new Binding(context, mirrored));
+    }
+
+    /**
+     *
+     * @param update
+     * @return the updated context
+     */
+    public static RequestContext update(UnaryOperator<RequestContext> update) {
+        RequestContext context = update.apply(current());
+        set(context);
+
+        return context;
+    }
+
+    /**
+     * Runs {@code action} with {@code context} bound to the current thread and
+     * restores the previous binding afterwards. The {@link ThreadContext} is
+     * not touched; this is meant for short sections such as building an
+     * exception for a request whose context travels elsewhere (e.g. in the
+     * Reactor {@code Context}).
+     *
+     * @param <T>
+     * @param context
+     * @param action
+     * @return the result of {@code action}
+     */
+    public static <T> T callWith(RequestContext context, Supplier<T> action) {
+        if (SCOPED_VALUE_MODE) {
+            try {
+                return ScopedValueSupport.call(new Slot(context), action::get);
+            } catch (RuntimeException ex) {
+                throw ex;
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+
+        Binding previous = CURRENT.get();
+
+        CURRENT.set(new Binding(context, 0));
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Runs one request: {@code action} starts with an empty context, and
+     * whatever it binds is gone once it returns or throws.
+     *
+     * @param <T>
+     * @param action
+     * @return the result of {@code action}
+     * @throws Exception thrown by {@code action}
+     */
+    public static <T> T callInScope(Callable<T> action) throws Exception {
+        if (SCOPED_VALUE_MODE) {
+            return ScopedValueSupport.call(new Slot(EMPTY), action);
+        }
+
+        try {
+            return action.call();
+        } finally {
+            clear();
+        }
+    }
+
+    /**
+     * Unbinds the context and removes the values it mirrored into the
+     * {@link ThreadContext}; other entries under the same keys are kept.
+     */
+    public static void clear() {
+        if (SCOPED_VALUE_MODE) {
+            Slot slot = ScopedValueSupport.currentSlot();
+            if (slot != null) {
+                slot.context = EMPTY;
+                return;
+            }
+        }
+
+        Binding binding = CURRENT.get();
+        CURRENT.remove();
+
+        if (binding != null) {
+            for (int i = 0; i < THREAD_CONTEXT_KEYS.size(); i++) {
+                if ((binding.mirrored() & (1 << i)) != 0) {
+                    ThreadContext.remove(THREAD_CONTEXT_KEYS.get(i));
+                }
+            }
+        }
+    }
+
+    private static boolean scopedValueMode() {
+        if (!Boolean.parseBoolean(System.getProperty(SCOPED_VALUE_PROPERTY))) {
+            return false;
+        }
+        if (!ScopedValueSupport.isAvailable()) {
+            log.warn("{} is set but ScopedValue is not available, using a thread-local", SCOPED_VALUE_PROPERTY);
+            return false;
+        }
+        return true;
+    }
+
+    // Only changed values are written, each ThreadContext put may copy the map.
+    // Returns the bits, by index in THREAD_CONTEXT_KEYS, of the entries put here.
+    private static int syncThreadContext(RequestContext previous, RequestContext context, int mirrored) {
+        if (context.locale != null && !context.locale.equals(previous.locale)) {
+            mirrored = mirror(0, context.locale.toString(), mirrored);
+        }
+        if (context.zoneId != null && !context.zoneId.equals(previous.zoneId)) {
+            mirrored = mirror(1, context.zoneId.getId(), mirrored);
+        }
+        if (context.traceId != null && !context.traceId.equals(previous.traceId)) {
+            mirrored = mirror(2, context.traceId, mirrored);
+        }
+        if (context.apiVersion != null && !context.apiVersion.equals(previous.apiVersion)) {
+            mirrored = mirror(3, context.apiVersion, mirrored);
+        }
+        return mirrored;
+    }
+
+    // An entry already holding the value, e.g. read back from it, stays with its owner.
+    private static int mirror(int index, String value, int mirrored) {
+        String key = THREAD_CONTEXT_KEYS.get(index);
+        int bit = 1 << index;
+        if ((mirrored & bit) == 0 && value.equals(ThreadContext.get(key))) {
+            return mirrored;
+        }
+        ThreadContext.put(key, value);
+        return mirrored | bit;
+    }
+
+    /**
+     * The thread-local binding, with the {@link #THREAD_CONTEXT_KEYS} entries
+     * it put into the {@link ThreadContext}, one bit per key.
+     */
+    private record Binding(RequestContext context, int mirrored) {
+
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * In-process sliding window rate limiter keyed by client identity, e.g. a
+ * client IP or a profile id, deciding when to raise
+ * {@link org.cometbid.component.api.auth.exceptions.TooManyRequestException}
+ * or
+ * {@link org.cometbid.component.api.auth.exceptions.BlockedProfileAttemptsLoginWarning}.
+ * <p>
+ * The window is split into ten buckets. Each key owns a ring
+ * of bucket counters in an {@link AtomicLongArray}, a slot packing the
+ * bucket number with its count so that rolling over to a new bucket and
+ * counting are one compare-and-set. An attempt is admitted while the
+ * buckets still inside the window hold at most {@code limit} attempts;
+ * rejected attempts are counted too, so a client retrying in a tight loop
+ * stays limited until it slows down.
+ * <p>
+ * Keys are spread over sixteen stripes, each holding at most a sixteenth
+ * of {@code maxKeys} rings. New keys are added under the stripe's lock, so
+ * that bound holds. When a stripe is full, a new key evicts the rings idle
+ * for a whole window and, if needed, the least recently used ones, until an
+ * eighth of the stripe is free. A full scan thus happens at most once per
+ * that many new keys, so memory stays bounded under a burst of distinct
+ * clients at a constant amortized cost per key.
+ *
+ * @author samueladebowale
+ */
+public final class RequestRateLimiter {
+
+    public static final int DEFAULT_MAX_KEYS = 65_536;
+
+    static final int BUCKETS = 10;
+    static final int STRIPES = 16;
+    static final int EVICTION_FRACTION = 8;
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final int limit;
+    private final long bucketMillis;
+    private final int maxKeysPerStripe;
+    private final int evictionBatch;
+    private final Clock clock;
+    private final Stripe[] stripes;
+
+    /**
+     *
+     * @param limit the attempts admitted per key within the window
+     * @param window
+     */
+    public RequestRateLimiter(int limit, Duration window) {
+        this(limit, window, DEFAULT_MAX_KEYS, Clock.systemUTC());
+    }
+
+    /**
+     *
+     * @param limit the attempts admitted per key within the window
+     * @param window
+     * @param maxKeys the keys tracked at most
+     * @param clock
+     */
+    public RequestRateLimiter(int limit, Duration window, int maxKeys, Clock clock) {
+        if (limit < 1 || limit > COUNT_MASK) {
+            throw new IllegalArgumentException("limit must be between 1 and " + COUNT_MASK + ": " + limit);
+        }
+        if (window.toMillis() < BUCKETS) {
+            throw new IllegalArgumentException("window must be at least " + BUCKETS + "ms: " + window);
+        }
+        if (maxKeys < STRIPES) {
+            throw new IllegalArgumentException("maxKeys must be at least " + STRIPES + ": " + maxKeys);
+        }
+        this.limit = limit;
+        this.bucketMillis = window.toMillis() / BUCKETS;
+        this.maxKeysPerStripe = maxKeys / STRIPES;
+        this.evictionBatch = Math.max(1, maxKeysPerStripe / EVICTION_FRACTION);
+        this.clock = clock;
+
+        this.stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Counts an attempt for the key.
+     *
+     * @param key
+     * @return true if the attempt is within the limit
+     */
+    public boolean tryAcquire(String key) {
+        long bucket = currentBucket();
+        return stripe(key).window(key, bucket).add(bucket) <= limit;
+    }
+
+    /**
+     *
+     * @param key
+     * @return the attempts counted for the key within the window
+     */
+    public long getCount(String key) {
+        Window window = stripe(key).windows.get(key);
+        return window == null ? 0 : window.count(currentBucket());
+    }
+
+    /**
+     * Forgets the attempts of the key, e.g. after a successful login.
+     *
+     * @param key
+     */
+    public void reset(String key) {
+        stripe(key).windows.remove(key);
+    }
+
+    /**
+     *
+     * @return the number of keys tracked
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.windows.size();
+        }
+        return size;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    private long currentBucket() {
+        return clock.millis() / bucketMillis;
+    }
+
+    private Stripe stripe(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
+
+    private final class Stripe {
+
+        private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+        Window window(String key, long bucket) {
+            Window window = windows.get(key);
+            if (window != null) {
+                return window;
+            }
+            synchronized (this) {
+                window = windows.get(key);
+                if (window == null) {
+                    if (windows.size() >= maxKeysPerStripe) {
+                        evict(bucket);
+                    }
+                    window = new Window();
+                    windows.put(key, window);
+                }
+                return window;
+            }
+        }
+
+        /**
+         * Removes every ring idle for a whole window and, if that is not
+         * enough, the least recently used ones, until {@code evictionBatch}
+         * slots are free. Rings are only ranked by the age of their last
+         * bucket, counted in a histogram during the first scan.
+         */
+        private void evict(long bucket) {
+            int[] ages = new int[BUCKETS];
+            for (Map.Entry<String, Window> entry : windows.entrySet()) {
+                long age = bucket - entry.getValue().lastBucket();
+                if (age >= BUCKETS) {
+                    windows.remove(entry.getKey(), entry.getValue());
+                } else {
+                    ages[(int) Math.max(age, 0)]++;
+                }
+            }
+
+            int excess = windows.size() - (maxKeysPerStripe - evictionBatch);
+            if (excess <= 0) {
+                return;
+            }
+
+            // the youngest age at which removing the older rings frees enough
+            int oldest = BUCKETS - 1;
+            for (int covered = ages[oldest]; covered < excess && oldest > 0;) {
+                covered += ages[--oldest];
+            }
+
+            for (Map.Entry<String, Window> entry : windows.entrySet()) {
+                if (excess <= 0) {
+                    break;
+                }
+                if (Math.max(bucket - entry.getValue().lastBucket(), 0) >= oldest
+                        && windows.remove(entry.getKey(), entry.getValue())) {
+                    excess--;
+                }
+            }
+        }
+    }
+
+    private static final class Window {
+
+        /**
+         * Bucket number in the high bits, count in the low
+         * {@code COUNT_BITS} bits.
+         */
+        private final AtomicLongArray slots = new AtomicLongArray(BUCKETS);
+
+        long add(long bucket) {
+            int index = (int) (bucket % BUCKETS);
+            long next;
+            for (;;) {
+                long current = slots.get(index);
+                if ((current >>> COUNT_BITS) != bucket) {
+                    next = (bucket << COUNT_BITS) | 1;
+                } else if ((current & COUNT_MASK) == COUNT_MASK) {
+                    next = current;
+                    break;
+                } else {
+                    next = current + 1;
+                }
+                if (slots.compareAndSet(index, current, next)) {
+                    break;
+                }
+            }
+            return (next & COUNT_MASK) + count(bucket, index);
+        }
+
+        long count(long bucket) {
+            return count(bucket, -1);
+        }
+
+        private long count(long bucket, int skipIndex) {
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                if (i == skipIndex) {
+                    continue;
+                }
+                long slot = slots.get(i);
+                long slotBucket = slot >>> COUNT_BITS;
+                if (slotBucket <= bucket && bucket - slotBucket < BUCKETS) {
+                    total += slot & COUNT_MASK;
+                }
+            }
+            return total;
+        }
+
+        long lastBucket() {
+            long last = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                last = Math.max(last, slots.get(i) >>> COUNT_BITS);
+            }
+            return last;
+        }
+    }
+}
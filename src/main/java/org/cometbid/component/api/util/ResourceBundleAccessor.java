@@ -23,9 +23,11 @@
  */
 package org.cometbid.component.api.util;
 
-import org.springframework.context.support.ResourceBundleMessageSource;
+import java.util.Locale;
 
 /**
+ * Static entry point used by the exceptions to resolve their localized
+ * messages. Lookups are served by the precompiled {@link MessageCatalog}.
  *
  * @author samueladebowale
  */
@@ -35,18 +37,42 @@ public class ResourceBundleAccessor {
 
     }
 
-    private static final ResourceBundleMessageSource messageSource;
+    private static final MessageCatalog messageCatalog = MessageCatalog.getInstance();
 
-    static {
-        messageSource = new ResourceBundleMessageSource();
-        messageSource.setBasenames("response-messages");
-        messageSource.setUseCodeAsDefaultMessage(true);
-        messageSource.setDefaultEncoding("UTF-8");
-        messageSource.setFallbackToSystemLocale(false);
+    public static String accessMessageInBundle(String messageKey, Object[] args) {
+        return messageCatalog.getMessage(messageKey, args, LocaleContextUtils.getContextLocale());
     }
 
-    public static String accessMessageInBundle(String messageKey, Object[] args) {
-        return messageSource.getMessage(messageKey, args, LocaleContextUtils.getContextLocale());
+    /**
+     *
+     * @param messageKey
+     * @param args
+     * @param locale
+     * @return
+     */
+    public static String accessMessageInBundle(String messageKey, Object[] args, Locale locale) {
+        return messageCatalog.getMessage(messageKey, args, locale);
+    }
+
+    /**
+     *
+     * @param errorCode
+     * @param args
+     * @return
+     */
+    public static String accessMessageInBundle(ErrorCode errorCode, Object[] args) {
+        return messageCatalog.getMessage(errorCode, args, LocaleContextUtils.getContextLocale());
+    }
+
+    /**
+     *
+     * @param errorCode
+     * @param args
+     * @param locale
+     * @return
+     */
+    public static String accessMessageInBundle(ErrorCode errorCode, Object[] args, Locale locale) {
+        return messageCatalog.getMessage(errorCode, args, locale);
     }
 
     /**
@@ -0,0 +1,172 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.Callable;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Binds the {@link RequestContext} through a {@code java.lang.ScopedValue}.
+ * <p>
+ * {@code ScopedValue} is a preview API on Java 21, and referencing it directly
+ * would force every application using this library to compile and run with
+ * {@code --enable-preview}. It is therefore reached through method handles
+ * resolved once at class initialization. On runtimes where it cannot be used
+ * {@link #isAvailable()} returns false and callers stay on the thread-local.
+ *
+ * @author samueladebowale
+ */
+@Log4j2
+final class ScopedValueSupport {
+
+    private static final MethodHandle IS_BOUND;
+    private static final MethodHandle GET;
+    private static final MethodHandle WHERE;
+    private static final MethodHandle RUN;
+
+    static {
+        MethodHandle isBound = null;
+        MethodHandle get = null;
+        MethodHandle where = null;
+        MethodHandle run = null;
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            Class<?> scopedValueClass = Class.forName("java.lang.ScopedValue");
+            Class<?> carrierClass = Class.forName("java.lang.ScopedValue$Carrier");
+
+            Object scopedValue = lookup.findStatic(scopedValueClass, "newInstance",
+                    MethodType.methodType(scopedValueClass)).invoke();
+
+            isBound = lookup.findVirtual(scopedValueClass, "isBound", MethodType.methodType(boolean.class))
+                    .bindTo(scopedValue);
+            get = lookup.findVirtual(scopedValueClass, "get", MethodType.methodType(Object.class))
+                    .bindTo(scopedValue)
+                    .asType(MethodType.methodType(Slot.class));
+            where = MethodHandles.insertArguments(lookup.findStatic(scopedValueClass, "where",
+                    MethodType.methodType(carrierClass, scopedValueClass, Object.class)), 0, scopedValue)
+                    .asType(MethodType.methodType(Object.class, Slot.class));
+            run = lookup.findVirtual(carrierClass, "run", MethodType.methodType(void.class, Runnable.class))
+                    .asType(MethodType.methodType(void.class, Object.class, Runnable.class));
+
+            // Fails here rather than per request if preview features are disabled.
+            Object carrier = where.invokeExact(new Slot(RequestContext.EMPTY));
+            run.invokeExact(carrier, (Runnable) () -> {
+            });
+        } catch (Throwable ex) {
+            log.debug("ScopedValue is not usable on this runtime", ex);
+            isBound = null;
+        }
+
+        IS_BOUND = isBound;
+        GET = get;
+        WHERE = where;
+        RUN = run;
+    }
+
+    private ScopedValueSupport() {
+    }
+
+    /**
+     *
+     * @return true if {@code ScopedValue} can be used on this runtime
+     */
+    static boolean isAvailable() {
+        return IS_BOUND != null;
+    }
+
+    /**
+     *
+     * @return the slot bound to the current scope, or null outside one
+     */
+    static Slot currentSlot() {
+        try {
+            return (boolean) IS_BOUND.invokeExact() ? (Slot) GET.invokeExact() : null;
+        } catch (Throwable ex) {
+            throw rethrow(ex);
+        }
+    }
+
+    /**
+     * Runs {@code action} in a new scope in which {@code slot} is bound. The
+     * binding ends with the call, whatever the outcome.
+     *
+     * @param <T>
+     * @param slot
+     * @param action
+     * @return the result of {@code action}
+     * @throws Exception thrown by {@code action}
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T call(Slot slot, Callable<T> action) throws Exception {
+        Object[] result = new Object[1];
+        Exception[] failure = new Exception[1];
+
+        Runnable body = () -> {
+            try {
+                result[0] = action.call();
+            } catch (Exception ex) {
+                failure[0] = ex;
+            }
+        };
+
+        try {
+            RUN.invokeExact(WHERE.invokeExact(slot), body);
+        } catch (Throwable ex) {
+            throw rethrow(ex);
+        }
+
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        return (T) result[0];
+    }
+
+    private static RuntimeException rethrow(Throwable ex) {
+        if (ex instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (ex instanceof Error error) {
+            throw error;
+        }
+        return new IllegalStateException(ex);
+    }
+
+    /**
+     * Mutable holder bound for the duration of a request scope, so the
+     * interceptors can fill in the context after the scope was opened.
+     * Confined to the request's thread.
+     */
+    static final class Slot {
+
+        RequestContext context;
+
+        Slot(RequestContext context) {
+            this.context = context;
+        }
+    }
+}
@@ -34,13 +34,17 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Collectors;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.logging.log4j.ThreadContext;
 
 /**
@@ -74,10 +78,29 @@ public class TimeZoneUtils {
     // ========================================================================================== //
 
     public static final String THREAD_CONTEXT_TIMEZONE_KEY = "timezone";
+
+    /**
+     * Jackson context attribute holding the {@link ZoneId} date-times are
+     * written in, e.g. set through {@code ObjectWriter.withAttribute}; takes
+     * precedence over the context zone.
+     */
+    public static final String ZONE_ID_ATTRIBUTE = "cometbid.zoneId";
     private final static Set<String> ALL_ZONE_IDS;
 
+    // lower-cased region id -> canonical region id, e.g. america/new_york -> America/New_York
+    private final static Map<String, String> ZONE_IDS_BY_LOWER_CASE;
+
+    // canonical region id -> ZoneId, filled on first use (bounded by the number of region ids)
+    private final static ConcurrentMap<String, ZoneId> RESOLVED_ZONE_IDS = new ConcurrentHashMap<>();
+
     static {
         ALL_ZONE_IDS = ZoneId.getAvailableZoneIds();
+
+        Map<String, String> zoneIdsByLowerCase = new HashMap<>(ALL_ZONE_IDS.size() * 2);
+        for (String zoneId : ALL_ZONE_IDS) {
+            zoneIdsByLowerCase.put(zoneId.toLowerCase(Locale.ROOT), zoneId);
+        }
+        ZONE_IDS_BY_LOWER_CASE = Map.copyOf(zoneIdsByLowerCase);
     }
 
     private TimeZoneUtils() {
@@ -159,13 +182,29 @@ public class TimeZoneUtils {
      * @return
      */
     public static ZoneId getZoneId(String timeZoneId) {
-        boolean foundZone = ALL_ZONE_IDS.stream().anyMatch(e -> e.equalsIgnoreCase(timeZoneId));
+        ZoneId zoneId = findZoneId(timeZoneId);
+
+        return zoneId != null ? zoneId : ZoneId.systemDefault();
+    }
+
+    /**
+     * Case-insensitive lookup of a region id such as {@code America/New_York}.
+     *
+     * @param timeZoneId
+     * @return the zone, or null if {@code timeZoneId} is not a known region id
+     */
+    public static ZoneId findZoneId(String timeZoneId) {
+        if (timeZoneId == null) {
+            return null;
+        }
 
-        if (foundZone) {
-            return ZoneId.of(timeZoneId);
+        ZoneId zoneId = RESOLVED_ZONE_IDS.get(timeZoneId);
+        if (zoneId != null) {
+            return zoneId;
         }
 
-        return ZoneId.systemDefault();
+        String canonicalId = ZONE_IDS_BY_LOWER_CASE.get(timeZoneId.toLowerCase(Locale.ROOT));
+        return canonicalId != null ? RESOLVED_ZONE_IDS.computeIfAbsent(canonicalId, ZoneId::of) : null;
     }
 
     /**
@@ -183,7 +222,7 @@ public class TimeZoneUtils {
      * @return
      */
     public static ZoneOffset getContextZoneOffset() {
-        return ZonedDateTime.ofInstant(Instant.now(), getContextZoneId()).getOffset();
+        return getContextZoneId().getRules().getOffset(Instant.now());
     }
 
     /**
@@ -202,14 +241,20 @@ public class TimeZoneUtils {
     }
 
     /**
+     * Returns the timezone of the current request. The zone is resolved once,
+     * when it is set, and kept in the {@link RequestContext}; a timezone put
+     * straight into the {@link ThreadContext} is resolved on each call.
      *
-     * @return @throws DateTimeException
+     * @return the context zone, or {@link #DEFAULT_ZONEID} if none was set
+     * @throws DateTimeException
      */
     public static ZoneId getContextZoneId() throws DateTimeException {
-        String timezone = ThreadContext.get(THREAD_CONTEXT_TIMEZONE_KEY);
+        ZoneId zoneId = RequestContext.current().getZoneId();
+        if (zoneId != null) {
+            return zoneId;
+        }
 
-        log.info("User context timezone {}", timezone);
-        return ZoneId.of(timezone);
+        return resolveZoneId(ThreadContext.get(THREAD_CONTEXT_TIMEZONE_KEY));
     }
 
     /**
@@ -219,10 +264,28 @@ public class TimeZoneUtils {
      * @throws DateTimeException
      */
     public static ZoneId setContextZoneId(String timezone) throws DateTimeException {
-        ThreadContext.put(THREAD_CONTEXT_TIMEZONE_KEY, timezone);
-
         log.info("User context timezone {}", timezone);
-        return getContextZoneId();
+        ZoneId zoneId = resolveZoneId(timezone);
+
+        RequestContext.update(context -> context.withZoneId(zoneId));
+        return zoneId;
+    }
+
+    /**
+     * Region ids are matched case-insensitively; anything else (offsets such
+     * as {@code +02:00} or {@code GMT+2}) goes through {@link ZoneId#of}.
+     *
+     * @param timezone
+     * @return the zone, or {@link #DEFAULT_ZONEID} if {@code timezone} is blank
+     * @throws DateTimeException if {@code timezone} is not a valid zone
+     */
+    public static ZoneId resolveZoneId(String timezone) throws DateTimeException {
+        if (StringUtils.isBlank(timezone)) {
+            return DEFAULT_ZONEID;
+        }
+
+        ZoneId zoneId = findZoneId(timezone);
+        return zoneId != null ? zoneId : ZoneId.of(timezone);
     }
 
     public static void main(String... args) {
@@ -23,27 +23,47 @@
  */
 package org.cometbid.component.api.util.converters;
 
+import org.cometbid.component.api.util.EnumAliases;
+import org.cometbid.component.api.util.EnumIndex;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.converter.ConverterFactory;
 
 /**
+ * Converts request parameters to enum constants by name, ignoring case and
+ * surrounding blanks. Gson {@code @SerializedName} values and the aliases
+ * {@code @VerifyEnumValue} accepts, i.e. {@code toString()} and
+ * {@code getValue()}, are understood as well; see
+ * {@link EnumAliases#forEachConversion}.
+ * <p>
+ * One converter is built per target type and reused. Lookups go through a
+ * shared {@link EnumIndex} and do not allocate.
  *
  * @author samueladebowale
  */
 @SuppressWarnings({"rawtypes", "unchecked"})
 public class CustomStringToEnumConverterFactory implements ConverterFactory<String, Enum> {
 
+    private static final ClassValue<StringToEnum> CONVERTERS = new ClassValue<>() {
+        @Override
+        protected StringToEnum computeValue(Class<?> targetType) {
+            return new StringToEnum(getEnumType(targetType));
+        }
+    };
+
     @Override
     public <T extends Enum> Converter<String, T> getConverter(Class<T> targetType) {
-        return new StringToEnum(getEnumType(targetType));
+        return CONVERTERS.get(targetType);
     }
 
-    private class StringToEnum<T extends Enum> implements Converter<String, T> {
+    private static class StringToEnum<T extends Enum> implements Converter<String, T> {
 
         private final Class<T> enumType;
 
-        public StringToEnum(Class<T> enumType) {
+        private final EnumIndex<?> index;
+
+        StringToEnum(Class<T> enumType) {
             this.enumType = enumType;
+            this.index = EnumIndex.forConversion((Class) enumType);
         }
 
         @Override
@@ -53,7 +73,12 @@ public class CustomStringToEnumConverterFactory implements ConverterFactory<Stri
                 return null;
             }
 
-            return (T) Enum.valueOf(this.enumType, source.trim().toUpperCase());
+            T constant = (T) index.get(source);
+            if (constant == null) {
+                throw new IllegalArgumentException(
+                        "No enum constant " + enumType.getCanonicalName() + "." + source.trim());
+            }
+            return constant;
         }
     }
 
@@ -27,11 +27,31 @@ import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
+import jakarta.validation.metadata.BeanDescriptor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import lombok.extern.log4j.Log4j2;
 import org.cometbid.component.api.auth.exceptions.CustomConstraintViolationException;
 
 /**
+ * Validates models outside of Spring's method validation, e.g. in services
+ * and batch jobs.
+ * <p>
+ * Constraint metadata of every model type is looked up once and kept in a
+ * {@link ClassValue}. Types without any constraint are returned without
+ * calling the validator. DTO classes can be {@link #register(Class[])
+ * registered} at startup, so the first request does not pay for reading
+ * their metadata.
+ * <p>
+ * In fail-fast mode ({@code cometbid.validation.fail-fast}) validation of a
+ * model stops at its first violation.
  *
  * @author samueladebowale
  * @param <T>
@@ -39,17 +59,72 @@ import org.cometbid.component.api.auth.exceptions.CustomConstraintViolationExcep
 @Log4j2
 public class GenericProgrammaticValidator<T> {
 
+    public static final String FAIL_FAST_PROPERTY = "cometbid.validation.fail-fast";
+
+    /**
+     * Provider property understood by Hibernate Validator.
+     */
+    static final String HIBERNATE_FAIL_FAST = "hibernate.validator.fail_fast";
+
+    /**
+     * Collections up to this size are validated on the calling thread.
+     */
+    static final int PARALLEL_THRESHOLD = 64;
+
     private static final Validator validator;
 
+    private static final Validator failFastValidator;
+
+    private static final ClassValue<BeanDescriptor> DESCRIPTORS = new ClassValue<>() {
+        @Override
+        protected BeanDescriptor computeValue(Class<?> type) {
+            return validator.getConstraintsForClass(type);
+        }
+    };
+
+    private static volatile boolean failFast = Boolean.getBoolean(FAIL_FAST_PROPERTY);
+
+    private static volatile Executor executor = ForkJoinPool.commonPool();
+
     static {
         ValidatorFactory factory = Validation.buildDefaultValidatorFactory();
         validator = factory.getValidator();
+
+        ValidatorFactory failFastFactory = Validation.byDefaultProvider().configure()
+                .addProperty(HIBERNATE_FAIL_FAST, Boolean.TRUE.toString())
+                .buildValidatorFactory();
+        failFastValidator = failFastFactory.getValidator();
+    }
+
+    /**
+     * Reads and keeps the constraint metadata of the given types.
+     *
+     * @param types model classes validated by the application
+     */
+    public static void register(Class<?>... types) {
+        for (Class<?> type : types) {
+            BeanDescriptor descriptor = DESCRIPTORS.get(type);
+
+            log.debug("Registered {} for validation, constrained: {}", type.getName(),
+                    descriptor.isBeanConstrained());
+        }
     }
 
     public static <T> T validate(T model) {
+        return validate(model, new Class<?>[0]);
+    }
 
-        log.info("Validating model object: {}", model);
-        Set<ConstraintViolation<Object>> violations = validator.validate(model);
+    /**
+     *
+     * @param <T>
+     * @param model the model to validate
+     * @param groups the validation groups to apply, or none for the default
+     * group
+     * @return the model
+     * @throws CustomConstraintViolationException if the model is invalid
+     */
+    public static <T> T validate(T model, Class<?>... groups) {
+        Set<ConstraintViolation<T>> violations = violationsOf(model, groups);
 
         if (!violations.isEmpty()) {
             throw new CustomConstraintViolationException(violations);
@@ -57,4 +132,136 @@ public class GenericProgrammaticValidator<T> {
 
         return model;
     }
+
+    /**
+     * Validates every model of the collection, in parallel on
+     * {@link #getExecutor()} if the collection is large.
+     *
+     * @param <T>
+     * @param models the models to validate
+     * @param groups the validation groups to apply
+     * @return the models
+     * @throws CustomConstraintViolationException with the violations of all
+     * invalid models
+     */
+    public static <T> Collection<T> validateAll(Collection<T> models, Class<?>... groups) {
+        return validateAll(models, executor, groups);
+    }
+
+    /**
+     *
+     * @param <T>
+     * @param models the models to validate
+     * @param executor runs the validation of large collections
+     * @param groups the validation groups to apply
+     * @return the models
+     * @throws CustomConstraintViolationException with the violations of all
+     * invalid models
+     */
+    public static <T> Collection<T> validateAll(Collection<T> models, Executor executor, Class<?>... groups) {
+        Set<ConstraintViolation<T>> violations = models.size() <= PARALLEL_THRESHOLD
+                ? violationsOf(models, groups)
+                : violationsOf(partition(models), executor, groups);
+
+        if (!violations.isEmpty()) {
+            throw new CustomConstraintViolationException(violations);
+        }
+
+        return models;
+    }
+
+    private static <T> Set<ConstraintViolation<T>> violationsOf(List<List<T>> batches, Executor executor,
+            Class<?>... groups) {
+
+        List<CompletableFuture<Set<ConstraintViolation<T>>>> futures = new ArrayList<>(batches.size());
+        for (List<T> batch : batches) {
+            futures.add(CompletableFuture.supplyAsync(() -> violationsOf(batch, groups), executor));
+        }
+
+        Set<ConstraintViolation<T>> violations = new HashSet<>();
+        try {
+            for (CompletableFuture<Set<ConstraintViolation<T>>> future : futures) {
+                violations.addAll(future.join());
+            }
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+        return violations;
+    }
+
+    private static <T> Set<ConstraintViolation<T>> violationsOf(Collection<T> models, Class<?>... groups) {
+        Set<ConstraintViolation<T>> violations = new HashSet<>();
+
+        for (T model : models) {
+            violations.addAll(violationsOf(model, groups));
+        }
+        return violations;
+    }
+
+    private static <T> Set<ConstraintViolation<T>> violationsOf(T model, Class<?>... groups) {
+        if (model == null || !DESCRIPTORS.get(model.getClass()).isBeanConstrained()) {
+            return Set.of();
+        }
+
+        log.debug("Validating model of type {}", model.getClass().getName());
+
+        return (failFast ? failFastValidator : validator).validate(model, groups);
+    }
+
+    /**
+     * Splits the models in about four batches per available processor.
+     */
+    private static <T> List<List<T>> partition(Collection<T> models) {
+        int batchCount = Runtime.getRuntime().availableProcessors() * 4;
+        int batchSize = Math.max(PARALLEL_THRESHOLD / 4, (models.size() + batchCount - 1) / batchCount);
+
+        List<List<T>> batches = new ArrayList<>();
+        List<T> batch = new ArrayList<>(batchSize);
+        for (T model : models) {
+            batch.add(model);
+            if (batch.size() == batchSize) {
+                batches.add(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    /**
+     *
+     * @return true if validation of a model stops at its first violation
+     */
+    public static boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     *
+     * @param enabled
+     */
+    public static void setFailFast(boolean enabled) {
+        failFast = enabled;
+    }
+
+    /**
+     *
+     * @return the executor validating large collections
+     */
+    public static Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     *
+     * @param validationExecutor
+     */
+    public static void setExecutor(Executor validationExecutor) {
+        executor = validationExecutor == null ? ForkJoinPool.commonPool() : validationExecutor;
+    }
 }
@@ -25,32 +25,43 @@ package org.cometbid.component.api.validators;
 
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import lombok.Setter;
-import lombok.extern.log4j.Log4j2;
+import org.cometbid.component.api.util.EnumIndex;
 
 /**
  * Implementation for the user-defined constraint annotation @VerifyValue This
  * is a general purpose validator which verifies the value for any enum If an
  * Enum object has a getValue() method it will validate based on the value of
  * the Enum else will use the EnumConstant
+ * <p>
+ * The accepted values of an enum are indexed once per enum class by
+ * {@link EnumIndex#forEnum(Class)}, so validating a value is a single,
+ * case-insensitive hash lookup.
  *
  * @author Gbenga Adebowale
  */
-@Log4j2
-@Setter
 public class VerifyEnumValidator implements ConstraintValidator<VerifyEnumValue, Object> {
 
     Class<? extends Enum<?>> enumClass;
 
+    private EnumIndex<?> acceptedValues;
+
     /**
      *
      * @param enumObject
      */
     @Override
     public void initialize(final VerifyEnumValue enumObject) {
-        enumClass = enumObject.value();
+        setEnumClass(enumObject.value());
+    }
+
+    /**
+     *
+     * @param enumClass
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public void setEnumClass(Class<? extends Enum<?>> enumClass) {
+        this.enumClass = enumClass;
+        this.acceptedValues = enumClass == null ? null : EnumIndex.forEnum((Class) enumClass);
     }
 
     /**
@@ -63,42 +74,10 @@ public class VerifyEnumValidator implements ConstraintValidator<VerifyEnumValue,
     @Override
     public boolean isValid(final Object myval, final ConstraintValidatorContext constraintValidatorContext) {
 
-        log.debug("***** Verifying enum String value *****");
-
-        if ((myval != null) && (enumClass != null)) {
-            Enum[] enumValues = enumClass.getEnumConstants();
-            Object enumValue = null;
-
-            for (Enum enumerable : enumValues) {
-                if (myval.toString().equalsIgnoreCase(enumerable.toString())) {
-                    return true;
-                }
-                enumValue = getEnumValue(enumerable);
-                if ((enumValue != null) && (myval.toString().equalsIgnoreCase(enumValue.toString()))) {
-                    return true;
-                }
-            }
+        if ((myval != null) && (acceptedValues != null)) {
+            return acceptedValues.contains(myval instanceof CharSequence text ? text : myval.toString());
         }
         return false;
     }
 
-    /**
-     * Invokes the getValue() method for enum if present
-     *
-     * @param enumerable The Enum object
-     * @return returns the value of enum from getValue() or enum constant
-     */
-    private Object getEnumValue(Enum<?> enumerable) {
-        try {
-            for (Method method : enumerable.getClass().getDeclaredMethods()) {
-                if (method.getName().equals("getValue")) {
-                    return method.invoke(enumerable);
-                }
-            }
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            log.error("Enum conversion failed ", e); 
-        }
-        return null;
-    }
-
 }
@@ -0,0 +1,157 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.cometbid.component.api.jackson.ResponseModelModule;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.ApiValidationError;
+import org.cometbid.component.api.response.model.ApiValidationErrorSummary;
+import org.cometbid.component.api.response.model.ValidationErrorSettings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class ApiErrorBoundsTest {
+
+    @AfterEach
+    public void tearDown() {
+        ValidationErrorSettings.setMaxSubErrors(ValidationErrorSettings.DEFAULT_MAX_SUB_ERRORS);
+        ValidationErrorSettings.setMaxRejectedValueLength(ValidationErrorSettings.DEFAULT_MAX_REJECTED_VALUE_LENGTH);
+    }
+
+    @Test
+    public void testErrorsBeyondCapAreSummarized() {
+        ValidationErrorSettings.setMaxSubErrors(3);
+
+        List<FieldError> fieldErrors = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            fieldErrors.add(fieldError("items[" + i + "].name", "", "NotBlank"));
+        }
+        fieldErrors.add(fieldError("email", "nope", "Email"));
+
+        ApiError apiError = ApiErrors.validationFailed("/api/v1/items");
+        apiError.addValidationErrors(fieldErrors);
+        apiError.addValidationError(new ObjectError("bulkRequest", new String[]{"PasswordsMatch"}, null,
+                "passwords do not match"));
+
+        Assertions.assertEquals(4, apiError.getSubErrors().size());
+        Assertions.assertEquals("items[0].name", ((ApiValidationError) apiError.getSubErrors().get(0)).getField());
+
+        ApiValidationErrorSummary summary = (ApiValidationErrorSummary) apiError.getSubErrors().get(3);
+        Assertions.assertEquals(9, summary.getOmittedCount());
+        Assertions.assertEquals(Map.of("items[].name:NotBlank", 7, "email:Email", 1, "PasswordsMatch", 1),
+                summary.getOmitted());
+    }
+
+    @Test
+    public void testSummaryEntriesAreBounded() {
+        ValidationErrorSettings.setMaxSubErrors(2);
+
+        ApiError apiError = ApiErrors.validationFailed("/api/v1/items");
+        for (int i = 0; i < 10; i++) {
+            apiError.addValidationError(fieldError("field" + i, "x", "NotBlank"));
+        }
+
+        ApiValidationErrorSummary summary = (ApiValidationErrorSummary) apiError.getSubErrors().get(2);
+        Assertions.assertEquals(8, summary.getOmittedCount());
+        Assertions.assertEquals(Map.of("field2:NotBlank", 1, "field3:NotBlank", 1, ApiValidationErrorSummary.OTHER_KEY, 6),
+                summary.getOmitted());
+    }
+
+    @Test
+    public void testLargeRejectedValuesAreTruncated() {
+        ValidationErrorSettings.setMaxRejectedValueLength(8);
+
+        ApiError apiError = ApiErrors.validationFailed("/api/v1/items");
+        apiError.addValidationError(fieldError("description", "x".repeat(10_000), "Size"));
+        apiError.addValidationError(fieldError("tags", Collections.nCopies(10_000, "tag"), "Size"));
+        apiError.addValidationError(fieldError("scores", new int[10_000], "Size"));
+        apiError.addValidationError(fieldError("age", 42, "Min"));
+
+        Assertions.assertEquals("xxxxxxxx...", rejectedValue(apiError, 0));
+        Assertions.assertEquals(Collections.nCopies(8, "tag"), rejectedValue(apiError, 1));
+        Assertions.assertEquals(Collections.nCopies(8, 0), rejectedValue(apiError, 2));
+        Assertions.assertEquals(42, rejectedValue(apiError, 3));
+    }
+
+    @Test
+    public void testNonScalarRejectedValuesAreSummarized() {
+        ValidationErrorSettings.setMaxRejectedValueLength(8);
+
+        List<List<String>> batches = Collections.nCopies(10_000, Collections.nCopies(10_000, "item"));
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("tags", Collections.nCopies(10_000, "tag"));
+        attributes.put("note", "y".repeat(10_000));
+        Object bean = new Object() {
+            @Override
+            public String toString() {
+                return "z".repeat(10_000);
+            }
+        };
+
+        ApiError apiError = ApiErrors.validationFailed("/api/v1/items");
+        apiError.addValidationError(fieldError("batches", batches, "Size"));
+        apiError.addValidationError(fieldError("attributes", attributes, "Size"));
+        apiError.addValidationError(fieldError("request", bean, "Valid"));
+
+        Assertions.assertEquals(Collections.nCopies(8, "CopiesList[size=10000]"), rejectedValue(apiError, 0));
+        Assertions.assertEquals(Map.of("tags", "CopiesList[size=10000]", "note", "yyyyyyyy..."),
+                rejectedValue(apiError, 1));
+        Assertions.assertEquals("zzzzzzzz...", rejectedValue(apiError, 2));
+    }
+
+    @Test
+    public void testSummarySerialization() throws Exception {
+        ValidationErrorSettings.setMaxSubErrors(1);
+
+        ApiError apiError = ApiErrors.validationFailed("/api/v1/items");
+        apiError.addValidationError(fieldError("items[0].name", "", "NotBlank"));
+        apiError.addValidationError(fieldError("items[1].name", "", "NotBlank"));
+
+        Assertions.assertEquals(new ObjectMapper().writeValueAsString(apiError),
+                new ObjectMapper().registerModule(new ResponseModelModule()).writeValueAsString(apiError));
+        Assertions.assertTrue(new ObjectMapper().writeValueAsString(apiError)
+                .contains("\"omittedCount\":1,\"omitted\":{\"items[].name:NotBlank\":1}"));
+    }
+
+    private static FieldError fieldError(String field, Object rejectedValue, String code) {
+        return new FieldError("bulkRequest", field, rejectedValue, false, new String[]{code}, null, "is invalid");
+    }
+
+    private static Object rejectedValue(ApiError apiError, int index) {
+        return ((ApiValidationError) apiError.getSubErrors().get(index)).getRejectedValue();
+    }
+}
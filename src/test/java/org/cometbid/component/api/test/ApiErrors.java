@@ -0,0 +1,60 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.util.ErrorCode;
+import org.springframework.http.HttpStatus;
+
+/**
+ * The {@link ApiError}s the tests start from.
+ *
+ * @author samueladebowale
+ */
+final class ApiErrors {
+
+    private ApiErrors() {
+    }
+
+    /**
+     *
+     * @return a 404 for {@code GET /api/v1/users/42}
+     */
+    static ApiError notFound() {
+        HttpStatus status = HttpStatus.NOT_FOUND;
+        return ApiError.create("/api/v1/users/42", "GET", ErrorCode.GENERIC_NOT_FOUND_ERR_CODE.getErrCode(),
+                status.name(), status.value(), status.getReasonPhrase(), "User not found");
+    }
+
+    /**
+     *
+     * @param path
+     * @return a 422 without sub-errors for {@code POST path}
+     */
+    static ApiError validationFailed(String path) {
+        HttpStatus status = HttpStatus.UNPROCESSABLE_ENTITY;
+        return ApiError.create(path, "POST", ErrorCode.CONSTRAINT_VIOLATION_ERR_CODE.getErrCode(),
+                status.name(), status.value(), status.getReasonPhrase(), "Request data failed validation.");
+    }
+}
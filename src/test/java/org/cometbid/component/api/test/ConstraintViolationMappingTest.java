@@ -0,0 +1,187 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Payload;
+import jakarta.validation.Valid;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.ApiValidationError;
+import org.cometbid.component.api.response.model.ApiValidationErrorSummary;
+import org.cometbid.component.api.response.model.ValidationErrorSettings;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class ConstraintViolationMappingTest {
+
+    private static ValidatorFactory factory;
+    private static Validator validator;
+
+    @BeforeAll
+    public static void setUpClass() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+        factory.close();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ValidationErrorSettings.setMaxSubErrors(ValidationErrorSettings.DEFAULT_MAX_SUB_ERRORS);
+    }
+
+    @Test
+    public void testLeafNames() {
+        Order order = new Order(" ", List.of(new Line("", 0)), List.of("ok", ""));
+
+        List<ApiValidationError> errors = validationErrors(validator.validate(order));
+
+        Assertions.assertEquals(List.of("<list element>", "customer", "quantity", "sku"),
+                errors.stream().map(ApiValidationError::getField).toList());
+        Assertions.assertTrue(errors.stream().allMatch(error -> "Order".equals(error.getObject())));
+    }
+
+    @Test
+    public void testSameShapeFromDifferentIndexes() {
+        List<Line> lines = IntStream.range(0, 50).mapToObj(i -> new Line("sku-" + i, -i)).toList();
+        Order order = new Order("cometbid", lines, List.of());
+
+        List<ApiValidationError> errors = validationErrors(validator.validate(order));
+
+        Assertions.assertEquals(50, errors.size());
+        Assertions.assertTrue(errors.stream().allMatch(error -> "quantity".equals(error.getField())));
+        Assertions.assertEquals(IntStream.range(0, 50).mapToObj(i -> -i).collect(Collectors.toSet()),
+                errors.stream().map(ApiValidationError::getRejectedValue).collect(Collectors.toSet()));
+    }
+
+    @Test
+    public void testOverflowCountsConstraintCodes() {
+        ValidationErrorSettings.setMaxSubErrors(1);
+
+        List<Line> lines = IntStream.range(0, 5).mapToObj(i -> new Line("", 1)).toList();
+        ApiError apiError = ApiErrors.validationFailed("/api/v1/orders");
+        apiError.addValidationErrors(validator.validate(new Order("cometbid", lines, List.of())));
+
+        ApiValidationErrorSummary summary = (ApiValidationErrorSummary) apiError.getSubErrors().get(1);
+        Assertions.assertEquals(4, summary.getOmittedCount());
+        Assertions.assertEquals(4, summary.getOmitted().get("sku:NotBlank"));
+    }
+
+    @Test
+    public void testCrossFieldConstraintReportsEachField() {
+        List<ApiValidationError> errors = validationErrors(validator.validate(new Transfer("", "")));
+
+        Assertions.assertEquals(List.of("from", "to"), errors.stream().map(ApiValidationError::getField).toList());
+
+        errors = validationErrors(validator.validate(new Transfer("acc-1", "")));
+        Assertions.assertEquals(List.of("to"), errors.stream().map(ApiValidationError::getField).toList());
+    }
+
+    private static <T> List<ApiValidationError> validationErrors(Set<ConstraintViolation<T>> violations) {
+        ApiError apiError = ApiErrors.validationFailed("/api/v1/orders");
+        apiError.addValidationErrors(violations);
+
+        List<ApiValidationError> errors = new ArrayList<>();
+        for (int i = 0; i < apiError.getSubErrors().size(); i++) {
+            errors.add((ApiValidationError) apiError.getSubErrors().get(i));
+        }
+        errors.sort(Comparator.comparing(ApiValidationError::getField));
+
+        return errors;
+    }
+
+    public record Order(@NotBlank String customer, List<@Valid Line> lines, List<@NotBlank String> notes) {
+
+    }
+
+    public record Line(@NotBlank String sku, @Min(1) int quantity) {
+
+    }
+
+    @BothAccountsSet
+    public record Transfer(String from, String to) {
+
+    }
+
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @Constraint(validatedBy = BothAccountsSetValidator.class)
+    public @interface BothAccountsSet {
+
+        String message() default "must not be blank";
+
+        Class<?>[] groups() default {};
+
+        Class<? extends Payload>[] payload() default {};
+    }
+
+    public static class BothAccountsSetValidator implements ConstraintValidator<BothAccountsSet, Transfer> {
+
+        @Override
+        public boolean isValid(Transfer transfer, ConstraintValidatorContext context) {
+            context.disableDefaultConstraintViolation();
+
+            boolean valid = reportIfBlank(transfer.from(), "from", context);
+            return reportIfBlank(transfer.to(), "to", context) && valid;
+        }
+
+        private static boolean reportIfBlank(String account, String field, ConstraintValidatorContext context) {
+            if (account != null && !account.isBlank()) {
+                return true;
+            }
+            context.buildConstraintViolationWithTemplate("must not be blank")
+                    .addPropertyNode(field)
+                    .addConstraintViolation();
+            return false;
+        }
+    }
+}
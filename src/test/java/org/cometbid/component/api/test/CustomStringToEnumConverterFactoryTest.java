@@ -0,0 +1,159 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import com.google.gson.annotations.SerializedName;
+import org.cometbid.component.api.util.converters.CustomStringToEnumConverterFactory;
+import org.cometbid.component.api.validators.VerifyEnumValidator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.converter.Converter;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class CustomStringToEnumConverterFactoryTest {
+
+    private final CustomStringToEnumConverterFactory factory = new CustomStringToEnumConverterFactory();
+
+    @Test
+    public void testConvertIgnoringCaseAndBlanks() {
+        Converter<String, PaymentMethod> converter = factory.getConverter(PaymentMethod.class);
+
+        Assertions.assertEquals(PaymentMethod.CARD, converter.convert("CARD"));
+        Assertions.assertEquals(PaymentMethod.CARD, converter.convert(" card "));
+        Assertions.assertEquals(PaymentMethod.BANK_TRANSFER, converter.convert("Bank_Transfer"));
+        Assertions.assertNull(converter.convert(""));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> converter.convert("cash"));
+    }
+
+    @Test
+    public void testConvertValues() {
+        Converter<String, PaymentMethod> converter = factory.getConverter(PaymentMethod.class);
+
+        Assertions.assertEquals(PaymentMethod.CARD, converter.convert("crd"));
+        Assertions.assertEquals(PaymentMethod.BANK_TRANSFER, converter.convert("TRF"));
+    }
+
+    @Test
+    public void testConvertDisplayName() {
+        Converter<String, Channel> converter = factory.getConverter(Channel.class);
+
+        Assertions.assertEquals(Channel.MOBILE_APP, converter.convert("mobile app"));
+        Assertions.assertEquals(Channel.MOBILE_APP, converter.convert("MOBILE_APP"));
+        Assertions.assertEquals(Channel.MOBILE_APP, converter.convert("mobile_app"));
+    }
+
+    @Test
+    public void testConvertSerializedName() {
+        Converter<String, Status> converter = factory.getConverter(Status.class);
+
+        Assertions.assertEquals(Status.ACTIVE, converter.convert("ACTIVE"));
+        Assertions.assertEquals(Status.ACTIVE, converter.convert("act"));
+        Assertions.assertEquals(Status.ACTIVE, converter.convert("Enabled"));
+        Assertions.assertEquals(Status.INACTIVE, converter.convert("inactive"));
+    }
+
+    @Test
+    public void testConverterIsCachedPerType() {
+        Assertions.assertSame(factory.getConverter(PaymentMethod.class), factory.getConverter(PaymentMethod.class));
+        Assertions.assertSame(factory.getConverter(PaymentMethod.class),
+                new CustomStringToEnumConverterFactory().getConverter(PaymentMethod.class));
+    }
+
+    @Test
+    public void testConstantBodyTargetType() {
+        Assertions.assertEquals(Operation.PLUS,
+                factory.getConverter(Operation.PLUS.getClass()).convert("plus"));
+    }
+
+    @Test
+    public void testConvertsWhatValidatorAccepts() {
+        assertConvertsWhatValidatorAccepts(PaymentMethod.class,
+                "CARD", "card", "crd", "Bank_Transfer", "trf", "bank", "cash");
+        assertConvertsWhatValidatorAccepts(Channel.class, "Mobile App", "mobile_app", "web");
+        assertConvertsWhatValidatorAccepts(Status.class, "active", "act", "enabled", "off");
+    }
+
+    private void assertConvertsWhatValidatorAccepts(Class<? extends Enum<?>> enumClass, String... values) {
+        @SuppressWarnings({"rawtypes", "unchecked"})
+        Converter<String, ? extends Enum> converter = factory.getConverter((Class) enumClass);
+        VerifyEnumValidator validator = new VerifyEnumValidator();
+        validator.setEnumClass(enumClass);
+
+        for (String value : values) {
+            if (validator.isValid(value, null)) {
+                Assertions.assertNotNull(converter.convert(value), value);
+            }
+        }
+    }
+
+    public enum PaymentMethod {
+        CARD("CRD"),
+        BANK_TRANSFER("TRF");
+
+        private final String value;
+
+        PaymentMethod(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    public enum Channel {
+        MOBILE_APP("Mobile App");
+
+        private final String displayName;
+
+        Channel(String displayName) {
+            this.displayName = displayName;
+        }
+
+        @Override
+        public String toString() {
+            return displayName;
+        }
+    }
+
+    public enum Status {
+        @SerializedName(value = "act", alternate = {"enabled"})
+        ACTIVE,
+        INACTIVE
+    }
+
+    public enum Operation {
+        PLUS {
+            @Override
+            int apply(int x, int y) {
+                return x + y;
+            }
+        };
+
+        abstract int apply(int x, int y);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import org.apache.logging.log4j.ThreadContext;
+import org.cometbid.component.api.jackson.OffsetDateTimeSerializer;
+import org.cometbid.component.api.jackson.ZonedDateTimeSerializer;
+import org.cometbid.component.api.util.RequestContext;
+import org.cometbid.component.api.util.TimeZoneUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class DateTimeSerializerTest {
+
+    private static final String[] ZONES = {"UTC", "America/New_York", "Asia/Kolkata", "Pacific/Chatham"};
+
+    private ObjectMapper mapper;
+
+    @BeforeEach
+    public void setUp() {
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(ZonedDateTime.class, new ZonedDateTimeSerializer());
+        module.addSerializer(OffsetDateTime.class, new OffsetDateTimeSerializer());
+
+        mapper = new ObjectMapper().registerModule(module);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ThreadContext.remove(TimeZoneUtils.THREAD_CONTEXT_TIMEZONE_KEY);
+        RequestContext.clear();
+    }
+
+    @Test
+    public void testMatchesUtcDateFormatter() throws Exception {
+        long[] epochSeconds = {0L, -1L, 43_199L, 43_200L, 951_782_400L, 1_709_164_800L,
+            1_710_054_000L, 253_402_300_799L, -62_135_596_800L};
+
+        for (String zone : ZONES) {
+            ZoneId zoneId = TimeZoneUtils.setContextZoneId(zone);
+
+            for (long epochSecond : epochSeconds) {
+                ZonedDateTime utcValue = Instant.ofEpochSecond(epochSecond, 123_000_000).atZone(TimeZoneUtils.UTC_ZONEID);
+                String expected = "\"" + TimeZoneUtils.UTC_DATE_FORMATTER.format(utcValue.withZoneSameInstant(zoneId)) + "\"";
+
+                Assertions.assertEquals(expected, mapper.writeValueAsString(utcValue), zone + " @ " + epochSecond);
+                Assertions.assertEquals(expected, mapper.writeValueAsString(utcValue.toOffsetDateTime()), zone + " @ " + epochSecond);
+            }
+        }
+    }
+
+    @Test
+    public void testZoneAttributeOverridesContextZone() throws Exception {
+        TimeZoneUtils.setContextZoneId("UTC");
+        ZoneId zoneId = ZoneId.of("Asia/Kolkata");
+
+        ZonedDateTime utcValue = Instant.ofEpochSecond(1_709_164_800L).atZone(TimeZoneUtils.UTC_ZONEID);
+        String expected = "\"" + TimeZoneUtils.UTC_DATE_FORMATTER.format(utcValue.withZoneSameInstant(zoneId)) + "\"";
+
+        Assertions.assertEquals(expected, mapper.writer()
+                .withAttribute(TimeZoneUtils.ZONE_ID_ATTRIBUTE, zoneId).writeValueAsString(utcValue));
+        Assertions.assertEquals(expected, mapper.writer()
+                .withAttribute(TimeZoneUtils.ZONE_ID_ATTRIBUTE, zoneId).writeValueAsString(utcValue.toOffsetDateTime()));
+    }
+
+    @Test
+    public void testYearsOutsideFourDigitsFallBackToFormatter() throws Exception {
+        TimeZoneUtils.setContextZoneId("UTC");
+
+        ZonedDateTime utcValue = ZonedDateTime.of(10_000, 1, 1, 13, 0, 0, 0, TimeZoneUtils.UTC_ZONEID);
+
+        Assertions.assertEquals("\"" + TimeZoneUtils.UTC_DATE_FORMATTER.format(utcValue) + "\"",
+                mapper.writeValueAsString(utcValue));
+    }
+}
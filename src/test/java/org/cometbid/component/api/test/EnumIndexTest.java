@@ -0,0 +1,88 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import java.time.DayOfWeek;
+import java.util.Set;
+import org.cometbid.component.api.response.model.ResponseType;
+import org.cometbid.component.api.util.EnumIndex;
+import org.cometbid.component.api.util.ErrorCode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class EnumIndexTest {
+
+    @Test
+    public void testLookupIgnoresCaseAndBlanks() {
+        EnumIndex<DayOfWeek> index = EnumIndex.by(DayOfWeek.class, day -> day.name().substring(0, 3));
+
+        Assertions.assertEquals(DayOfWeek.MONDAY, index.get("MON"));
+        Assertions.assertEquals(DayOfWeek.MONDAY, index.get("mon"));
+        Assertions.assertEquals(DayOfWeek.SUNDAY, index.get(" Sun\t"));
+        Assertions.assertEquals(DayOfWeek.FRIDAY, index.get(new StringBuilder("fRi")));
+        Assertions.assertNull(index.get("monday"));
+        Assertions.assertNull(index.get(""));
+        Assertions.assertNull(index.get(null));
+        Assertions.assertEquals(DayOfWeek.MONDAY, index.getOrDefault("xyz", DayOfWeek.MONDAY));
+        Assertions.assertEquals(7, index.keys().size());
+    }
+
+    @Test
+    public void testFirstConstantWinsOnSharedKey() {
+        EnumIndex<DayOfWeek> index = EnumIndex.by(DayOfWeek.class, day -> day.name().substring(0, 1));
+
+        Assertions.assertEquals(DayOfWeek.TUESDAY, index.get("t"));
+        Assertions.assertEquals(DayOfWeek.SATURDAY, index.get("S"));
+        Assertions.assertEquals(Set.of("M", "T", "W", "F", "S"), index.keys());
+    }
+
+    @Test
+    public void testAliasIndexIsShared() {
+        Assertions.assertSame(EnumIndex.forEnum(DayOfWeek.class), EnumIndex.forEnum(DayOfWeek.class));
+        Assertions.assertEquals(DayOfWeek.MONDAY, EnumIndex.forEnum(DayOfWeek.class).get("Monday"));
+    }
+
+    @Test
+    public void testResponseTypeFromString() {
+        Assertions.assertEquals(ResponseType.PARTIAL_SUCCESS, ResponseType.fromString("Partial_Success"));
+        Assertions.assertEquals(ResponseType.PARTIAL_SUCCESS, ResponseType.fromString("partial_success"));
+        Assertions.assertEquals(ResponseType.ERROR, ResponseType.fromString("ERROR"));
+        Assertions.assertNull(ResponseType.fromString("failure"));
+        Assertions.assertEquals(Set.of("error", "success", "partial_success"), ResponseType.getAllTypes());
+    }
+
+    @Test
+    public void testErrorCodeLookups() {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            Assertions.assertEquals(errorCode, ErrorCode.fromErrCode(errorCode.getErrCode()));
+            Assertions.assertEquals(errorCode, ErrorCode.fromErrCode(errorCode.getErrCode().toLowerCase()));
+            Assertions.assertEquals(errorCode, ErrorCode.fromErrMsgKey(errorCode.getErrMsgKey()));
+        }
+        Assertions.assertNull(ErrorCode.fromErrCode("NOPE-001"));
+    }
+}
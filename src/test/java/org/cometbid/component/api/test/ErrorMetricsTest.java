@@ -0,0 +1,174 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.cometbid.component.api.auth.exceptions.CustomConstraintViolationException;
+import org.cometbid.component.api.generic.exceptions.BadRequestException;
+import org.cometbid.component.api.generic.exceptions.ExceptionSettings;
+import org.cometbid.component.api.generic.exceptions.ResourceNotFoundException;
+import org.cometbid.component.api.metrics.ErrorMetrics;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.AppResponse;
+import org.cometbid.component.api.response.model.ResponseFactory;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class ErrorMetricsTest {
+
+    private SimpleMeterRegistry registry;
+    private ErrorMetrics metrics;
+
+    @BeforeEach
+    public void setUp() {
+        LocaleContextUtils.setContextLocale(Locale.US);
+        registry = new SimpleMeterRegistry();
+        metrics = new ErrorMetrics(registry, List.of(Locale.ENGLISH, Locale.FRANCE));
+    }
+
+    @Test
+    public void testPreRegistered() {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            String code = errorCode.getErrCode();
+            Assertions.assertNotNull(registry.find(ErrorMetrics.MESSAGE_RESOLUTION).tag("code", code).timer());
+            Assertions.assertNotNull(registry.find(ErrorMetrics.SERIALIZATION).tag("code", code).timer());
+            Assertions.assertNotNull(registry.find(ErrorMetrics.ERRORS).tags("code", code, "status", "other").counter());
+        }
+        Assertions.assertEquals(0.0, errors("GEN-NF-001", "404", "ResourceNotFoundException", "fr").count());
+        Assertions.assertEquals(0.0, errors("EMP-NF-001", "404", "EmployeeNotFoundException", "other").count());
+        Assertions.assertEquals(0.0, errors("INV-DATA-001", "400", "BindException", "en").count());
+    }
+
+    @Test
+    public void testCounterTags() {
+        metrics.record(new ResourceNotFoundException(), Locale.FRANCE);
+        metrics.record(new ResourceNotFoundException(), Locale.FRENCH);
+        metrics.record(new ResourceNotFoundException(), Locale.JAPAN);
+
+        Assertions.assertEquals(2.0, errors("GEN-NF-001", "404", "ResourceNotFoundException", "fr").count());
+        Assertions.assertEquals(1.0, errors("GEN-NF-001", "404", "ResourceNotFoundException", "other").count());
+    }
+
+    @Test
+    public void testUnknownCombinationsOverflow() {
+        for (int status = 400; status < 420; status++) {
+            metrics.record(ErrorCode.BAD_REQUEST_ERR_CODE, status, BadRequestException.class, Locale.ENGLISH);
+        }
+        metrics.record(null, 500, IllegalStateException.class, Locale.ENGLISH);
+
+        Assertions.assertEquals(1.0, errors("BAD-REQ-001", "400", "BadRequestException", "en").count());
+        // 415 is pre-registered for HttpMediaTypeNotSupportedException, not for BadRequestException
+        Assertions.assertNull(registry.find(ErrorMetrics.ERRORS)
+                .tags("code", "BAD-REQ-001", "status", "415", "exception", "BadRequestException").counter());
+        Assertions.assertEquals(19.0, errors("BAD-REQ-001", "other", "other", "other").count());
+        Assertions.assertEquals(1.0, errors("other", "other", "other", "other").count());
+    }
+
+    @Test
+    public void testRegisteredCombination() {
+        metrics.register(null, HttpStatus.INTERNAL_SERVER_ERROR, IllegalStateException.class);
+        metrics.record(null, 500, IllegalStateException.class, Locale.ENGLISH);
+
+        Assertions.assertEquals(1.0, errors("other", "500", "IllegalStateException", "en").count());
+        Assertions.assertEquals(0.0, errors("other", "other", "other", "other").count());
+    }
+
+    @Test
+    public void testResponseFactoryRecords() {
+        ResponseFactory factory = new ResponseFactory("v1", null, null, null);
+        factory.setMetrics(metrics);
+
+        AppResponse response = factory.error(new BadRequestException(), "/api/v1/users", "POST");
+        ApiError apiError = (ApiError) response.getResponse();
+
+        Assertions.assertFalse(response.isSuccess());
+        Assertions.assertEquals(400, apiError.getStatusCode());
+        Assertions.assertEquals("BAD-REQ-001", apiError.getErrorCode());
+        Assertions.assertEquals(1.0, errors("BAD-REQ-001", "400", "BadRequestException", "en").count());
+        // the reason was rendered when the exception was created
+        Assertions.assertEquals(0L, registry.get(ErrorMetrics.MESSAGE_RESOLUTION).tag("code", "BAD-REQ-001")
+                .timer().count());
+    }
+
+    @Test
+    public void testLazyReasonRenderTimed() {
+        ResponseFactory factory = new ResponseFactory("v1", null, null, null);
+        factory.setMetrics(metrics);
+
+        ExceptionSettings.setLazyMessageResolution(true);
+        try {
+            factory.error(new BadRequestException(), "/api/v1/users", "POST");
+        } finally {
+            ExceptionSettings.setLazyMessageResolution(false);
+        }
+
+        Assertions.assertEquals(1L, registry.get(ErrorMetrics.MESSAGE_RESOLUTION).tag("code", "BAD-REQ-001")
+                .timer().count());
+    }
+
+    @Test
+    public void testConstraintViolationRecorded() {
+        Set<ConstraintViolation<Signup>> violations;
+        try (ValidatorFactory validatorFactory = Validation.buildDefaultValidatorFactory()) {
+            violations = validatorFactory.getValidator().validate(new Signup(" "));
+        }
+
+        ResponseFactory factory = new ResponseFactory("v1", null, null, null);
+        factory.setMetrics(metrics);
+
+        AppResponse response = factory.error(new CustomConstraintViolationException(violations), "/signup", "POST");
+        ApiError apiError = (ApiError) response.getResponse();
+
+        Assertions.assertEquals(422, apiError.getStatusCode());
+        Assertions.assertEquals(1, apiError.getSubErrors().size());
+        Assertions.assertEquals(1.0, errors("INV-DATA-001", "422", "CustomConstraintViolationException", "en")
+                .count());
+    }
+
+    private Counter errors(String code, String status, String exception, String locale) {
+        return registry.get(ErrorMetrics.ERRORS)
+                .tags("code", code, "status", status, "exception", exception, "locale", locale)
+                .counter();
+    }
+
+    record Signup(@NotBlank String username) {
+
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.util.Locale;
+import org.cometbid.component.api.jackson.ErrorResponseTemplates;
+import org.cometbid.component.api.jackson.ResponseModelModule;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.AppResponse;
+import org.cometbid.component.api.response.model.AppResponseMetadata;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.cometbid.component.api.util.ResourceBundleAccessor;
+import org.cometbid.component.api.util.RequestContext;
+import org.cometbid.component.api.util.TimeZoneUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class ErrorResponseTemplatesTest {
+
+    private static final String REPORT_URI = "https://cometbid.org/report";
+    private static final String MORE_INFO = "https://cometbid.org/docs/errors";
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new ResponseModelModule());
+
+    @AfterEach
+    public void tearDown() {
+        RequestContext.clear();
+    }
+
+    @Test
+    public void testRenderMatchesSerializedAppResponse() throws Exception {
+        assertSameDocument(null, ErrorCode.GENERIC_NOT_FOUND_ERR_CODE, HttpStatus.NOT_FOUND, Locale.GERMAN, "v1",
+                "/api/v1/users/42", "GET", "8c4a5e6f7a8b9c0d");
+    }
+
+    @Test
+    public void testRenderEscapesVariableValues() throws Exception {
+        assertSameDocument("https://cometbid.org/api", ErrorCode.UNAUTHENTICATED_REQUEST_ERR_CODE,
+                HttpStatus.UNAUTHORIZED, Locale.FRENCH, "v2", "/api/v1/search?q=\"\u00e9\"\\", null, null);
+    }
+
+    @Test
+    public void testRenderWithoutReportUri() throws Exception {
+        ErrorResponseTemplates templates = new ErrorResponseTemplates(null, null, null);
+
+        String json = new String(templates.render(ErrorCode.REQUEST_TIMEOUT_ERR_CODE, HttpStatus.REQUEST_TIMEOUT,
+                Locale.US, null, "/api/v1/orders", "POST", "1", 0L, ZoneId.of("UTC")), StandardCharsets.UTF_8);
+
+        Assertions.assertTrue(json.contains("\"reportTo\":null"), json);
+        Assertions.assertEquals("TIMEOUT-002", mapper.readTree(json).at("/response/errorCode").asText());
+    }
+
+    @Test
+    public void testTemplateCachedPerKey() {
+        ErrorResponseTemplates templates = new ErrorResponseTemplates(REPORT_URI, MORE_INFO, null);
+
+        Assertions.assertSame(templates.get(ErrorCode.GENERIC_NOT_FOUND_ERR_CODE, HttpStatus.NOT_FOUND, Locale.US, "v1"),
+                templates.get(ErrorCode.GENERIC_NOT_FOUND_ERR_CODE, HttpStatus.NOT_FOUND, Locale.US, "v1"));
+        Assertions.assertNotSame(templates.get(ErrorCode.GENERIC_NOT_FOUND_ERR_CODE, HttpStatus.NOT_FOUND, Locale.US, "v1"),
+                templates.get(ErrorCode.GENERIC_NOT_FOUND_ERR_CODE, HttpStatus.NOT_FOUND, Locale.US, "v2"));
+        Assertions.assertEquals(2, templates.size());
+    }
+
+    private void assertSameDocument(String apiDocUrl, ErrorCode errorCode, HttpStatus status, Locale locale,
+            String apiVersion, String path, String method, String traceId) throws Exception {
+
+        ErrorResponseTemplates templates = new ErrorResponseTemplates(REPORT_URI, MORE_INFO, apiDocUrl);
+
+        ZoneId zoneId = TimeZoneUtils.setContextZoneId("Asia/Kolkata");
+        LocaleContextUtils.setContextLocale(locale);
+        RequestContext.update(context -> context.withTraceId(traceId));
+
+        ApiError apiError = ApiError.create(path, method, errorCode.getErrCode(), status.name(), status.value(),
+                status.getReasonPhrase(), ResourceBundleAccessor.accessMessageInBundle(errorCode, new Object[]{}));
+        AppResponse expected = AppResponse.error(apiError, AppResponseMetadata.builder()
+                .apiVersion(apiVersion)
+                .sendReport(REPORT_URI + "?id=" + apiError.getTraceId())
+                .moreInfo(MORE_INFO)
+                .apiDocUrl(apiDocUrl)
+                .build());
+
+        byte[] rendered = templates.render(errorCode, status, locale, apiVersion, path, method,
+                apiError.getTraceId(), apiError.getTimestamp().toEpochSecond(), zoneId);
+
+        Assertions.assertEquals(mapper.writeValueAsString(expected), new String(rendered, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.cometbid.component.api.auth.exceptions.CustomConstraintViolationException;
+import org.cometbid.component.api.validators.GenericProgrammaticValidator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class GenericProgrammaticValidatorTest {
+
+    @AfterEach
+    public void tearDown() {
+        GenericProgrammaticValidator.setFailFast(false);
+        GenericProgrammaticValidator.setExecutor(null);
+    }
+
+    @Test
+    public void testValidModelIsReturned() {
+        GenericProgrammaticValidator.register(User.class, Unconstrained.class);
+
+        User user = new User("samuel", "samuel@cometbid.org", 1L);
+        Unconstrained unconstrained = new Unconstrained(null);
+
+        Assertions.assertSame(user, GenericProgrammaticValidator.validate(user));
+        Assertions.assertSame(unconstrained, GenericProgrammaticValidator.validate(unconstrained));
+    }
+
+    @Test
+    public void testInvalidModelThrows() {
+        CustomConstraintViolationException ex = Assertions.assertThrows(CustomConstraintViolationException.class,
+                () -> GenericProgrammaticValidator.validate(new User(" ", "not-an-email", 1L)));
+
+        Assertions.assertEquals(2, ex.getConstraintViolations().size());
+    }
+
+    @Test
+    public void testFailFast() {
+        GenericProgrammaticValidator.setFailFast(true);
+
+        CustomConstraintViolationException ex = Assertions.assertThrows(CustomConstraintViolationException.class,
+                () -> GenericProgrammaticValidator.validate(new User(" ", "not-an-email", 1L)));
+
+        Assertions.assertEquals(1, ex.getConstraintViolations().size());
+    }
+
+    @Test
+    public void testValidationGroups() {
+        User newUser = new User("samuel", "samuel@cometbid.org", null);
+
+        Assertions.assertSame(newUser, GenericProgrammaticValidator.validate(newUser));
+        Assertions.assertThrows(CustomConstraintViolationException.class,
+                () -> GenericProgrammaticValidator.validate(newUser, Existing.class));
+    }
+
+    @Test
+    public void testValidateAllInParallel() {
+        AtomicInteger tasks = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            GenericProgrammaticValidator.setExecutor(command -> {
+                tasks.incrementAndGet();
+                pool.execute(command);
+            });
+
+            List<User> users = IntStream.range(0, 1000)
+                    .mapToObj(i -> new User("user" + i, "user" + i + "@cometbid.org", (long) i))
+                    .toList();
+            Assertions.assertSame(users, GenericProgrammaticValidator.validateAll(users));
+            Assertions.assertTrue(tasks.get() > 1);
+
+            List<User> invalid = IntStream.range(0, 1000)
+                    .mapToObj(i -> new User(i % 100 == 0 ? "" : "user" + i, "user" + i + "@cometbid.org", (long) i))
+                    .toList();
+            CustomConstraintViolationException ex = Assertions.assertThrows(CustomConstraintViolationException.class,
+                    () -> GenericProgrammaticValidator.validateAll(invalid));
+            Assertions.assertEquals(10, ex.getConstraintViolations().size());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public interface Existing {
+
+    }
+
+    public record User(@NotBlank String username, @Email String email, @NotNull(groups = Existing.class) Long id) {
+
+    }
+
+    public record Unconstrained(String name) {
+
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import java.util.Locale;
+import org.apache.commons.lang3.SerializationUtils;
+import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
+import org.cometbid.component.api.generic.exceptions.ExceptionSettings;
+import org.cometbid.component.api.generic.exceptions.ResourceNotFoundException;
+import org.cometbid.component.api.user.exceptions.UserAlreadyExistException;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class LazyExceptionMessageTest {
+
+    @BeforeEach
+    public void setup() {
+        LocaleContextUtils.setContextLocale(Locale.GERMAN);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ExceptionSettings.setLazyMessageResolution(false);
+        LocaleContextUtils.setContextLocale(Locale.US);
+    }
+
+    @Test
+    public void testLazyMessageMatchesEagerMessage() {
+        ApplicationDefinedRuntimeException eager = new UserAlreadyExistException();
+
+        ExceptionSettings.setLazyMessageResolution(true);
+        ApplicationDefinedRuntimeException lazy = new UserAlreadyExistException();
+
+        Assertions.assertNull(eager.getMessageKey());
+        Assertions.assertNotNull(lazy.getMessageKey());
+        Assertions.assertEquals(eager.getReason(), lazy.getReason());
+        Assertions.assertEquals(eager.getMessage(), lazy.getMessage());
+        Assertions.assertEquals(eager.getBody().getDetail(), lazy.getBody().getDetail());
+        Assertions.assertEquals(eager.getErrorMessage(), lazy.getErrorMessage());
+    }
+
+    @Test
+    public void testLazyDetailSetWhenBodyRequested() {
+        ExceptionSettings.setLazyMessageResolution(true);
+        ApplicationDefinedRuntimeException lazy = new UserAlreadyExistException();
+
+        String detail = lazy.updateAndGetBody(null, Locale.FRENCH).getDetail();
+
+        Assertions.assertNotNull(detail);
+        Assertions.assertEquals(new UserAlreadyExistException().getReason(), detail);
+        Assertions.assertEquals(detail, lazy.getReason());
+    }
+
+    @Test
+    public void testLazyMessageUsesCapturedLocale() {
+        ExceptionSettings.setLazyMessageResolution(true);
+        ApplicationDefinedRuntimeException lazy = new ResourceNotFoundException();
+
+        LocaleContextUtils.setContextLocale(Locale.FRENCH);
+        String reason = lazy.getReason();
+
+        LocaleContextUtils.setContextLocale(Locale.GERMAN);
+        Assertions.assertEquals(new ResourceNotFoundException().getReason(), reason);
+    }
+
+    @Test
+    public void testLazyErrorMessageUsesCapturedLocale() {
+        ExceptionSettings.setLazyMessageResolution(true);
+        ApplicationDefinedRuntimeException lazy = new ResourceNotFoundException();
+
+        LocaleContextUtils.setContextLocale(Locale.FRENCH);
+        String errorMessage = lazy.getErrorMessage();
+
+        LocaleContextUtils.setContextLocale(Locale.GERMAN);
+        Assertions.assertEquals(new ResourceNotFoundException().getErrorMessage(), errorMessage);
+    }
+
+    @Test
+    public void testLazyReasonSurvivesSerialization() {
+        ExceptionSettings.setLazyMessageResolution(true);
+        Object notSerializable = new Object() {
+            @Override
+            public String toString() {
+                return "42";
+            }
+        };
+        ApplicationDefinedRuntimeException lazy = new ResourceNotFoundException(new Object[]{notSerializable});
+
+        ApplicationDefinedRuntimeException copy = SerializationUtils.roundtrip(lazy);
+
+        Assertions.assertNull(copy.getMessageArgs());
+        Assertions.assertEquals(lazy.getReason(), copy.getReason());
+        Assertions.assertEquals(lazy.getReason(), copy.getBody().getDetail());
+    }
+}
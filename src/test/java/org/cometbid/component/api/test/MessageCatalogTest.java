@@ -0,0 +1,84 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import java.util.Locale;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.MessageCatalog;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class MessageCatalogTest {
+
+    private final MessageCatalog catalog = MessageCatalog.getInstance();
+
+    @Test
+    public void testDefaultMessageByErrorCode() {
+        String message = catalog.getMessage(ErrorCode.USER_EXIST_ERR_CODE, new Object[]{}, Locale.US);
+
+        Assertions.assertEquals("User specified already exist", message);
+    }
+
+    @Test
+    public void testErrorCodeAndKeyLookupsAgree() {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            for (Locale locale : new Locale[]{Locale.ENGLISH, Locale.GERMAN, Locale.FRENCH}) {
+                Assertions.assertEquals(
+                        catalog.getMessage(errorCode.getErrMsgKey(), null, locale),
+                        catalog.getMessage(errorCode, null, locale));
+            }
+        }
+    }
+
+    @Test
+    public void testCountryLocaleFallsBackToLanguage() {
+        String german = catalog.getMessage(ErrorCode.EXPIRED_SESSION_ERR_CODE, null, Locale.GERMAN);
+
+        Assertions.assertEquals(german, catalog.getMessage(ErrorCode.EXPIRED_SESSION_ERR_CODE, null, Locale.GERMANY));
+        Assertions.assertNotEquals(german, catalog.getMessage(ErrorCode.EXPIRED_SESSION_ERR_CODE, null, Locale.US));
+    }
+
+    @Test
+    public void testUnknownKeyIsReturnedAsIs() {
+        Assertions.assertEquals("no.such.key", catalog.getMessage("no.such.key", new Object[]{"x"}, Locale.US));
+    }
+
+    @Test
+    public void testMessageWithoutArgumentsIsVerbatim() {
+        String message = catalog.getMessage("request.unwritable", new Object[]{}, Locale.US);
+
+        Assertions.assertEquals("Missing 'Accept' header. Please add 'Accept' header.", message);
+    }
+
+    @Test
+    public void testMessageWithArgumentsFollowsMessageFormatQuoting() {
+        String message = catalog.getMessage("request.unwritable", new Object[]{"ignored"}, Locale.US);
+
+        Assertions.assertEquals("Missing Accept header. Please add Accept header.", message);
+    }
+}
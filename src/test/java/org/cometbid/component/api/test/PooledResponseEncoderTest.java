@@ -0,0 +1,123 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import org.cometbid.component.api.jackson.PooledResponseEncoder;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.AppResponse;
+import org.cometbid.component.api.response.model.ResponseFactory;
+import org.cometbid.component.api.util.ByteBufferPool;
+import org.cometbid.component.api.util.PooledByteBufferOutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class PooledResponseEncoderTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void testEncodesLikeObjectMapper() throws Exception {
+        ByteBufferPool pool = new ByteBufferPool(64, 8, true);
+        PooledResponseEncoder encoder = new PooledResponseEncoder(mapper, pool);
+
+        AppResponse response = new ResponseFactory("v1", "https://cometbid.org/report", null, null)
+                .error(ApiErrors.notFound());
+        byte[] expected = mapper.writeValueAsBytes(response);
+
+        PooledByteBufferOutputStream body = encoder.encode(response);
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            body.writeTo(out);
+
+            Assertions.assertTrue(expected.length > pool.getChunkSize());
+            Assertions.assertEquals(expected.length, body.size());
+            Assertions.assertArrayEquals(expected, out.toByteArray());
+        } finally {
+            body.release();
+        }
+        Assertions.assertTrue(pool.getPooledCount() > 0);
+    }
+
+    @Test
+    public void testBuffersReturnToPool() {
+        ByteBufferPool pool = new ByteBufferPool(64, 8, false);
+        PooledResponseEncoder encoder = new PooledResponseEncoder(mapper, pool);
+
+        PooledByteBufferOutputStream body = encoder.encode(Map.of("message", "x".repeat(200)));
+        Assertions.assertEquals(0, pool.getPooledCount());
+
+        body.release();
+        int pooled = pool.getPooledCount();
+        Assertions.assertTrue(pooled >= 4);
+
+        body.release();
+        Assertions.assertEquals(pooled, pool.getPooledCount());
+        Assertions.assertThrows(IllegalStateException.class, () -> body.writeTo(new ByteArrayOutputStream()));
+
+        encoder.encode(Map.of("message", "y")).release();
+        Assertions.assertEquals(pooled, pool.getPooledCount());
+    }
+
+    @Test
+    public void testEncodesIntoDataBuffer() throws Exception {
+        ByteBufferPool pool = new ByteBufferPool(64, 8, true);
+        PooledResponseEncoder encoder = new PooledResponseEncoder(mapper, pool);
+
+        Map<String, String> value = Map.of("message", "z".repeat(300));
+        byte[] expected = mapper.writeValueAsBytes(value);
+
+        DataBuffer buffer = encoder.encode(value, DefaultDataBufferFactory.sharedInstance);
+        byte[] actual = new byte[buffer.readableByteCount()];
+        buffer.read(actual);
+
+        Assertions.assertArrayEquals(expected, actual);
+        Assertions.assertEquals(0, pool.getPooledCount());
+    }
+
+    @Test
+    public void testReleasesOnFailure() {
+        ByteBufferPool pool = new ByteBufferPool(64, 8, false);
+        PooledResponseEncoder encoder = new PooledResponseEncoder(mapper, pool);
+
+        Assertions.assertThrows(UncheckedIOException.class, () -> encoder.encode(new Unserializable()));
+        Assertions.assertEquals(1, pool.getPooledCount());
+    }
+
+    public static class Unserializable {
+
+        public String getName() {
+            throw new IllegalStateException("broken");
+        }
+    }
+}
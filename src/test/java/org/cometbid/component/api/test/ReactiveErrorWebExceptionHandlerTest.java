@@ -0,0 +1,235 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.apache.commons.lang3.LocaleUtils;
+import org.cometbid.component.api.exceptions.handler.ExceptionMappings;
+import org.cometbid.component.api.exceptions.handler.ReactiveErrorWebExceptionHandler;
+import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
+import org.cometbid.component.api.generic.exceptions.ResourceNotFoundException;
+import org.cometbid.component.api.interceptors.CustomLocaleChangeWebFilter;
+import org.cometbid.component.api.interceptors.CustomTimezoneChangeWebFilter;
+import org.cometbid.component.api.jackson.ResponseModelModule;
+import org.cometbid.component.api.response.model.AppResponse;
+import org.cometbid.component.api.response.model.ResponseFactory;
+import org.cometbid.component.api.response.model.ResponseSettings;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.cometbid.component.api.util.MessageCatalog;
+import org.cometbid.component.api.util.ReactiveRequestContext;
+import org.cometbid.component.api.util.RequestContext;
+import org.cometbid.component.api.util.TimeZoneUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.core.io.buffer.PooledDataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.MethodNotAllowedException;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class ReactiveErrorWebExceptionHandlerTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-01T10:15:30Z");
+    private static final ZoneId KOLKATA = ZoneId.of("Asia/Kolkata");
+    private static final String PATH = "/api/v1/users/42";
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new ResponseModelModule());
+    private final ReactiveErrorWebExceptionHandler handler
+            = new ReactiveErrorWebExceptionHandler(new ResponseFactory("v1", null, null, null), mapper);
+
+    @BeforeEach
+    public void setUp() {
+        ResponseSettings.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ResponseSettings.reset();
+        RequestContext.clear();
+    }
+
+    @Test
+    public void testReactorContextFirst() throws Exception {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                .header(HttpHeaders.ACCEPT_LANGUAGE, "de")
+                .header(RequestContext.TRACE_ID_KEY, "header-trace"));
+        exchange.getAttributes().put(CustomLocaleChangeWebFilter.LOCALE_ATTRIBUTE, Locale.GERMAN);
+
+        handler.handle(exchange, new ResourceNotFoundException())
+                .contextWrite(ReactiveRequestContext.update(context -> context.withLocale(Locale.FRENCH)
+                .withZoneId(KOLKATA).withTraceId("context-trace")))
+                .block();
+
+        assertNotFound(exchange, Locale.FRENCH, KOLKATA, "context-trace");
+    }
+
+    @Test
+    public void testExchangeAttributesBeforeHeaders() throws Exception {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                .header(HttpHeaders.ACCEPT_LANGUAGE, "de")
+                .header(RequestContext.TRACE_ID_KEY, "header-trace"));
+        exchange.getAttributes().put(CustomLocaleChangeWebFilter.LOCALE_ATTRIBUTE, Locale.FRENCH);
+        exchange.getAttributes().put(CustomTimezoneChangeWebFilter.ZONE_ID_ATTRIBUTE, KOLKATA);
+
+        handler.handle(exchange, new ResourceNotFoundException()).block();
+
+        assertNotFound(exchange, Locale.FRENCH, KOLKATA, "header-trace");
+    }
+
+    @Test
+    public void testAcceptLanguageIgnoresThreadContext() throws Exception {
+        LocaleContextUtils.setContextLocale(Locale.FRENCH);
+        TimeZoneUtils.setContextZoneId("Asia/Kolkata");
+
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                .header(HttpHeaders.ACCEPT_LANGUAGE, "de"));
+
+        handler.handle(exchange, new ResourceNotFoundException()).block();
+
+        assertNotFound(exchange, Locale.GERMAN, TimeZoneUtils.DEFAULT_ZONEID, exchange.getRequest().getId());
+    }
+
+    @Test
+    public void testDefaults() throws Exception {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PATH));
+
+        handler.handle(exchange, new ResourceNotFoundException()).block();
+
+        assertNotFound(exchange, LocaleUtils.toLocale(LocaleContextUtils.DEFAULT_LANG_CODE),
+                TimeZoneUtils.DEFAULT_ZONEID, exchange.getRequest().getId());
+    }
+
+    @Test
+    public void testDetailedErrorNotTemplated() throws Exception {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/users")
+                .header(RequestContext.TRACE_ID_KEY, "header-trace"));
+        exchange.getAttributes().put(CustomTimezoneChangeWebFilter.ZONE_ID_ATTRIBUTE, KOLKATA);
+
+        handler.handle(exchange, new ApplicationDefinedRuntimeException(HttpStatus.CONFLICT, "taken")).block();
+        JsonNode json = body(exchange);
+
+        Assertions.assertEquals(HttpStatus.CONFLICT, exchange.getResponse().getStatusCode());
+        Assertions.assertEquals("taken", json.at("/response/debugMessage").asText());
+        Assertions.assertEquals("header-trace", json.at("/response/traceId").asText());
+        Assertions.assertEquals(TimeZoneUtils.UTC_DATE_FORMATTER.format(NOW.atZone(KOLKATA)),
+                json.at("/response/timestamp").asText());
+    }
+
+    @Test
+    public void testErrorResponseHeaders() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.delete("/api/v1/users"));
+
+        handler.handle(exchange, new MethodNotAllowedException(HttpMethod.DELETE, List.of(HttpMethod.GET)))
+                .block();
+
+        Assertions.assertEquals(HttpStatus.METHOD_NOT_ALLOWED, exchange.getResponse().getStatusCode());
+        Assertions.assertEquals(Set.of(HttpMethod.GET), exchange.getResponse().getHeaders().getAllow());
+    }
+
+    @Test
+    public void testReleasesBufferOnFailure() {
+        List<DataBuffer> allocated = new ArrayList<>();
+        NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT) {
+            @Override
+            public NettyDataBuffer allocateBuffer(int initialCapacity) {
+                NettyDataBuffer buffer = super.allocateBuffer(initialCapacity);
+                allocated.add(buffer);
+                return buffer;
+            }
+        };
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/v1/users"))
+                .mutate().response(new MockServerHttpResponse(bufferFactory)).build();
+
+        ObjectMapper failing = new ObjectMapper().registerModule(new SimpleModule()
+                .addSerializer(AppResponse.class, new JsonSerializer<AppResponse>() {
+                    @Override
+                    public void serialize(AppResponse value, JsonGenerator gen, SerializerProvider provider)
+                            throws IOException {
+                        throw new IOException("broken");
+                    }
+                }));
+        ReactiveErrorWebExceptionHandler failingHandler
+                = new ReactiveErrorWebExceptionHandler(new ResponseFactory("v1", null, null, null), failing);
+
+        Assertions.assertThrows(UncheckedIOException.class, () -> failingHandler.handle(exchange,
+                new ApplicationDefinedRuntimeException(HttpStatus.CONFLICT, "taken")).block());
+        Assertions.assertEquals(1, allocated.size());
+        Assertions.assertFalse(((PooledDataBuffer) allocated.get(0)).isAllocated());
+    }
+
+    @Test
+    public void testReactiveDefaultsLoadNoServletTypes() {
+        for (Class<?> type : ExceptionMappings.reactiveDefaults().getMappings().keySet()) {
+            Assertions.assertFalse(ServletException.class.isAssignableFrom(type), type.getName());
+        }
+    }
+
+    private void assertNotFound(MockServerWebExchange exchange, Locale locale, ZoneId zoneId, String traceId)
+            throws IOException {
+        JsonNode json = body(exchange);
+
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, exchange.getResponse().getStatusCode());
+        Assertions.assertEquals(PATH, json.at("/response/path").asText());
+        Assertions.assertEquals(MessageCatalog.getInstance().getMessage(ErrorCode.GENERIC_NOT_FOUND_ERR_CODE,
+                new Object[0], locale), json.at("/response/debugMessage").asText());
+        Assertions.assertEquals(TimeZoneUtils.UTC_DATE_FORMATTER.format(NOW.atZone(zoneId)),
+                json.at("/response/timestamp").asText());
+        Assertions.assertEquals(traceId, json.at("/response/traceId").asText());
+    }
+
+    private JsonNode body(MockServerWebExchange exchange) throws IOException {
+        return mapper.readTree(exchange.getResponse().getBodyAsString().block());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import java.util.Locale;
+import org.cometbid.component.api.exceptions.handler.ErrorPublisher;
+import org.cometbid.component.api.generic.exceptions.ResourceNotFoundException;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.cometbid.component.api.util.ReactiveRequestContext;
+import org.cometbid.component.api.util.RequestContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class ReactiveRequestContextTest {
+
+    private static final String NOT_FOUND_KEY = ErrorCode.GENERIC_NOT_FOUND_ERR_CODE.getErrMsgKey();
+
+    @BeforeEach
+    public void setUp() {
+        LocaleContextUtils.setContextLocale(Locale.US);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestContext.clear();
+    }
+
+    @Test
+    public void testErrorBuiltWithReactorContextLocale() {
+        Mono<Object> error = Mono.just(1)
+                .publishOn(Schedulers.boundedElastic())
+                .then(ErrorPublisher.raiseResourceNotFoundError(NOT_FOUND_KEY, new Object[]{}))
+                .contextWrite(ReactiveRequestContext.update(context -> context.withLocale(Locale.GERMAN)
+                .withTraceId("4bf92f3577b34da6")));
+
+        ResourceNotFoundException ex = Assertions.assertThrows(ResourceNotFoundException.class, error::block);
+
+        Assertions.assertTrue(ex.getReason().startsWith("Die gesuchte Ressource"), ex.getReason());
+        Assertions.assertEquals(Locale.US, RequestContext.current().getLocale());
+    }
+
+    @Test
+    public void testErrorBuiltWithThreadContextWhenReactorContextIsEmpty() {
+        ResourceNotFoundException ex = Assertions.assertThrows(ResourceNotFoundException.class,
+                () -> ErrorPublisher.raiseResourceNotFoundError(NOT_FOUND_KEY, new Object[]{}).block());
+
+        Assertions.assertTrue(ex.getReason().startsWith("The resource being sought"), ex.getReason());
+    }
+
+    @Test
+    public void testUpdatesCompose() {
+        RequestContext context = ReactiveRequestContext.current()
+                .contextWrite(ReactiveRequestContext.update(c -> c.withApiVersion("v3")))
+                .contextWrite(ReactiveRequestContext.update(c -> c.withLocale(Locale.FRENCH)))
+                .block();
+
+        Assertions.assertEquals(Locale.FRENCH, context.getLocale());
+        Assertions.assertEquals("v3", context.getApiVersion());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import org.cometbid.component.api.exceptions.handler.RemoteExceptionFactory;
+import org.cometbid.component.api.generic.exceptions.ApiResponseException;
+import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
+import org.cometbid.component.api.generic.exceptions.ResourceNotFoundException;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.user.exceptions.UserAlreadyExistException;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.ResourceBundleAccessor;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class RemoteExceptionFactoryTest {
+
+    private final RemoteExceptionFactory factory = RemoteExceptionFactory.getInstance();
+
+    @Test
+    public void testTypedExceptionFromRemoteError() {
+        ApiError apiError = ApiError.create("/api/v1/users/42", "GET", "GEN-NF-001",
+                HttpStatus.NOT_FOUND.name(), HttpStatus.NOT_FOUND.value(), "User 42 was not found", "no row");
+
+        ApplicationDefinedRuntimeException ex = factory.create(apiError);
+
+        Assertions.assertInstanceOf(ResourceNotFoundException.class, ex);
+        Assertions.assertEquals(ErrorCode.GENERIC_NOT_FOUND_ERR_CODE.getErrCode(), ex.getErrorCode());
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+        Assertions.assertEquals("User 42 was not found", ex.getReason());
+        Assertions.assertEquals("/api/v1/users/42", ex.getFirstContextValue(RemoteExceptionFactory.REMOTE_PATH));
+        Assertions.assertEquals("no row", ex.getFirstContextValue(RemoteExceptionFactory.REMOTE_DEBUG_MESSAGE));
+
+        Assertions.assertInstanceOf(ApiResponseException.class, ex.getCause());
+        Assertions.assertEquals("GEN-NF-001",
+                ((ApiResponseException) ex.getCause()).getFirstContextValue(RemoteExceptionFactory.REMOTE_ERROR_CODE));
+    }
+
+    @Test
+    public void testUserNotFound() {
+        ApplicationDefinedRuntimeException ex = factory.create("USR-NF-001", "User {0} was not found",
+                HttpStatus.NOT_FOUND.value());
+
+        Assertions.assertInstanceOf(ResourceNotFoundException.class, ex);
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, ex.getStatusCode());
+        Assertions.assertEquals("User {0} was not found", ex.getReason());
+    }
+
+    @Test
+    public void testMissingRemoteMessageUsesLocalMessage() {
+        ApplicationDefinedRuntimeException ex = factory.create("USR-NF-001", null, HttpStatus.NOT_FOUND.value());
+
+        Assertions.assertEquals(ResourceBundleAccessor.accessMessageInBundle(ErrorCode.USER_NOT_FOUND_ERR_CODE, null),
+                ex.getReason());
+    }
+
+    @Test
+    public void testErrorCodeIgnoresCase() {
+        Assertions.assertInstanceOf(UserAlreadyExistException.class,
+                factory.create("usr-exist-001", "User exists", HttpStatus.CONFLICT.value()));
+    }
+
+    @Test
+    public void testUnknownErrorCodeYieldsApiResponseException() {
+        ApplicationDefinedRuntimeException ex = factory.create("REMOTE-42", "Remote failure", 599);
+
+        Assertions.assertInstanceOf(ApiResponseException.class, ex);
+        Assertions.assertEquals(HttpStatus.FAILED_DEPENDENCY, ex.getStatusCode());
+        Assertions.assertEquals("Remote failure", ex.getReason());
+    }
+
+    @Test
+    public void testRegisterRequiresOwnFactory() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> factory.register(ErrorCode.GENERIC_NOT_FOUND_ERR_CODE, MissingPageException.class));
+        Assertions.assertTrue(factory.isRegistered(ErrorCode.GENERIC_NOT_FOUND_ERR_CODE));
+    }
+
+    @Test
+    public void testEveryRegisteredCodeCreatesItsException() {
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            if (factory.isRegistered(errorCode)) {
+                ApplicationDefinedRuntimeException ex = factory.create(errorCode.getErrCode(), "remote", 500);
+                Assertions.assertFalse(ex instanceof ApiResponseException, errorCode.name());
+                Assertions.assertEquals("remote", ex.getReason(), errorCode.name());
+            }
+        }
+    }
+
+    public static class MissingPageException extends ResourceNotFoundException {
+
+        private static final long serialVersionUID = 1L;
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import java.time.ZoneId;
+import java.util.Locale;
+import org.apache.logging.log4j.ThreadContext;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.cometbid.component.api.util.RequestContext;
+import org.cometbid.component.api.util.TimeZoneUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class RequestContextTest {
+
+    @AfterEach
+    public void tearDown() {
+        RequestContext.clear();
+        ThreadContext.clearMap();
+    }
+
+    @Test
+    public void testUtilsPopulateTypedContext() {
+        LocaleContextUtils.setContextLocaleAsString("fr_FR");
+        TimeZoneUtils.setContextZoneId("europe/paris");
+
+        RequestContext context = RequestContext.current();
+
+        Assertions.assertEquals(Locale.FRANCE, context.getLocale());
+        Assertions.assertEquals(ZoneId.of("Europe/Paris"), context.getZoneId());
+        Assertions.assertSame(context.getLocale(), LocaleContextUtils.getContextLocale());
+        Assertions.assertSame(context.getZoneId(), TimeZoneUtils.getContextZoneId());
+    }
+
+    @Test
+    public void testThreadContextKeptInSync() {
+        RequestContext.set(RequestContext.builder()
+                .locale(Locale.GERMANY)
+                .zoneId(ZoneId.of("Asia/Tokyo"))
+                .traceId("5f1c2a9b7d3e4f60")
+                .apiVersion("v2")
+                .build());
+
+        Assertions.assertEquals("de_DE", ThreadContext.get(LocaleContextUtils.THREAD_CONTEXT_LOCALE_KEY));
+        Assertions.assertEquals("Asia/Tokyo", ThreadContext.get(TimeZoneUtils.THREAD_CONTEXT_TIMEZONE_KEY));
+        Assertions.assertEquals("5f1c2a9b7d3e4f60", ThreadContext.get(RequestContext.TRACE_ID_KEY));
+        Assertions.assertEquals("v2", ThreadContext.get(RequestContext.API_VERSION_KEY));
+    }
+
+    @Test
+    public void testApiResponseTakesTraceIdFromContext() {
+        RequestContext.update(context -> context.withTraceId("a3ce929d0e0e4736"));
+
+        Assertions.assertEquals("a3ce929d0e0e4736", new ApiError().getTraceId());
+    }
+
+    @Test
+    public void testScopeClearsContextAndThreadContext() throws Exception {
+        String traceId = RequestContext.callInScope(() -> {
+            LocaleContextUtils.setContextLocale(Locale.FRENCH);
+            RequestContext.update(context -> context.withTraceId("c0ffee00c0ffee00"));
+
+            return RequestContext.current().getTraceId();
+        });
+
+        Assertions.assertEquals("c0ffee00c0ffee00", traceId);
+        Assertions.assertSame(RequestContext.EMPTY, RequestContext.current());
+        Assertions.assertNull(ThreadContext.get(LocaleContextUtils.THREAD_CONTEXT_LOCALE_KEY));
+        Assertions.assertNull(ThreadContext.get(RequestContext.TRACE_ID_KEY));
+    }
+
+    @Test
+    public void testClearKeepsForeignThreadContextEntries() {
+        ThreadContext.put(RequestContext.TRACE_ID_KEY, "80f198ee56343ba8");
+        ThreadContext.put("userId", "42");
+
+        RequestContext.update(context -> context.withLocale(Locale.FRENCH).withTraceId("80f198ee56343ba8"));
+        RequestContext.clear();
+
+        Assertions.assertNull(ThreadContext.get(LocaleContextUtils.THREAD_CONTEXT_LOCALE_KEY));
+        Assertions.assertEquals("80f198ee56343ba8", ThreadContext.get(RequestContext.TRACE_ID_KEY));
+        Assertions.assertEquals("42", ThreadContext.get("userId"));
+    }
+
+    @Test
+    public void testScopeClearedWhenRequestFails() {
+        Assertions.assertThrows(IllegalStateException.class, () -> RequestContext.callInScope(() -> {
+            TimeZoneUtils.setContextZoneId("Asia/Tokyo");
+            throw new IllegalStateException("request failed");
+        }));
+
+        Assertions.assertSame(RequestContext.EMPTY, RequestContext.current());
+    }
+
+    @Test
+    public void testFallsBackToThreadContextWhenUnbound() {
+        ThreadContext.put(LocaleContextUtils.THREAD_CONTEXT_LOCALE_KEY, "de");
+        ThreadContext.put(TimeZoneUtils.THREAD_CONTEXT_TIMEZONE_KEY, "America/Chicago");
+        ThreadContext.put(RequestContext.TRACE_ID_KEY, "80f198ee56343ba8");
+
+        Assertions.assertSame(RequestContext.EMPTY, RequestContext.current());
+        Assertions.assertEquals(Locale.GERMAN, LocaleContextUtils.getContextLocale());
+        Assertions.assertEquals(ZoneId.of("America/Chicago"), TimeZoneUtils.getContextZoneId());
+        Assertions.assertEquals("80f198ee56343ba8", new ApiError().getTraceId());
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cometbid.component.api.auth.exceptions.TooManyRequestException;
+import org.cometbid.component.api.exceptions.handler.ErrorPublisher;
+import org.cometbid.component.api.util.RequestRateLimiter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class RequestRateLimiterTest {
+
+    private final TestClock clock = new TestClock();
+
+    @Test
+    public void testLimitWithinWindow() {
+        RequestRateLimiter limiter = new RequestRateLimiter(3, Duration.ofSeconds(10), 1024, clock);
+
+        Assertions.assertTrue(limiter.tryAcquire("10.0.0.1"));
+        Assertions.assertTrue(limiter.tryAcquire("10.0.0.1"));
+        Assertions.assertTrue(limiter.tryAcquire("10.0.0.1"));
+        Assertions.assertFalse(limiter.tryAcquire("10.0.0.1"));
+        Assertions.assertTrue(limiter.tryAcquire("10.0.0.2"));
+        Assertions.assertEquals(4, limiter.getCount("10.0.0.1"));
+
+        limiter.reset("10.0.0.1");
+        Assertions.assertEquals(0, limiter.getCount("10.0.0.1"));
+    }
+
+    @Test
+    public void testWindowSlides() {
+        RequestRateLimiter limiter = new RequestRateLimiter(2, Duration.ofSeconds(10), 1024, clock);
+
+        limiter.tryAcquire("user-1");
+        clock.advance(Duration.ofSeconds(6));
+        limiter.tryAcquire("user-1");
+        Assertions.assertFalse(limiter.tryAcquire("user-1"));
+
+        clock.advance(Duration.ofSeconds(5));
+        Assertions.assertEquals(2, limiter.getCount("user-1"));
+
+        clock.advance(Duration.ofSeconds(10));
+        Assertions.assertEquals(0, limiter.getCount("user-1"));
+        Assertions.assertTrue(limiter.tryAcquire("user-1"));
+    }
+
+    @Test
+    public void testBoundedKeys() {
+        RequestRateLimiter limiter = new RequestRateLimiter(5, Duration.ofSeconds(10), 64, clock);
+
+        for (int i = 0; i < 10_000; i++) {
+            limiter.tryAcquire("client-" + i);
+        }
+        Assertions.assertTrue(limiter.size() <= 64);
+        Assertions.assertEquals(1, limiter.getCount("client-9999"));
+    }
+
+    @Test
+    public void testEvictionKeepsRecentKeys() {
+        RequestRateLimiter limiter = new RequestRateLimiter(1000, Duration.ofSeconds(10), 1024, clock);
+
+        for (int second = 0; second < 100; second++) {
+            limiter.tryAcquire("hot");
+            for (int i = 0; i < 100; i++) {
+                limiter.tryAcquire("client-" + second + "-" + i);
+            }
+            clock.advance(Duration.ofSeconds(1));
+        }
+        Assertions.assertTrue(limiter.size() <= 1024);
+        Assertions.assertEquals(9, limiter.getCount("hot"));
+    }
+
+    @Test
+    public void testConcurrentAttempts() throws InterruptedException {
+        RequestRateLimiter limiter = new RequestRateLimiter(500, Duration.ofHours(1), 1024, clock);
+        AtomicInteger admitted = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 250; i++) {
+                    if (limiter.tryAcquire("burst")) {
+                        admitted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(500, admitted.get());
+        Assertions.assertEquals(2000, limiter.getCount("burst"));
+    }
+
+    @Test
+    public void testRaiseIfRateLimited() {
+        RequestRateLimiter limiter = new RequestRateLimiter(1, Duration.ofMinutes(1), 1024, clock);
+
+        ErrorPublisher.raiseIfRateLimited(limiter, "profile-42");
+        TooManyRequestException ex = Assertions.assertThrows(TooManyRequestException.class,
+                () -> ErrorPublisher.raiseIfRateLimited(limiter, "profile-42"));
+
+        Assertions.assertEquals(HttpStatus.TOO_MANY_REQUESTS, ex.getStatusCode());
+    }
+
+    static final class TestClock extends Clock {
+
+        private long millis = Instant.parse("2024-03-09T17:05:40Z").toEpochMilli();
+
+        void advance(Duration duration) {
+            millis += duration.toMillis();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.Locale;
+import org.cometbid.component.api.generic.exceptions.ResourceNotFoundException;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.AppResponse;
+import org.cometbid.component.api.response.model.AppResponseMetadata;
+import org.cometbid.component.api.response.model.ResponseFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class ResponseFactoryTest {
+
+    private static final String REPORT_URI = "https://cometbid.org/report";
+    private static final String MORE_INFO = "https://cometbid.org/docs/errors";
+
+    private final ResponseFactory factory = new ResponseFactory("v1", REPORT_URI, MORE_INFO, null);
+
+    @Test
+    public void testInternedMetadata() {
+        AppResponseMetadata first = AppResponseMetadata.builder().apiVersion("v1").moreInfo(MORE_INFO).build();
+        AppResponseMetadata second = AppResponseMetadata.builder().apiVersion("v1").moreInfo(MORE_INFO).build();
+
+        Assertions.assertNotSame(first, second);
+        Assertions.assertSame(first.intern(), second.intern());
+        Assertions.assertSame(factory.getMetadata(), second.intern());
+    }
+
+    @Test
+    @SuppressWarnings("removal")
+    public void testMetadataIsImmutable() {
+        AppResponseMetadata metadata = new AppResponseMetadata().withApiVersion("v1").withMoreInfo(MORE_INFO);
+
+        AppResponseMetadata shared = metadata.intern();
+        Assertions.assertSame(factory.getMetadata(), shared);
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> shared.setApiVersion("v2"));
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> new AppResponseMetadata().setTechnical("details"));
+
+        AppResponseMetadata variant = shared.withApiVersion("v2").withTechnical("details");
+        Assertions.assertEquals("v2", variant.getApiVersion());
+        Assertions.assertEquals("details", variant.getTechnical());
+        Assertions.assertEquals("v1", shared.getApiVersion());
+    }
+
+    @Test
+    public void testSuccessSharesMetadata() {
+        AppResponse empty = factory.empty();
+
+        Assertions.assertTrue(empty.isSuccess());
+        Assertions.assertNull(empty.getResponse());
+        Assertions.assertSame(empty, factory.empty());
+        Assertions.assertSame(empty, factory.success(null));
+        Assertions.assertSame(factory.getMetadata(), factory.success(ApiErrors.notFound()).getMetadata());
+    }
+
+    @Test
+    public void testErrorMatchesBuiltResponse() throws Exception {
+        ApiError apiError = ApiErrors.notFound();
+        AppResponse built = AppResponse.error(apiError, AppResponseMetadata.builder()
+                .apiVersion("v1")
+                .sendReport(REPORT_URI + "?id=" + apiError.getTraceId())
+                .moreInfo(MORE_INFO)
+                .build());
+
+        ObjectMapper mapper = new ObjectMapper();
+        AppResponse response = factory.error(apiError);
+
+        Assertions.assertFalse(response.isSuccess());
+        Assertions.assertEquals(built.getMetadata(), response.getMetadata());
+        Assertions.assertEquals(mapper.writeValueAsString(built), mapper.writeValueAsString(response));
+    }
+
+    @Test
+    public void testErrorWithoutReportUri() {
+        ResponseFactory noReport = new ResponseFactory("v1", null, MORE_INFO, null);
+
+        Assertions.assertSame(noReport.getMetadata(), noReport.error(ApiErrors.notFound()).getMetadata());
+    }
+
+    @Test
+    public void testErrorWithExplicitTraceId() {
+        ResourceNotFoundException ex = ResourceNotFoundException.withReason("User not found", null);
+        AppResponse response = factory.error(ex, "/api/v1/users/42", "GET", Locale.ENGLISH, "trace-42");
+
+        ApiError apiError = (ApiError) response.getResponse();
+        Assertions.assertEquals("trace-42", apiError.getTraceId());
+        Assertions.assertEquals("User not found", apiError.getDebugMessage());
+        Assertions.assertEquals(REPORT_URI + "?id=trace-42", response.getMetadata().getSendReport());
+    }
+
+    @Test
+    public void testMetadataRoundTrip() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        AppResponseMetadata metadata = factory.getMetadata().withSendReport(REPORT_URI);
+
+        String json = mapper.writeValueAsString(metadata);
+        Assertions.assertTrue(json.contains("\"reportTo\":\"" + REPORT_URI + "\""));
+        Assertions.assertEquals(metadata, mapper.readValue(json, AppResponseMetadata.class));
+    }
+}
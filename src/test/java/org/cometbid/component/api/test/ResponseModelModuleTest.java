@@ -0,0 +1,138 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.cometbid.component.api.jackson.ResponseModelModule;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.AppResponse;
+import org.cometbid.component.api.response.model.AppResponseMetadata;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.RequestContext;
+import org.cometbid.component.api.util.TimeZoneUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class ResponseModelModuleTest {
+
+    @BeforeEach
+    public void setUp() {
+        TimeZoneUtils.setContextZoneId("America/New_York");
+        RequestContext.update(context -> context.withTraceId("9a6d0b1c2e3f4a5b"));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RequestContext.clear();
+    }
+
+    @Test
+    public void testSameDocumentAsBeanSerialization() throws Exception {
+        AppResponse response = newErrorResponse();
+
+        Assertions.assertEquals(new ObjectMapper().writeValueAsString(response),
+                new ObjectMapper().registerModule(new ResponseModelModule()).writeValueAsString(response));
+    }
+
+    @Test
+    public void testSameDocumentWithNonNullInclusion() throws Exception {
+        AppResponse response = newErrorResponse();
+
+        ObjectMapper beanMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+        ObjectMapper moduleMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL)
+                .registerModule(new ResponseModelModule());
+
+        Assertions.assertEquals(beanMapper.writeValueAsString(response), moduleMapper.writeValueAsString(response));
+    }
+
+    @Test
+    public void testSameDocumentWithNonEmptyInclusion() throws Exception {
+        AppResponse response = AppResponse.error(ApiError.create("", "DELETE",
+                ErrorCode.GENERIC_NOT_FOUND_ERR_CODE.getErrCode(), HttpStatus.NOT_FOUND.name(), 404, "", null),
+                AppResponseMetadata.builder().build());
+
+        ObjectMapper beanMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_EMPTY);
+        ObjectMapper moduleMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_EMPTY)
+                .registerModule(new ResponseModelModule());
+
+        Assertions.assertEquals(beanMapper.writeValueAsString(response), moduleMapper.writeValueAsString(response));
+    }
+
+    @Test
+    public void testEmptyResponse() throws Exception {
+        AppResponse response = AppResponse.empty(null);
+
+        Assertions.assertEquals(new ObjectMapper().writeValueAsString(response),
+                new ObjectMapper().registerModule(new ResponseModelModule()).writeValueAsString(response));
+    }
+
+    @Test
+    public void testSubclassLeftToJackson() throws Exception {
+        AppResponse response = AppResponse.error(new RegionalApiError(), AppResponseMetadata.builder().build());
+
+        String json = new ObjectMapper().registerModule(new ResponseModelModule()).writeValueAsString(response);
+
+        Assertions.assertEquals(new ObjectMapper().writeValueAsString(response), json);
+        Assertions.assertTrue(json.contains("\"region\":\"eu-west-1\""));
+    }
+
+    private static AppResponse newErrorResponse() {
+        ApiError apiError = ApiError.create("/api/v1/users", "POST", ErrorCode.CONSTRAINT_VIOLATION_ERR_CODE.getErrCode(),
+                HttpStatus.UNPROCESSABLE_ENTITY.name(), HttpStatus.UNPROCESSABLE_ENTITY.value(),
+                HttpStatus.UNPROCESSABLE_ENTITY.getReasonPhrase(), "Some \"request\" data failed validation.");
+
+        apiError.addValidationErrors(List.of(
+                new FieldError("userRequest", "email", "not-an-email", false, null, null, "must be a well-formed email address"),
+                new FieldError("userRequest", "age", -4, false, null, null, "must be greater than 0"),
+                new FieldError("userRequest", "roles", List.of("ADMIN", "über"), false, null, null, "size must be 1"),
+                new FieldError("userRequest", "nickname", null, false, null, null, "must not be null")));
+        apiError.addValidationError(new ObjectError("userRequest", "passwords do not match"));
+
+        return AppResponse.error(apiError, AppResponseMetadata.builder()
+                .apiVersion("v1")
+                .sendReport("https://cometbid.org/report?id=" + apiError.getTraceId())
+                .moreInfo("https://cometbid.org/docs/errors")
+                .build());
+    }
+
+    public static class RegionalApiError extends ApiError {
+
+        private static final long serialVersionUID = 1L;
+
+        public String getRegion() {
+            return "eu-west-1";
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import org.cometbid.component.api.jackson.ResponseModelModule;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.ApiResponse;
+import org.cometbid.component.api.response.model.ResponseSettings;
+import org.cometbid.component.api.util.RequestContext;
+import org.cometbid.component.api.util.TimeZoneUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class ResponseSettingsTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-09T17:05:42.250Z");
+
+    @BeforeEach
+    public void setUp() {
+        TimeZoneUtils.setContextZoneId("UTC");
+        ResponseSettings.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ResponseSettings.reset();
+        RequestContext.clear();
+    }
+
+    @Test
+    public void testTimestampFromClock() throws Exception {
+        ApiError apiError = ApiErrors.notFound();
+
+        Assertions.assertEquals(NOW.toEpochMilli(), apiError.getEpochMilli());
+        Assertions.assertEquals(NOW, apiError.getTimestamp().toInstant());
+        Assertions.assertEquals(TimeZoneUtils.UTC_ZONEID, apiError.getTimestamp().getZone());
+
+        String expected = "\"timestamp\":\"2024-03-09 05:05:42PM UTC\"";
+        Assertions.assertTrue(new ObjectMapper().writeValueAsString(apiError).contains(expected));
+        Assertions.assertTrue(new ObjectMapper().registerModule(new ResponseModelModule())
+                .writeValueAsString(apiError).contains(expected));
+    }
+
+    @Test
+    public void testTimestampConvertedOnce() {
+        ApiError apiError = ApiErrors.notFound();
+
+        Assertions.assertSame(apiError.getTimestamp(), apiError.getTimestamp());
+    }
+
+    @Test
+    public void testTimestampAssignedBySubclass() {
+        ZonedDateTime assigned = ZonedDateTime.of(2023, 1, 2, 3, 4, 5, 600_000_000, ZoneId.of("Africa/Lagos"));
+        LegacyResponse response = new LegacyResponse(assigned);
+
+        Assertions.assertSame(assigned, response.getTimestamp());
+        Assertions.assertEquals(assigned.toInstant().toEpochMilli(), response.getEpochMilli());
+    }
+
+    @Test
+    public void testTraceIdSource() {
+        RequestContext.update(context -> context.withTraceId("from-context"));
+        Assertions.assertEquals("from-context", ApiErrors.notFound().getTraceId());
+
+        ResponseSettings.setTraceIdSource(() -> "fixed-trace");
+        Assertions.assertEquals("fixed-trace", ApiErrors.notFound().getTraceId());
+
+        ResponseSettings.reset();
+        Assertions.assertEquals("from-context", ApiErrors.notFound().getTraceId());
+    }
+
+    @SuppressWarnings("deprecation")
+    private static class LegacyResponse extends ApiResponse {
+
+        LegacyResponse(ZonedDateTime timestamp) {
+            this.timestamp = timestamp;
+        }
+    }
+}
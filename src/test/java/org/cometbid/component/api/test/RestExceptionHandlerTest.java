@@ -0,0 +1,309 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotBlank;
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.cometbid.component.api.auth.exceptions.CustomConstraintViolationException;
+import org.cometbid.component.api.employee.exceptions.EmployeeNotFoundException;
+import org.cometbid.component.api.exceptions.handler.ExceptionMapping;
+import org.cometbid.component.api.exceptions.handler.ExceptionMappings;
+import org.cometbid.component.api.exceptions.handler.RestExceptionHandler;
+import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
+import org.cometbid.component.api.generic.exceptions.ResourceNotFoundException;
+import org.cometbid.component.api.jackson.PooledResponseEncoder;
+import org.cometbid.component.api.response.model.ApiError;
+import org.cometbid.component.api.response.model.AppResponse;
+import org.cometbid.component.api.response.model.ResponseFactory;
+import org.cometbid.component.api.util.ErrorCode;
+import org.cometbid.component.api.util.LocaleContextUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.HttpRequestMethodNotSupportedException;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class RestExceptionHandlerTest {
+
+    private final RestExceptionHandler handler = new RestExceptionHandler(new ResponseFactory("v1", null, null, null));
+
+    @BeforeEach
+    public void setUp() {
+        LocaleContextUtils.setContextLocale(Locale.US);
+    }
+
+    @Test
+    public void testResolveThroughHierarchy() {
+        ExceptionMappings mappings = ExceptionMappings.defaults();
+        ExceptionMapping mapping = mappings.resolve(ContractorNotFoundException.class);
+
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, mapping.status());
+        Assertions.assertEquals(ErrorCode.EMP_NOT_FOUND_ERR_CODE, mapping.errorCode());
+        Assertions.assertSame(mapping, mappings.resolve(ContractorNotFoundException.class));
+        Assertions.assertSame(mapping, mappings.resolve(EmployeeNotFoundException.class));
+
+        ExceptionMapping fallback = mappings.resolve(IllegalStateException.class);
+        Assertions.assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, fallback.status());
+        Assertions.assertEquals(ErrorCode.SYS_DEFINED_ERR_CODE, fallback.errorCode());
+    }
+
+    @Test
+    public void testCustomMapping() {
+        ExceptionMappings mappings = ExceptionMappings.builder()
+                .withDefaults()
+                .map(IllegalArgumentException.class, HttpStatus.BAD_REQUEST, ErrorCode.INVALID_PARAMETER_ERR_CODE)
+                .build();
+        RestExceptionHandler custom = new RestExceptionHandler(new ResponseFactory("v1", null, null, null), mappings);
+
+        ApiError apiError = custom.toApiError(new NumberFormatException("x"), "/api/v1/items", "GET");
+
+        Assertions.assertEquals(400, apiError.getStatusCode());
+        Assertions.assertEquals(ErrorCode.INVALID_PARAMETER_ERR_CODE.getErrCode(), apiError.getErrorCode());
+        Assertions.assertEquals("One or more parameters passed has invalid values", apiError.getDebugMessage());
+    }
+
+    @Test
+    public void testApplicationException() {
+        ResponseEntity<AppResponse> entity = handler.handleException(new EmployeeNotFoundException(),
+                request("GET", "/api/v1/employees/7"));
+        ApiError apiError = (ApiError) entity.getBody().getResponse();
+
+        Assertions.assertEquals(HttpStatus.NOT_FOUND, entity.getStatusCode());
+        Assertions.assertFalse(entity.getBody().isSuccess());
+        Assertions.assertEquals("/api/v1/employees/7", apiError.getPath());
+        Assertions.assertEquals(ErrorCode.EMP_NOT_FOUND_ERR_CODE.getErrCode(), apiError.getErrorCode());
+    }
+
+    @Test
+    public void testUnmappedApplicationException() {
+        ApiError apiError = handler.toApiError(new ApplicationDefinedRuntimeException(HttpStatus.CONFLICT, "taken"),
+                "/api/v1/users", "POST");
+
+        Assertions.assertEquals(409, apiError.getStatusCode());
+        Assertions.assertEquals(ErrorCode.APP_DEFINED_ERR_CODE.getErrCode(), apiError.getErrorCode());
+        Assertions.assertEquals("taken", apiError.getDebugMessage());
+    }
+
+    @Test
+    public void testUnknownException() {
+        ResponseEntity<AppResponse> entity = handler.handleException(new IllegalStateException("boom"),
+                request("DELETE", "/api/v1/users/1"));
+        ApiError apiError = (ApiError) entity.getBody().getResponse();
+
+        Assertions.assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, entity.getStatusCode());
+        Assertions.assertEquals(ErrorCode.SYS_DEFINED_ERR_CODE.getErrCode(), apiError.getErrorCode());
+        Assertions.assertFalse(apiError.getDebugMessage().contains("boom"));
+    }
+
+    @Test
+    public void testConstraintViolation() {
+        Set<ConstraintViolation<Signup>> violations;
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            violations = factory.getValidator().validate(new Signup("", ""));
+        }
+
+        ResponseEntity<AppResponse> entity = handler.handleException(
+                new CustomConstraintViolationException(violations), request("POST", "/signup"));
+        ApiError apiError = (ApiError) entity.getBody().getResponse();
+
+        Assertions.assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, entity.getStatusCode());
+        Assertions.assertEquals(ErrorCode.CONSTRAINT_VIOLATION_ERR_CODE.getErrCode(), apiError.getErrorCode());
+        Assertions.assertEquals(2, apiError.getSubErrors().size());
+    }
+
+    @Test
+    public void testTemplateResponse() throws Exception {
+        CapturedResponse captured = new CapturedResponse();
+
+        ResponseEntity<AppResponse> entity = handler.handleException(new ResourceNotFoundException(),
+                request("GET", "/api/v1/employees/7"), captured.proxy());
+        JsonNode json = new ObjectMapper().readTree(captured.body.toByteArray());
+
+        Assertions.assertNull(entity);
+        Assertions.assertEquals(404, captured.status);
+        Assertions.assertEquals(captured.body.size(), captured.contentLength);
+        Assertions.assertEquals("v1", json.at("/metadata/apiVersion").asText());
+        Assertions.assertEquals("/api/v1/employees/7", json.at("/response/path").asText());
+        Assertions.assertEquals(ErrorCode.GENERIC_NOT_FOUND_ERR_CODE.getErrCode(),
+                json.at("/response/errorCode").asText());
+        Assertions.assertEquals(new ResourceNotFoundException().getReason(),
+                json.at("/response/debugMessage").asText());
+    }
+
+    @Test
+    public void testDetailedErrorNotTemplated() throws Exception {
+        CapturedResponse captured = new CapturedResponse();
+
+        ResponseEntity<AppResponse> entity = handler.handleException(
+                new ApplicationDefinedRuntimeException(HttpStatus.CONFLICT, "taken"),
+                request("POST", "/api/v1/users"), captured.proxy());
+
+        Assertions.assertNotNull(entity);
+        Assertions.assertEquals("taken", ((ApiError) entity.getBody().getResponse()).getDebugMessage());
+        Assertions.assertEquals(0, captured.body.size());
+    }
+
+    @Test
+    public void testEncodedResponse() throws Exception {
+        ObjectMapper mapper = new ObjectMapper();
+        RestExceptionHandler encoding = new RestExceptionHandler(new ResponseFactory("v1", null, null, null), mapper);
+        CapturedResponse captured = new CapturedResponse();
+
+        ResponseEntity<AppResponse> entity = encoding.handleException(
+                new ApplicationDefinedRuntimeException(HttpStatus.CONFLICT, "taken"),
+                request("POST", "/api/v1/users"), captured.proxy());
+        JsonNode json = mapper.readTree(captured.body.toByteArray());
+
+        Assertions.assertNull(entity);
+        Assertions.assertEquals(409, captured.status);
+        Assertions.assertEquals(captured.body.size(), captured.contentLength);
+        Assertions.assertEquals("/api/v1/users", json.at("/response/path").asText());
+        Assertions.assertEquals("taken", json.at("/response/debugMessage").asText());
+    }
+
+    @Test
+    public void testTemplateResponseHeaders() throws Exception {
+        CapturedResponse captured = new CapturedResponse();
+
+        handler.handleException(new HttpRequestMethodNotSupportedException("DELETE", List.of("GET", "POST")),
+                request("DELETE", "/api/v1/users"), captured.proxy());
+
+        Assertions.assertEquals(405, captured.status);
+        Assertions.assertEquals(List.of("GET,POST"), captured.headers.get(HttpHeaders.ALLOW));
+    }
+
+    @Test
+    public void testEncodedResponseHeaders() throws Exception {
+        RestExceptionHandler encoding = new RestExceptionHandler(new ResponseFactory("v1", null, null, null),
+                ExceptionMappings.defaults(), null, new PooledResponseEncoder(new ObjectMapper()));
+        CapturedResponse captured = new CapturedResponse();
+
+        ResponseEntity<AppResponse> entity = encoding.handleException(
+                new HttpRequestMethodNotSupportedException("DELETE", List.of("GET", "POST")),
+                request("DELETE", "/api/v1/users"), captured.proxy());
+
+        Assertions.assertNull(entity);
+        Assertions.assertEquals(405, captured.status);
+        Assertions.assertEquals(List.of("GET,POST"), captured.headers.get(HttpHeaders.ALLOW));
+    }
+
+    @Test
+    public void testResponseEntityHeaders() {
+        ResponseEntity<AppResponse> entity = handler.handleException(
+                new HttpMediaTypeNotSupportedException(MediaType.TEXT_PLAIN, List.of(MediaType.APPLICATION_JSON),
+                        HttpMethod.POST), request("POST", "/api/v1/users"));
+
+        Assertions.assertEquals(HttpStatus.UNSUPPORTED_MEDIA_TYPE, entity.getStatusCode());
+        Assertions.assertEquals(List.of(MediaType.APPLICATION_JSON), entity.getHeaders().getAccept());
+    }
+
+    private static HttpServletRequest request(String method, String uri) {
+        return (HttpServletRequest) Proxy.newProxyInstance(RestExceptionHandlerTest.class.getClassLoader(),
+                new Class<?>[]{HttpServletRequest.class}, (proxy, m, args) -> switch (m.getName()) {
+            case "getMethod" ->
+                method;
+            case "getRequestURI" ->
+                uri;
+            default ->
+                null;
+        });
+    }
+
+    static class CapturedResponse {
+
+        private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        private final HttpHeaders headers = new HttpHeaders();
+        private int status;
+        private int contentLength = -1;
+
+        HttpServletResponse proxy() {
+            ServletOutputStream out = new ServletOutputStream() {
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener writeListener) {
+                }
+
+                @Override
+                public void write(int b) {
+                    body.write(b);
+                }
+            };
+
+            return (HttpServletResponse) Proxy.newProxyInstance(RestExceptionHandlerTest.class.getClassLoader(),
+                    new Class<?>[]{HttpServletResponse.class}, (proxy, m, args) -> {
+                switch (m.getName()) {
+                    case "setStatus" ->
+                        status = (Integer) args[0];
+                    case "setContentLength" ->
+                        contentLength = (Integer) args[0];
+                    case "addHeader" ->
+                        headers.add((String) args[0], (String) args[1]);
+                    case "setHeader" ->
+                        headers.set((String) args[0], (String) args[1]);
+                    case "getOutputStream" -> {
+                        return out;
+                    }
+                    default -> {
+                    }
+                }
+                return null;
+            });
+        }
+    }
+
+    static class ContractorNotFoundException extends EmployeeNotFoundException {
+
+        private static final long serialVersionUID = 1L;
+    }
+
+    record Signup(@NotBlank String username, @NotBlank String email) {
+
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import org.cometbid.component.api.generic.exceptions.ApplicationDefinedRuntimeException;
+import org.cometbid.component.api.generic.exceptions.ExceptionSettings;
+import org.cometbid.component.api.generic.exceptions.ResourceNotFoundException;
+import org.cometbid.component.api.user.exceptions.UserAlreadyExistException;
+import org.cometbid.component.api.util.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class StacklessExceptionTest {
+
+    @AfterEach
+    public void tearDown() {
+        ExceptionSettings.setStacklessByDefault(false);
+        ExceptionSettings.setStackless(ErrorCode.GENERIC_NOT_FOUND_ERR_CODE, false);
+    }
+
+    @Test
+    public void testStackTraceCapturedByDefault() {
+        ApplicationDefinedRuntimeException ex = new ResourceNotFoundException();
+
+        Assertions.assertTrue(ex.getStackTrace().length > 0);
+    }
+
+    @Test
+    public void testStacklessPerErrorCode() {
+        ExceptionSettings.setStackless(ErrorCode.GENERIC_NOT_FOUND_ERR_CODE, true);
+
+        Assertions.assertEquals(0, new ResourceNotFoundException().getStackTrace().length);
+        Assertions.assertTrue(new UserAlreadyExistException().getStackTrace().length > 0);
+    }
+
+    @Test
+    public void testStacklessGlobally() {
+        ExceptionSettings.setStacklessByDefault(true);
+
+        Assertions.assertEquals(0, new UserAlreadyExistException().getStackTrace().length);
+        Assertions.assertEquals(0, new ApplicationDefinedRuntimeException().getStackTrace().length);
+    }
+
+    @Test
+    public void testExceptionContextAllocatedOnFirstValue() {
+        ApplicationDefinedRuntimeException ex = new ResourceNotFoundException();
+
+        Assertions.assertTrue(ex.getContextEntries().isEmpty());
+        Assertions.assertEquals(ex.getRawMessage(), ex.getMessage());
+
+        ex.addContextValue("id", 42);
+
+        Assertions.assertEquals(42, ex.getFirstContextValue("id"));
+        Assertions.assertTrue(ex.getMessage().contains("id=42"));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.apache.logging.log4j.ThreadContext;
+import org.cometbid.component.api.util.RequestContext;
+import org.cometbid.component.api.util.TimeZoneUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class TimeZoneUtilsTest {
+
+    @AfterEach
+    public void tearDown() {
+        ThreadContext.remove(TimeZoneUtils.THREAD_CONTEXT_TIMEZONE_KEY);
+        RequestContext.clear();
+    }
+
+    @Test
+    public void testZoneIdLookupIgnoresCase() {
+        ZoneId newYork = ZoneId.of("America/New_York");
+
+        Assertions.assertEquals(newYork, TimeZoneUtils.getZoneId("America/New_York"));
+        Assertions.assertEquals(newYork, TimeZoneUtils.getZoneId("america/new_york"));
+        Assertions.assertEquals(newYork, TimeZoneUtils.getZoneId("AMERICA/NEW_YORK"));
+        Assertions.assertSame(TimeZoneUtils.getZoneId("Europe/Berlin"), TimeZoneUtils.getZoneId("europe/berlin"));
+    }
+
+    @Test
+    public void testUnknownZoneIdFallsBackToSystemDefault() {
+        Assertions.assertNull(TimeZoneUtils.findZoneId("Mars/Olympus_Mons"));
+        Assertions.assertEquals(ZoneId.systemDefault(), TimeZoneUtils.getZoneId("Mars/Olympus_Mons"));
+        Assertions.assertEquals(ZoneId.systemDefault(), TimeZoneUtils.getZoneId(null));
+    }
+
+    @Test
+    public void testContextZoneIdResolvedOncePerTimezone() {
+        ZoneId zoneId = TimeZoneUtils.setContextZoneId("asia/kolkata");
+
+        Assertions.assertEquals(ZoneId.of("Asia/Kolkata"), zoneId);
+        Assertions.assertSame(zoneId, TimeZoneUtils.getContextZoneId());
+
+        Assertions.assertEquals(ZoneId.of("Europe/Paris"), TimeZoneUtils.setContextZoneId("Europe/Paris"));
+        Assertions.assertEquals(ZoneId.of("Europe/Paris"), TimeZoneUtils.getContextZoneId());
+    }
+
+    @Test
+    public void testContextZoneIdAcceptsOffsets() {
+        Assertions.assertEquals(ZoneOffset.ofHours(2), TimeZoneUtils.setContextZoneId("+02:00"));
+        Assertions.assertThrows(DateTimeException.class, () -> TimeZoneUtils.setContextZoneId("Not/AZone"));
+    }
+
+    @Test
+    public void testContextZoneIdDefaultsWhenUnset() {
+        Assertions.assertEquals(TimeZoneUtils.DEFAULT_ZONEID, TimeZoneUtils.getContextZoneId());
+    }
+}
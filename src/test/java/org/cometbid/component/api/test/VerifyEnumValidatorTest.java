@@ -0,0 +1,83 @@
+/*
+ * The MIT License
+ *
+ * Copyright 2024 Cometbid.Org.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.cometbid.component.api.test;
+
+import org.cometbid.component.api.validators.VerifyEnumValidator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author samueladebowale
+ */
+public class VerifyEnumValidatorTest {
+
+    @Test
+    public void testNamesAndValuesIgnoringCase() {
+        VerifyEnumValidator validator = new VerifyEnumValidator();
+        validator.setEnumClass(Currency.class);
+
+        Assertions.assertTrue(validator.isValid("NAIRA", null));
+        Assertions.assertTrue(validator.isValid("naira", null));
+        Assertions.assertTrue(validator.isValid("NGN", null));
+        Assertions.assertTrue(validator.isValid("usd", null));
+        Assertions.assertTrue(validator.isValid(Currency.DOLLAR, null));
+        Assertions.assertFalse(validator.isValid("EUR", null));
+        Assertions.assertFalse(validator.isValid(null, null));
+    }
+
+    @Test
+    public void testEnumWithoutValue() {
+        VerifyEnumValidator validator = new VerifyEnumValidator();
+        validator.setEnumClass(Status.class);
+
+        Assertions.assertTrue(validator.isValid("Active", null));
+        Assertions.assertFalse(validator.isValid("", null));
+    }
+
+    @Test
+    public void testUninitializedValidatorRejects() {
+        Assertions.assertFalse(new VerifyEnumValidator().isValid("NAIRA", null));
+    }
+
+    public enum Currency {
+        NAIRA("NGN"),
+        DOLLAR("USD");
+
+        private final String value;
+
+        Currency(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    public enum Status {
+        ACTIVE,
+        SUSPENDED
+    }
+}